@@ -0,0 +1,110 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.MachineNotAvailableEvent;
+
+/**
+ * Compares the cost of dispatching an event through Guava's {@code EventBus} with that of the
+ * {@link EventDispatcher} used by {@link EventsCenter}, with handlers subscribed much like the ones of the app:
+ * each handler has a subscriber for the event posted, one for all events and a few for other events.
+ * Run with {@code -prof gc} to compare the heap allocated per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventDispatchBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int handlers;
+
+    private EventBus eventBus;
+    private EventDispatcher dispatcher;
+    private final MachineNotAvailableEvent event = new MachineNotAvailableEvent();
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        eventBus = new EventBus();
+        dispatcher = new EventDispatcher();
+        for (int i = 0; i < handlers; i++) {
+            Handler handler = new Handler(blackhole);
+            eventBus.register(handler);
+            dispatcher.register(handler);
+        }
+    }
+
+    @Benchmark
+    public void guavaEventBus() {
+        eventBus.post(event);
+    }
+
+    @Benchmark
+    public void eventDispatcher() {
+        dispatcher.post(event);
+    }
+
+    /**
+     * A handler with private subscribers, as most handlers of the app have
+     */
+    private static class Handler {
+        private final Blackhole blackhole;
+
+        Handler(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Subscribe
+        private void handleMachineNotAvailableEvent(MachineNotAvailableEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Subscribe
+        private void handleAnyEvent(BaseEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Subscribe
+        private void handleOtherEvent(OtherEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Subscribe
+        private void handleYetAnotherEvent(YetAnotherEvent event) {
+            blackhole.consume(event);
+        }
+    }
+
+    private static class OtherEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "other event";
+        }
+    }
+
+    private static class YetAnotherEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "yet another event";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.JobMachineTuple;
+import seedu.address.model.job.JobName;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures the job operations of an address book holding a print farm,
+ * and the cost of committing and undoing a single job change in its history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int machines;
+
+    @Param({"10", "100", "1000", "5000"})
+    private int jobsPerMachine;
+
+    private VersionedAddressBook addressBook;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        addressBook = new VersionedAddressBook(BenchmarkDataUtil.newAddressBook(machines, jobsPerMachine));
+    }
+
+    @Benchmark
+    public JobMachineTuple findJob() {
+        return addressBook.findJob(nextQueuedJobName());
+    }
+
+    /**
+     * Starts a job and cancels it again. Cancelled jobs are started again once every job has been used.
+     */
+    @Benchmark
+    public VersionedAddressBook startAndCancelJob() {
+        JobName jobName = nextQueuedJobName();
+        addressBook.startJob(jobName);
+        addressBook.cancelJob(jobName);
+        return addressBook;
+    }
+
+    /**
+     * Changes one job, commits the change and undoes it.
+     * The next commit drops the undone state, so the history does not grow.
+     */
+    @Benchmark
+    public VersionedAddressBook commitAndUndoJobChange() {
+        addressBook.requestDeletion(nextQueuedJobName());
+        addressBook.commit();
+        addressBook.undo();
+        return addressBook;
+    }
+
+    private JobName nextQueuedJobName() {
+        next++;
+        int jobIndex = (next / machines) % jobsPerMachine;
+        if (jobIndex % 10 == 9) {
+            jobIndex--;
+        }
+        return BenchmarkDataUtil.getJobName(next % machines, jobIndex);
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.job;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures the operations on the job queue of a single machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueJobListBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int jobsPerMachine;
+
+    private UniqueJobList jobs;
+    private List<Job> queuedJobs;
+    private Job extraJob;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        jobs = new UniqueJobList();
+        jobs.setJobs(BenchmarkDataUtil.newJobs(0, jobsPerMachine));
+        queuedJobs = jobs.asUnmodifiableObservableList().stream()
+            .filter(job -> job.getStatus() == Status.QUEUED)
+            .collect(Collectors.toList());
+        extraJob = BenchmarkDataUtil.newJob(new JobName("Extra"), BenchmarkDataUtil.getMachineName(0), Status.QUEUED);
+    }
+
+    @Benchmark
+    public Job findJob() {
+        return jobs.findJob(nextQueuedJob().getJobName());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return jobs.contains(nextQueuedJob());
+    }
+
+    @Benchmark
+    public UniqueJobList addAndRemoveJob() {
+        jobs.add(extraJob);
+        jobs.remove(extraJob);
+        return jobs;
+    }
+
+    /**
+     * Starts a job and puts it back into the queue, which moves it to the front of the list and back
+     */
+    @Benchmark
+    public UniqueJobList startAndRequeueJob() {
+        Job job = nextQueuedJob();
+        jobs.startJob(job.getJobName());
+        job.setStatus(Status.QUEUED);
+        jobs.jobStatusChanged(job, Status.ONGOING);
+        return jobs;
+    }
+
+    /**
+     * Changes the status of a job without telling the list, and restores the display order by sorting the list
+     */
+    @Benchmark
+    public UniqueJobList reSortAfterStatusChange() {
+        Job job = nextQueuedJob();
+        job.setStatus(Status.ONGOING);
+        jobs.reSortList();
+        job.setStatus(Status.QUEUED);
+        jobs.reSortList();
+        return jobs;
+    }
+
+    @Benchmark
+    public boolean hasCleanableJobs() {
+        return jobs.hasCleanableJobs();
+    }
+
+    @Benchmark
+    public long getTotalTime() {
+        return jobs.getTotalTime();
+    }
+
+    private Job nextQueuedJob() {
+        next = (next + 1) % queuedJobs.size();
+        return queuedJobs.get(next);
+    }
+}
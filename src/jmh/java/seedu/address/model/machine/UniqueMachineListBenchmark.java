@@ -0,0 +1,80 @@
+package seedu.address.model.machine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.JobMachineTuple;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Measures the job lookups and load tracking of the machine list of a print farm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueMachineListBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int machines;
+
+    @Param({"10", "100", "1000", "5000"})
+    private int jobsPerMachine;
+
+    private UniqueMachineList machineList;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        machineList = new UniqueMachineList();
+        for (int i = 0; i < machines; i++) {
+            machineList.add(BenchmarkDataUtil.newMachine(i, jobsPerMachine));
+        }
+    }
+
+    @Benchmark
+    public JobMachineTuple findJob() {
+        return machineList.findJob(nextQueuedJobName());
+    }
+
+    @Benchmark
+    public Machine getMostFreeMachine() {
+        return machineList.getMostFreeMachine();
+    }
+
+    /**
+     * Starts a job and puts it back into the queue, updating the machine's load twice
+     */
+    @Benchmark
+    public Machine startAndRequeueJob() {
+        JobMachineTuple target = machineList.findJob(nextQueuedJobName());
+        machineList.changeJobStatus(target, Job::startJob);
+        machineList.changeJobStatus(target, job -> job.setStatus(Status.QUEUED));
+        return machineList.getMostFreeMachine();
+    }
+
+    private JobName nextQueuedJobName() {
+        next++;
+        int jobIndex = (next / machines) % jobsPerMachine;
+        if (jobIndex % 10 == 9) {
+            jobIndex--;
+        }
+        return BenchmarkDataUtil.getJobName(next % machines, jobIndex);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains utility methods for populating the model with print-farm sized data for benchmarks.
+ * Every tenth job of a machine is FINISHED, the other jobs are QUEUED.
+ */
+public class BenchmarkDataUtil {
+
+    private static final Person OWNER = new Person(new Name("Benchmark Owner"));
+    private static final long MILLIS_IN_MINUTE = 60000;
+
+    public static MachineName getMachineName(int machineIndex) {
+        return new MachineName("Machine" + machineIndex);
+    }
+
+    public static JobName getJobName(int machineIndex, int jobIndex) {
+        return new JobName("M" + machineIndex + "J" + jobIndex);
+    }
+
+    /**
+     * Returns a job for the machine {@code machineName} with the given name and status
+     */
+    public static Job newJob(JobName jobName, MachineName machineName, Status status) {
+        Job job = new Job(jobName, machineName, OWNER, Priority.NORMAL, MILLIS_IN_MINUTE,
+            new JobNote("benchmark"), new HashSet<>());
+        job.setStatus(status);
+        return job;
+    }
+
+    /**
+     * Returns the jobs of the machine at {@code machineIndex}
+     */
+    public static List<Job> newJobs(int machineIndex, int jobsPerMachine) {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < jobsPerMachine; i++) {
+            Status status = i % 10 == 9 ? Status.FINISHED : Status.QUEUED;
+            jobs.add(newJob(getJobName(machineIndex, i), getMachineName(machineIndex), status));
+        }
+        return jobs;
+    }
+
+    /**
+     * Returns an ENABLED machine holding {@code jobsPerMachine} jobs
+     */
+    public static Machine newMachine(int machineIndex, int jobsPerMachine) {
+        return new Machine(getMachineName(machineIndex), newJobs(machineIndex, jobsPerMachine), new HashSet<>(),
+            MachineStatus.ENABLED);
+    }
+
+    /**
+     * Returns an address book with {@code machines} machines of {@code jobsPerMachine} jobs each
+     */
+    public static AddressBook newAddressBook(int machines, int jobsPerMachine) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < machines; i++) {
+            addressBook.addMachine(newMachine(i, jobsPerMachine));
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.BenchmarkDataUtil;
+import seedu.address.storage.json.JsonAddressBookStorage;
+
+/**
+ * Measures saving the machines file of a print farm in each of the file formats.
+ * Run with {@code -prof gc} to compare the heap allocated per save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MachinesSaveBenchmark {
+
+    @Param({"xml", "json", "json.gz"})
+    private String extension;
+
+    @Param({"10", "100"})
+    private int machines;
+
+    @Param({"100", "1000"})
+    private int jobsPerMachine;
+
+    private AddressBook addressBook;
+    private AddressBookStorage storage;
+    private Path machinesFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkDataUtil.newAddressBook(machines, jobsPerMachine);
+        Path folder = Files.createTempDirectory("machinesSaveBenchmark");
+        machinesFile = folder.resolve("makerManagerMachines." + extension);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("addressbook.xml"));
+        userPrefs.setMakerManagerAdminsFilePath(folder.resolve("makerManagerAdmins.xml"));
+        userPrefs.setMakerManagerMachinesFilePath(machinesFile);
+        storage = JsonAddressBookStorage.isUsedBy(userPrefs)
+            ? new JsonAddressBookStorage(userPrefs)
+            : new XmlAddressBookStorage(userPrefs);
+    }
+
+    @Benchmark
+    public Path saveMachines() throws IOException {
+        storage.saveAddressBook(addressBook, machinesFile);
+        return machinesFile;
+    }
+}
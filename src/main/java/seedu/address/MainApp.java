@@ -11,8 +11,11 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -23,7 +26,6 @@ import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
@@ -32,6 +34,8 @@ import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.storage.binary.BinaryAddressBookStorage;
+import seedu.address.storage.json.JsonAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -61,7 +65,7 @@ public class MainApp extends Application {
         config = initConfig(appParameters.getConfigPath());
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
         initLogging(config);
         model = initModelManager(storage, userPrefs);
@@ -70,16 +74,33 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the storage format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        if (userPrefs.getStorageFormat() == StorageFormat.BINARY) {
+            logger.info("Using binary snapshot storage");
+            return new BinaryAddressBookStorage(userPrefs);
+        }
+        if (JsonAddressBookStorage.isUsedBy(userPrefs)) {
+            logger.info("Using json storage for the files named *.json");
+            return new JsonAddressBookStorage(userPrefs);
+        }
+        return new XmlAddressBookStorage(userPrefs);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data read is handed to the {@code ModelManager} without being copied,
+     * and finished jobs are archived to {@code storage}'s job archive.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+        Optional<AddressBook> addressBookOptional;
+        AddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = storage.readOwnedAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
@@ -92,7 +113,9 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = ModelManager.adopt(initialData, userPrefs);
+        modelManager.setJobArchive(storage.getJobArchive());
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -179,6 +202,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        logEventLaneMetrics();
+        storage.flushPendingSaves();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -188,7 +213,16 @@ public class MainApp extends Application {
         System.exit(0);
     }
 
+    private void logEventLaneMetrics() {
+        for (EventLane lane : EventLane.values()) {
+            if (lane != EventLane.INLINE) {
+                logger.info(EventsCenter.getInstance().getLaneMetrics(lane).toString());
+            }
+        }
+    }
+
     @Subscribe
+    @DeliveredOn(EventLane.FX)
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         stop();
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the {@link EventLane} on which the events of a subscriber method are delivered.
+ * Subscriber methods without it are delivered {@link EventLane#INLINE}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DeliveredOn {
+    EventLane value();
+}
@@ -0,0 +1,178 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Delivers the events of the subscribers of an {@link EventLane} through an executor of its own.
+ *
+ * Deliveries wait in a bounded queue and are made one at a time, in the order they were submitted.
+ * What happens to a delivery submitted while the queue is full is decided by the {@link OverflowPolicy} of the lane.
+ * A delivery submitted from the thread of the lane itself is always queued, as that thread cannot wait for itself.
+ * So is a delivery that would have to wait, if it is submitted from a thread that has been marked as one that must
+ * never wait, such as the one that changes the model. The queue then holds more deliveries than its capacity.
+ */
+class DeliveryLane {
+    static final int DEFAULT_CAPACITY = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(DeliveryLane.class);
+    private static final ThreadLocal<Boolean> isNonBlockingThread = ThreadLocal.withInitial(() -> false);
+
+    private final EventLane lane;
+
+    // guarded by this
+    private final Deque<Delivery> queue = new ArrayDeque<>();
+    private Executor executor;
+    private BooleanSupplier isOnLaneThread;
+    private int capacity;
+    private OverflowPolicy overflowPolicy;
+    private boolean isDrainScheduled = false;
+    private int maxDepth = 0;
+    private long deliveredCount = 0;
+    private long coalescedCount = 0;
+    private long droppedCount = 0;
+
+    DeliveryLane(EventLane lane, Executor executor, BooleanSupplier isOnLaneThread, int capacity,
+                 OverflowPolicy overflowPolicy) {
+        requireNonNull(lane);
+        this.lane = lane;
+        setExecutor(executor, isOnLaneThread);
+        configure(capacity, overflowPolicy);
+    }
+
+    /**
+     * Returns a lane that delivers its events on the thread that submits them,
+     * until it is given an executor with {@link #setExecutor}.
+     */
+    static DeliveryLane onSubmittingThread(EventLane lane, int capacity, OverflowPolicy overflowPolicy) {
+        return new DeliveryLane(lane, Runnable::run, () -> true, capacity, overflowPolicy);
+    }
+
+    /**
+     * Marks the current thread as one that never waits for room in a full lane.
+     */
+    static void markCurrentThreadNonBlocking() {
+        isNonBlockingThread.set(true);
+    }
+
+    synchronized void configure(int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(overflowPolicy);
+        checkArgument(capacity > 0, "The queue of a lane must have room for at least one event");
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        notifyAll();
+    }
+
+    /**
+     * Delivers the events of this lane through {@code executor} from now on.
+     * {@code isOnLaneThread} tells whether the current thread is one that {@code executor} runs tasks on.
+     */
+    synchronized void setExecutor(Executor executor, BooleanSupplier isOnLaneThread) {
+        requireNonNull(executor);
+        requireNonNull(isOnLaneThread);
+        this.executor = executor;
+        this.isOnLaneThread = isOnLaneThread;
+    }
+
+    /**
+     * Queues the delivery of {@code event} to {@code subscriber}, making room for it as told by the overflow policy,
+     * and has the executor of the lane deliver the queued events if it is not already doing so.
+     */
+    void submit(EventDispatcher.Subscriber subscriber, Object event) {
+        Executor drainExecutor;
+        synchronized (this) {
+            while (queue.size() >= capacity && !isOnLaneThread.getAsBoolean()) {
+                if (overflowPolicy == OverflowPolicy.COALESCE && removeSuperseded(subscriber, event)) {
+                    coalescedCount++;
+                } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                    Delivery dropped = queue.removeFirst();
+                    droppedCount++;
+                    logger.warning(lane + " lane is full, dropped event: " + dropped.event);
+                } else if (isNonBlockingThread.get()) {
+                    logger.fine(lane + " lane is full, queued event beyond its capacity: " + event);
+                    break;
+                } else {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            queue.addLast(new Delivery(subscriber, event));
+            maxDepth = Math.max(maxDepth, queue.size());
+            if (isDrainScheduled) {
+                return;
+            }
+            isDrainScheduled = true;
+            drainExecutor = executor;
+        }
+        drainExecutor.execute(this::drain);
+    }
+
+    /**
+     * Removes the queued delivery to {@code subscriber} of an event that {@code event} supersedes, if there is one
+     */
+    private boolean removeSuperseded(EventDispatcher.Subscriber subscriber, Object event) {
+        Object key = event instanceof BaseEvent ? ((BaseEvent) event).getMergeKey() : null;
+        if (key == null) {
+            return false;
+        }
+        for (Iterator<Delivery> it = queue.iterator(); it.hasNext(); ) {
+            Delivery queued = it.next();
+            if (queued.subscriber.equals(subscriber) && queued.event instanceof BaseEvent
+                && key.equals(((BaseEvent) queued.event).getMergeKey())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delivers the queued events until there are none left
+     */
+    private void drain() {
+        while (true) {
+            Delivery next;
+            synchronized (this) {
+                next = queue.pollFirst();
+                if (next == null) {
+                    isDrainScheduled = false;
+                    return;
+                }
+                deliveredCount++;
+                notifyAll();
+            }
+            next.subscriber.call(next.event);
+        }
+    }
+
+    synchronized LaneMetrics getMetrics() {
+        return new LaneMetrics(lane, capacity, overflowPolicy, queue.size(), maxDepth, deliveredCount,
+            coalescedCount, droppedCount);
+    }
+
+    /**
+     * An event waiting to be delivered to a subscriber
+     */
+    private static class Delivery {
+        private final EventDispatcher.Subscriber subscriber;
+        private final Object event;
+
+        private Delivery(EventDispatcher.Subscriber subscriber, Object event) {
+            this.subscriber = subscriber;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Dispatches events to the methods annotated with {@link Subscribe} of the registered handlers,
+ * in the same way as Guava's {@code EventBus}, but without looking up the subscribers of an event
+ * or calling them through reflection each time an event is posted.
+ *
+ * The subscribers of an event class, which are the ones of that class and of all its supertypes, are kept
+ * in an array that is worked out once, the first time an event of that class is posted after a handler has
+ * been registered. Each subscriber calls its method through a method handle bound to its handler.
+ *
+ * As with {@code EventBus}, an event posted while another one is being dispatched on the same thread is
+ * dispatched after it, a subscriber method is called by one thread at a time unless it is annotated with
+ * {@link AllowConcurrentEvents}, and an exception thrown by a subscriber is logged without stopping the others.
+ *
+ * A subscriber method annotated with {@link DeliveredOn} has its events queued on the {@link DeliveryLane} of
+ * its {@link EventLane} rather than being called by the posting thread. The {@code FX} lane delivers on the posting
+ * thread until it is given the executor of the JavaFX application thread, and coalesces events when it is full.
+ */
+class EventDispatcher {
+    private static final Logger logger = LogsCenter.getLogger(EventDispatcher.class);
+    private static final MethodType SUBSCRIBER_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+    // guarded by this
+    private final Map<Class<?>, List<Subscriber>> subscribersByEventType = new HashMap<>();
+    // the subscribers of each event class posted since the last registration
+    private final Map<Class<?>, Subscriber[]> dispatchTable = new ConcurrentHashMap<>();
+    private final ThreadLocal<DispatchState> dispatchState = ThreadLocal.withInitial(DispatchState::new);
+    private final Map<EventLane, DeliveryLane> lanes = new EnumMap<>(EventLane.class);
+
+    EventDispatcher() {
+        lanes.put(EventLane.FX,
+            DeliveryLane.onSubmittingThread(EventLane.FX, DeliveryLane.DEFAULT_CAPACITY, OverflowPolicy.COALESCE));
+    }
+
+    /**
+     * Registers every method of {@code handler} annotated with {@link Subscribe}, including the ones it inherits,
+     * to receive the events of the type of its single parameter.
+     *
+     * @throws IllegalArgumentException if a subscriber method does not have exactly one parameter.
+     */
+    synchronized void register(Object handler) {
+        requireNonNull(handler);
+        Set<List<Object>> seenSignatures = new HashSet<>();
+        for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length != 1) {
+                    throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has "
+                        + parameterTypes.length + " parameters. Subscriber methods must have exactly 1 parameter.");
+                }
+                // a method overridden by the class of the handler is only subscribed once
+                if (!seenSignatures.add(Arrays.asList(method.getName(), parameterTypes[0]))) {
+                    continue;
+                }
+                DeliveredOn deliveredOn = method.getAnnotation(DeliveredOn.class);
+                EventLane laneName = deliveredOn == null ? EventLane.INLINE : deliveredOn.value();
+                DeliveryLane lane = lanes.get(laneName);
+                Subscriber subscriber = new Subscriber(handler, method, lane);
+                List<Subscriber> subscribers =
+                    subscribersByEventType.computeIfAbsent(parameterTypes[0], unused -> new ArrayList<>());
+                if (!subscribers.contains(subscriber)) {
+                    subscribers.add(subscriber);
+                }
+            }
+        }
+        dispatchTable.clear();
+    }
+
+    /**
+     * Dispatches {@code event} to every subscriber of its class or of one of its supertypes,
+     * after the events already being dispatched on this thread.
+     */
+    void post(Object event) {
+        requireNonNull(event);
+        DispatchState state = dispatchState.get();
+        state.queue.add(event);
+        if (state.isDispatching) {
+            return;
+        }
+        state.isDispatching = true;
+        try {
+            Object next;
+            while ((next = state.queue.poll()) != null) {
+                for (Subscriber subscriber : getSubscribers(next.getClass())) {
+                    subscriber.dispatch(next);
+                }
+            }
+        } finally {
+            state.isDispatching = false;
+        }
+    }
+
+    /**
+     * Returns the subscribers of events of {@code eventClass}, those of the class itself coming first
+     */
+    Subscriber[] getSubscribers(Class<?> eventClass) {
+        Subscriber[] subscribers = dispatchTable.get(eventClass);
+        if (subscribers != null) {
+            return subscribers;
+        }
+        synchronized (this) {
+            List<Subscriber> found = new ArrayList<>();
+            for (Class<?> type : getTypes(eventClass)) {
+                found.addAll(subscribersByEventType.getOrDefault(type, Collections.emptyList()));
+            }
+            subscribers = found.isEmpty() ? NO_SUBSCRIBERS : found.toArray(NO_SUBSCRIBERS);
+            dispatchTable.put(eventClass, subscribers);
+            return subscribers;
+        }
+    }
+
+    /**
+     * Sets the size of the queue of {@code lane} and what happens to the events posted while it is full.
+     */
+    void configureLane(EventLane lane, int capacity, OverflowPolicy overflowPolicy) {
+        getLane(lane).configure(capacity, overflowPolicy);
+    }
+
+    /**
+     * Delivers the events of {@code lane} through {@code executor} from now on.
+     * {@code isOnLaneThread} tells whether the current thread is one that {@code executor} runs tasks on.
+     */
+    void setLaneExecutor(EventLane lane, Executor executor, BooleanSupplier isOnLaneThread) {
+        getLane(lane).setExecutor(executor, isOnLaneThread);
+    }
+
+    LaneMetrics getLaneMetrics(EventLane lane) {
+        return getLane(lane).getMetrics();
+    }
+
+    private DeliveryLane getLane(EventLane lane) {
+        requireNonNull(lane);
+        checkArgument(lane != EventLane.INLINE, "Events delivered inline are not queued on a lane");
+        return lanes.get(lane);
+    }
+
+    /**
+     * Returns {@code eventClass} followed by all of its superclasses and interfaces
+     */
+    private static Set<Class<?>> getTypes(Class<?> eventClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> type = eventClass; type != null; type = type.getSuperclass()) {
+            addWithInterfaces(type, types);
+        }
+        return types;
+    }
+
+    private static void addWithInterfaces(Class<?> type, Set<Class<?>> types) {
+        if (types.add(type)) {
+            for (Class<?> implemented : type.getInterfaces()) {
+                addWithInterfaces(implemented, types);
+            }
+        }
+    }
+
+    /**
+     * The events waiting to be dispatched on a thread
+     */
+    private static class DispatchState {
+        private final Queue<Object> queue = new ArrayDeque<>();
+        private boolean isDispatching = false;
+    }
+
+    /**
+     * A subscriber method of a registered handler
+     */
+    static class Subscriber {
+        private final Object handler;
+        private final Method method;
+        private final MethodHandle invoker;
+        private final boolean isThreadSafe;
+        // null if the events are delivered inline
+        private final DeliveryLane lane;
+
+        private Subscriber(Object handler, Method method, DeliveryLane lane) {
+            this.handler = handler;
+            this.method = method;
+            this.lane = lane;
+            this.isThreadSafe = method.isAnnotationPresent(AllowConcurrentEvents.class);
+            try {
+                method.setAccessible(true);
+                this.invoker = MethodHandles.lookup().unreflect(method).bindTo(handler).asType(SUBSCRIBER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Method " + method + " cannot be subscribed", e);
+            }
+        }
+
+        /**
+         * Calls the subscriber method with {@code event}, or queues the call on the lane of the subscriber
+         */
+        void dispatch(Object event) {
+            if (lane == null) {
+                call(event);
+            } else {
+                lane.submit(this, event);
+            }
+        }
+
+        /**
+         * Calls the subscriber method with {@code event}, logging anything it throws
+         */
+        void call(Object event) {
+            try {
+                if (isThreadSafe) {
+                    invoker.invokeExact(event);
+                } else {
+                    synchronized (this) {
+                        invoker.invokeExact(event);
+                    }
+                }
+            } catch (Throwable e) {
+                logger.log(Level.SEVERE, "Exception thrown by subscriber method " + method.getName() + " of "
+                    + handler.getClass().getName() + " when dispatching event: " + event, e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof Subscriber // instanceof handles nulls
+                && handler == ((Subscriber) other).handler
+                && method.equals(((Subscriber) other).method));
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(handler) * 31 + method.hashCode();
+        }
+    }
+}
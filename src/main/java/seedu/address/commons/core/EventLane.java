@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The threads on which an event can be delivered to a subscriber, as declared with {@link DeliveredOn}.
+ */
+public enum EventLane {
+    /** On the thread that posted the event, before the post returns */
+    INLINE,
+    /** On the JavaFX application thread, in the order the events were posted */
+    FX
+}
@@ -1,21 +1,37 @@
 package seedu.address.commons.core;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
-
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Event handlers subscribe to events with Guava's {@code @Subscribe} annotation, and the events are dispatched
+ * by an {@link EventDispatcher}, which works out the subscribers of each kind of event once instead of on every post.
+ *
+ * Events posted inside a {@link Transaction} on a thread are held back until the transaction closes,
+ * and are then dispatched at once. Events of the transaction that supersede each other, as told by
+ * {@link BaseEvent#getMergeKey()}, are merged into the one posted last. Events posted on other threads
+ * are dispatched straight away.
+ *
+ * A subscriber can have its events delivered on the JavaFX application thread by annotating it with
+ * {@link DeliveredOn}. The {@link EventLane} of that thread queues its events in a bounded queue,
+ * whose size and {@link OverflowPolicy} can be set with {@link #configureLane}.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+    private final EventDispatcher dispatcher;
+    private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        dispatcher = new EventDispatcher();
     }
 
     public static EventsCenter getInstance() {
@@ -30,16 +46,125 @@ public class EventsCenter {
     }
 
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        dispatcher.register(handler);
+    }
+
+    /**
+     * Sets the size of the queue of {@code lane} and what happens to the events posted while it is full.
+     *
+     * @throws IllegalArgumentException if {@code lane} is {@link EventLane#INLINE} or {@code capacity} is not positive.
+     */
+    public void configureLane(EventLane lane, int capacity, OverflowPolicy overflowPolicy) {
+        dispatcher.configureLane(lane, capacity, overflowPolicy);
+    }
+
+    /**
+     * Delivers the events of {@code lane} through {@code executor} from now on, e.g. to have the {@code FX} lane
+     * deliver on the JavaFX application thread once it is running.
+     * {@code isOnLaneThread} tells whether the current thread is one that {@code executor} runs tasks on.
+     *
+     * @throws IllegalArgumentException if {@code lane} is {@link EventLane#INLINE}.
+     */
+    public void setLaneExecutor(EventLane lane, Executor executor, BooleanSupplier isOnLaneThread) {
+        dispatcher.setLaneExecutor(lane, executor, isOnLaneThread);
     }
 
     /**
-     * Posts an event to the event bus.
+     * Marks the current thread as one that must never wait for room in a full lane, e.g. the thread that changes
+     * the model. An event it posts to a full lane that would otherwise make it wait is queued beyond the capacity.
+     */
+    public static void markCurrentThreadNonBlocking() {
+        DeliveryLane.markCurrentThreadNonBlocking();
+    }
+
+    /**
+     * Returns the current queue depth of {@code lane} and the counts of the events it has handled.
+     *
+     * @throws IllegalArgumentException if {@code lane} is {@link EventLane#INLINE}.
+     */
+    public LaneMetrics getLaneMetrics(EventLane lane) {
+        return dispatcher.getLaneMetrics(lane);
+    }
+
+    /**
+     * Posts an event to the event bus, or holds it back until the transaction of this thread closes.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        Transaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            transaction.add(event);
+        } else {
+            dispatch(event);
+        }
         return this;
     }
 
+    private void dispatch(BaseEvent event) {
+        // the message is only built if it is logged
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        }
+        dispatcher.post(event);
+    }
+
+    /**
+     * Starts holding back the events posted on this thread until the returned transaction is closed.
+     * A transaction started while another one is open on the same thread joins it,
+     * so the events are only dispatched when the outermost one is closed.
+     */
+    public Transaction beginTransaction() {
+        Transaction transaction = currentTransaction.get();
+        if (transaction == null) {
+            transaction = new Transaction();
+            currentTransaction.set(transaction);
+        } else {
+            transaction.depth++;
+        }
+        return transaction;
+    }
+
+    /**
+     * The events held back on a thread, e.g. while a command is executed
+     */
+    public class Transaction implements AutoCloseable {
+        // in the order they are to be dispatched, an event that cannot be merged is keyed on a key of its own
+        private final Map<Object, BaseEvent> events = new LinkedHashMap<>();
+        private int depth = 1;
+        private int postedCount = 0;
+
+        private Transaction() {
+        }
+
+        /**
+         * Holds back {@code event}, in place of any event it supersedes.
+         * It is dispatched after the events posted before it, so it is always seen as the latest change.
+         */
+        private void add(BaseEvent event) {
+            postedCount++;
+            Object key = event.getMergeKey();
+            if (key == null) {
+                key = new Object();
+            } else {
+                events.remove(key);
+            }
+            events.put(key, event);
+        }
+
+        /**
+         * Dispatches the events held back, if this closes the outermost transaction of the thread
+         */
+        @Override
+        public void close() {
+            depth--;
+            if (depth > 0) {
+                return;
+            }
+            currentTransaction.remove();
+            if (postedCount > events.size()) {
+                logger.fine("Merged " + postedCount + " events into " + events.size());
+            }
+            events.values().forEach(EventsCenter.this::dispatch);
+        }
+    }
+
 }
@@ -0,0 +1,33 @@
+package seedu.address.commons.core;
+
+/**
+ * The queue depth and counts of the events of an {@link EventLane} at some point in time.
+ */
+public class LaneMetrics {
+    public final EventLane lane;
+    public final int capacity;
+    public final OverflowPolicy overflowPolicy;
+    public final int depth;
+    public final int maxDepth;
+    public final long deliveredCount;
+    public final long coalescedCount;
+    public final long droppedCount;
+
+    public LaneMetrics(EventLane lane, int capacity, OverflowPolicy overflowPolicy, int depth, int maxDepth,
+                       long deliveredCount, long coalescedCount, long droppedCount) {
+        this.lane = lane;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.depth = depth;
+        this.maxDepth = maxDepth;
+        this.deliveredCount = deliveredCount;
+        this.coalescedCount = coalescedCount;
+        this.droppedCount = droppedCount;
+    }
+
+    @Override
+    public String toString() {
+        return lane + " lane (" + overflowPolicy + "): " + depth + "/" + capacity + " queued, at most " + maxDepth
+            + ", " + deliveredCount + " delivered, " + coalescedCount + " coalesced, " + droppedCount + " dropped";
+    }
+}
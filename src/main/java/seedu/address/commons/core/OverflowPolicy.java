@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+/**
+ * What a lane does with an event posted while its queue is full.
+ * A thread marked with {@link EventsCenter#markCurrentThreadNonBlocking()} never waits; its event is queued instead.
+ */
+public enum OverflowPolicy {
+    /** The posting thread waits until the lane has delivered an event */
+    BLOCK,
+    /** The event replaces a queued one that it supersedes, or else the posting thread waits as with BLOCK */
+    COALESCE,
+    /** The oldest queued event is dropped */
+    DROP_OLDEST
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the data files can be stored in.
+ */
+public enum StorageFormat {
+    /** One xml file per kind of data, readable and editable by hand */
+    XML,
+    /** One compact binary snapshot file per kind of data, only meant to be read by this app */
+    BINARY
+}
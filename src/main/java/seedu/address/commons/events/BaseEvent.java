@@ -13,4 +13,13 @@ public abstract class BaseEvent {
      */
     public abstract String toString();
 
+    /**
+     * Returns a key that is equal for events that supersede each other, e.g. because they both report the latest
+     * state of the same data, so that only the last one needs to be dispatched when they are posted together.
+     * Returns null if the event is never merged with another one, which is the default.
+     */
+    public Object getMergeKey() {
+        return null;
+    }
+
 }
@@ -14,6 +14,11 @@ public class AdminListChangedEvent extends BaseEvent {
         this.data = data;
     }
 
+    @Override
+    public Object getMergeKey() {
+        return getClass();
+    }
+
     @Override
     public String toString() {
         return "number of admins " + data.getAdminList().size();
@@ -0,0 +1,24 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that a job has been added to the queue of a machine
+ */
+public class JobAddedEvent extends BaseEvent {
+
+    public final JobName jobName;
+    public final MachineName machineName;
+
+    public JobAddedEvent(JobName jobName, MachineName machineName) {
+        this.jobName = jobName;
+        this.machineName = machineName;
+    }
+
+    @Override
+    public String toString() {
+        return "job " + jobName + " added to " + machineName;
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that a job has been moved from the queue of one machine to that of another
+ */
+public class JobMovedEvent extends BaseEvent {
+
+    public final JobName jobName;
+    public final MachineName fromMachineName;
+    public final MachineName toMachineName;
+
+    public JobMovedEvent(JobName jobName, MachineName fromMachineName, MachineName toMachineName) {
+        this.jobName = jobName;
+        this.fromMachineName = fromMachineName;
+        this.toMachineName = toMachineName;
+    }
+
+    @Override
+    public String toString() {
+        return "job " + jobName + " moved from " + fromMachineName + " to " + toMachineName;
+    }
+}
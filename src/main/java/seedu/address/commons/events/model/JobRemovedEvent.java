@@ -0,0 +1,24 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that a job has been removed from the queue of a machine
+ */
+public class JobRemovedEvent extends BaseEvent {
+
+    public final JobName jobName;
+    public final MachineName machineName;
+
+    public JobRemovedEvent(JobName jobName, MachineName machineName) {
+        this.jobName = jobName;
+        this.machineName = machineName;
+    }
+
+    @Override
+    public String toString() {
+        return "job " + jobName + " removed from " + machineName;
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that a job has been shifted within the queue of its machine
+ */
+public class JobShiftedEvent extends BaseEvent {
+
+    public final JobName jobName;
+    public final MachineName machineName;
+    public final int shiftBy;
+
+    /**
+     * @param shiftBy the number of places the job was asked to move towards the front of the queue.
+     */
+    public JobShiftedEvent(JobName jobName, MachineName machineName, int shiftBy) {
+        this.jobName = jobName;
+        this.machineName = machineName;
+        this.shiftBy = shiftBy;
+    }
+
+    @Override
+    public String toString() {
+        return "job " + jobName + " on " + machineName + " shifted by " + shiftBy;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.events.model;
+
+import java.util.Arrays;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that the status of a job has changed, e.g. when it is started or finished
+ */
+public class JobStatusChangedEvent extends BaseEvent {
+
+    public final JobName jobName;
+    public final MachineName machineName;
+    public final Status status;
+
+    public JobStatusChangedEvent(JobName jobName, MachineName machineName, Status status) {
+        this.jobName = jobName;
+        this.machineName = machineName;
+        this.status = status;
+    }
+
+    @Override
+    public Object getMergeKey() {
+        return Arrays.asList(getClass(), jobName);
+    }
+
+    @Override
+    public String toString() {
+        return "job " + jobName + " on " + machineName + " is now " + status;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.Job;
+
+/**
+ * Indicates that finished jobs have been taken out of the machines to be kept in the job archive
+ */
+public class JobsArchivedEvent extends BaseEvent {
+
+    public final List<Job> jobs;
+
+    public JobsArchivedEvent(List<Job> jobs) {
+        this.jobs = jobs;
+    }
+
+    @Override
+    public String toString() {
+        return "number of jobs archived " + jobs.size();
+    }
+}
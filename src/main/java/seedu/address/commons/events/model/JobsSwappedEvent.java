@@ -0,0 +1,32 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that two jobs have swapped their places in the queues
+ */
+public class JobsSwappedEvent extends BaseEvent {
+
+    public final JobName jobName1;
+    public final MachineName machineName1;
+    public final JobName jobName2;
+    public final MachineName machineName2;
+
+    /**
+     * @param machineName1 the machine that {@code jobName1} was in before the swap.
+     * @param machineName2 the machine that {@code jobName2} was in before the swap.
+     */
+    public JobsSwappedEvent(JobName jobName1, MachineName machineName1, JobName jobName2, MachineName machineName2) {
+        this.jobName1 = jobName1;
+        this.machineName1 = machineName1;
+        this.jobName2 = jobName2;
+        this.machineName2 = machineName2;
+    }
+
+    @Override
+    public String toString() {
+        return "jobs " + jobName1 + " on " + machineName1 + " and " + jobName2 + " on " + machineName2 + " swapped";
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that a machine has been added
+ */
+public class MachineAddedEvent extends BaseEvent {
+
+    public final MachineName machineName;
+
+    public MachineAddedEvent(MachineName machineName) {
+        this.machineName = machineName;
+    }
+
+    @Override
+    public String toString() {
+        return "machine " + machineName + " added";
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.JobMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -9,9 +10,22 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class MachineListChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
+    /** The job change that caused this event, or null if the machine list may have changed in any way */
+    public final JobMutation mutation;
 
     public MachineListChangedEvent(ReadOnlyAddressBook data) {
+        this(data, null);
+    }
+
+    public MachineListChangedEvent(ReadOnlyAddressBook data, JobMutation mutation) {
         this.data = data;
+        this.mutation = mutation;
+    }
+
+    @Override
+    public Object getMergeKey() {
+        // each job change has to be journaled, so only the events without one supersede each other
+        return mutation == null ? getClass() : null;
     }
 
     @Override
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Indicates that a machine has been removed
+ */
+public class MachineRemovedEvent extends BaseEvent {
+
+    public final MachineName machineName;
+
+    public MachineRemovedEvent(MachineName machineName) {
+        this.machineName = machineName;
+    }
+
+    @Override
+    public String toString() {
+        return "machine " + machineName + " removed";
+    }
+}
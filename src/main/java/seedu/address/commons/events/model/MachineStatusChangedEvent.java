@@ -0,0 +1,31 @@
+package seedu.address.commons.events.model;
+
+import java.util.Arrays;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+
+/**
+ * Indicates that a machine has been enabled or disabled
+ */
+public class MachineStatusChangedEvent extends BaseEvent {
+
+    public final MachineName machineName;
+    public final MachineStatus status;
+
+    public MachineStatusChangedEvent(MachineName machineName, MachineStatus status) {
+        this.machineName = machineName;
+        this.status = status;
+    }
+
+    @Override
+    public Object getMergeKey() {
+        return Arrays.asList(getClass(), machineName);
+    }
+
+    @Override
+    public String toString() {
+        return "machine " + machineName + " is now " + status;
+    }
+}
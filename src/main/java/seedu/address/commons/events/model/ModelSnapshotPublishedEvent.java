@@ -0,0 +1,29 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * Indicates that the model has published a new snapshot of its data after a change
+ */
+public class ModelSnapshotPublishedEvent extends BaseEvent {
+
+    public final ModelSnapshot snapshot;
+
+    public ModelSnapshotPublishedEvent(ModelSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * A later snapshot holds everything an earlier one does
+     */
+    @Override
+    public Object getMergeKey() {
+        return getClass();
+    }
+
+    @Override
+    public String toString() {
+        return "model snapshot of " + snapshot;
+    }
+}
@@ -18,6 +18,11 @@ public class FocusMachineRequestEvent extends BaseEvent {
         return machineAndJobToFocus;
     }
 
+    @Override
+    public Object getMergeKey() {
+        // only the machine focused on last is shown
+        return getClass();
+    }
 
     @Override
     public String toString() {
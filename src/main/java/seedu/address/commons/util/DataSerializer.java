@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Converts objects to and from one data format, e.g. xml or json.
+ * Implementations can be used from several threads at once.
+ *
+ * @see DataSerializers
+ */
+public interface DataSerializer {
+
+    /**
+     * Returns the name of the format, e.g. {@code "xml"}
+     */
+    String getFormatName();
+
+    /**
+     * Returns the extension of files in this format, including the dot, e.g. {@code ".xml"}
+     */
+    String getFileExtension();
+
+    /**
+     * Returns the data in {@code in} as an object of the specified type.
+     * Does not close {@code in}.
+     *
+     * @throws DataConversionException if the data is not in the correct format.
+     * @throws IOException if the data cannot be read.
+     */
+    <T> T read(InputStream in, Class<T> type) throws DataConversionException, IOException;
+
+    /**
+     * Writes {@code data} to {@code out} in this format.
+     * Does not close {@code out}.
+     *
+     * @throws IOException if the data cannot be converted or written.
+     */
+    <T> void write(OutputStream out, T data) throws IOException;
+
+    /**
+     * Returns the data in {@code file} as an object of the specified type.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    default <T> T readFile(Path file, Class<T> type) throws DataConversionException, IOException {
+        requireNonNull(file);
+        requireNonNull(type);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in, type);
+        }
+    }
+
+    /**
+     * Writes {@code data} to {@code file} in this format.
+     * Overwrites the file if it exists, creates it if it doesn't.
+     */
+    default <T> void writeFile(Path file, T data) throws IOException {
+        requireNonNull(file);
+        requireNonNull(data);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out, data);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the {@link DataSerializer} of every data format the app can read and write.
+ * The xml format is registered first, followed by the json format.
+ */
+public class DataSerializers {
+
+    // guarded by itself, in the order the formats were registered
+    private static final Map<String, DataSerializer> serializers = new LinkedHashMap<>();
+
+    static {
+        register(XmlUtil.getSerializer());
+        register(JsonUtil.getSerializer());
+    }
+
+    /**
+     * Registers {@code serializer} for its format, replacing any serializer registered for the same format
+     */
+    public static void register(DataSerializer serializer) {
+        requireNonNull(serializer);
+        synchronized (serializers) {
+            serializers.put(serializer.getFormatName(), serializer);
+        }
+    }
+
+    /**
+     * Returns the serializer registered for the format named {@code formatName}
+     */
+    public static Optional<DataSerializer> get(String formatName) {
+        requireNonNull(formatName);
+        synchronized (serializers) {
+            return Optional.ofNullable(serializers.get(formatName));
+        }
+    }
+
+    /**
+     * Returns the serializer of the first format whose file extension {@code file} ends with
+     */
+    public static Optional<DataSerializer> forFile(Path file) {
+        requireNonNull(file);
+        String fileName = file.getFileName().toString();
+        return getAll().stream().filter(serializer -> fileName.endsWith(serializer.getFileExtension())).findFirst();
+    }
+
+    /**
+     * Returns every registered serializer, in the order they were registered
+     */
+    public static List<DataSerializer> getAll() {
+        synchronized (serializers) {
+            return new ArrayList<>(serializers.values());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Converts objects to and from json with Jackson.
+ * The data is parsed from and generated straight into the streams, without building the whole text in memory.
+ */
+public class JsonSerializer implements DataSerializer {
+
+    public static final String FORMAT_NAME = "json";
+    public static final String FILE_EXTENSION = ".json";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    /**
+     * Creates a serializer that converts objects as configured in {@code objectMapper}.
+     * The mapper must not be configured any further afterwards.
+     */
+    public JsonSerializer(ObjectMapper objectMapper) {
+        requireNonNull(objectMapper);
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public String getFormatName() {
+        return FORMAT_NAME;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    @Override
+    public <T> T read(InputStream in, Class<T> type) throws DataConversionException, IOException {
+        requireNonNull(in);
+        requireNonNull(type);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return objectMapper.readValue(parser, type);
+        } catch (JsonProcessingException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public <T> void write(OutputStream out, T data) throws IOException {
+        requireNonNull(out);
+        requireNonNull(data);
+
+        writer.writeValue(out, data);
+    }
+
+    /**
+     * Returns the factory of the parsers and generators this serializer uses,
+     * e.g. to read or write large data one token at a time
+     */
+    public JsonFactory getFactory() {
+        return objectMapper.getFactory();
+    }
+}
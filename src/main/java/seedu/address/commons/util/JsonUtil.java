@@ -39,13 +39,26 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static final JsonSerializer serializer = new JsonSerializer(objectMapper);
+
+    /**
+     * Returns the serializer that reads and writes json as configured for this class
+     */
+    public static JsonSerializer getSerializer() {
+        return serializer;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializer.writeFile(jsonFile, objectToSerialize);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try {
+            return serializer.readFile(jsonFile, classOfObjectToDeserialize);
+        } catch (DataConversionException e) {
+            throw new IOException("Unable to convert " + jsonFile + " from json", e);
+        }
     }
 
     /**
@@ -67,8 +80,11 @@ public class JsonUtil {
         T jsonFile;
 
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            jsonFile = serializer.readFile(filePath, classOfObjectToDeserialize);
 
+        } catch (DataConversionException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw e;
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
             throw new DataConversionException(e);
@@ -0,0 +1,128 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Converts JAXB annotated objects to and from xml.
+ *
+ * Creating a {@code JAXBContext} is by far the most expensive step of reading or writing a file,
+ * so one context is kept for each root class once created.
+ * Marshallers and unmarshallers cannot be shared between threads, so each thread keeps its own for each class.
+ */
+public class XmlSerializer implements DataSerializer {
+
+    public static final String FORMAT_NAME = "xml";
+    public static final String FILE_EXTENSION = ".xml";
+
+    // guarded by itself
+    private final Map<Class<?>, JAXBContext> contexts = new HashMap<>();
+    private final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private final ThreadLocal<Map<Class<?>, Marshaller>> fragmentMarshallers = ThreadLocal.withInitial(HashMap::new);
+    private final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers = ThreadLocal.withInitial(HashMap::new);
+
+    @Override
+    public String getFormatName() {
+        return FORMAT_NAME;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    @Override
+    public <T> T read(InputStream in, Class<T> type) throws DataConversionException {
+        requireNonNull(in);
+        requireNonNull(type);
+
+        try {
+            return type.cast(getUnmarshaller(type).unmarshal(in));
+        } catch (JAXBException | ClassCastException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public <T> void write(OutputStream out, T data) throws IOException {
+        requireNonNull(out);
+        requireNonNull(data);
+
+        try {
+            getMarshaller(data.getClass()).marshal(data, out);
+        } catch (JAXBException e) {
+            throw new IOException("Unable to convert " + data.getClass().getSimpleName() + " to xml", e);
+        }
+    }
+
+    /**
+     * Returns the context for {@code type}, creating it on first use.
+     * The context can be shared between threads.
+     */
+    public JAXBContext getContext(Class<?> type) throws JAXBException {
+        synchronized (contexts) {
+            JAXBContext context = contexts.get(type);
+            if (context == null) {
+                context = JAXBContext.newInstance(type);
+                contexts.put(type, context);
+            }
+            return context;
+        }
+    }
+
+    /**
+     * Returns the unmarshaller of the calling thread for {@code type}.
+     * It must not be used by another thread, or again before the current use has finished.
+     */
+    public Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    /**
+     * Returns the marshaller of the calling thread for {@code type}, which writes formatted output.
+     * It must not be used by another thread, or again before the current use has finished.
+     */
+    public Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns the marshaller of the calling thread for {@code type}, which writes the xml on a single line
+     * without an xml declaration, e.g. for one entry of a line-based file.
+     * It must not be used by another thread, or again before the current use has finished.
+     */
+    public Marshaller getFragmentMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = fragmentMarshallers.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
+    }
+}
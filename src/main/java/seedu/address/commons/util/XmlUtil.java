@@ -3,13 +3,20 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import seedu.address.commons.core.LogsCenter;
 
@@ -19,6 +26,17 @@ import seedu.address.commons.core.LogsCenter;
 public class XmlUtil {
 
     private static final Logger logger = LogsCenter.getLogger(XmlUtil.class);
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+    private static final XmlSerializer serializer = new XmlSerializer();
+
+    /**
+     * Returns the serializer that reads and writes xml for this class, keeping its JAXB contexts
+     */
+    public static XmlSerializer getSerializer() {
+        return serializer;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -40,12 +58,83 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = serializer.getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file.toFile()));
     }
 
+    /**
+     * Reads the xml file one child of the root element at a time, and hands every child named {@code elementName}
+     * to {@code action} as an object of the specified type, in the order they appear in the file.
+     * Other children of the root element are skipped.
+     * Only one child is held in memory at a time, so large files can be read without building the whole tree.
+     *
+     * @param file         Points to a valid xml file. Cannot be null.
+     * @param elementName  The name of the children to convert. Cannot be null.
+     * @param elementClass The class corresponding to the xml data of each child. Cannot be null.
+     * @return the attributes of the root element.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty, cannot be read or does not have the correct format.
+     */
+    public static <T> Map<String, String> forEachElementInFile(Path file, String elementName, Class<T> elementClass,
+                                                               Consumer<? super T> action)
+            throws FileNotFoundException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(action);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        // not shared with the thread, as the action may read other files while this one is being read
+        Unmarshaller um = serializer.getContext(elementClass).createUnmarshaller();
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                Map<String, String> rootAttributes = new HashMap<>();
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                    rootAttributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                }
+
+                reader.next();
+                while (!reader.isEndElement()) {
+                    if (!reader.isStartElement()) {
+                        reader.next();
+                    } else if (reader.getLocalName().equals(elementName)) {
+                        // leaves the reader right after the end of the child
+                        action.accept(um.unmarshal(reader, elementClass).getValue());
+                    } else {
+                        skipElement(reader);
+                    }
+                }
+                return rootAttributes;
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new JAXBException("Unable to read " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to right after its end
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
     /**
      * Saves the data in the file in xml format.
      *
@@ -64,9 +153,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = serializer.getMarshaller(data.getClass());
 
         m.marshal(data, file.toFile());
     }
@@ -7,6 +7,8 @@ import java.util.List;
 
 /**
  * Stores the history of commands executed.
+ * Commands are added by the thread that runs them while the history may be read by another one,
+ * so access to it is synchronized.
  */
 public class CommandHistory {
     private LinkedList<String> userInputHistory;
@@ -22,7 +24,7 @@ public class CommandHistory {
     /**
      * Appends {@code userInput} to the list of user input entered.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
         userInputHistory.add(userInput);
     }
@@ -30,7 +32,7 @@ public class CommandHistory {
     /**
      * Returns a defensive copy of {@code userInputHistory}.
      */
-    public List<String> getHistory() {
+    public synchronized List<String> getHistory() {
         return new LinkedList<>(userInputHistory);
     }
 
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -21,6 +23,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the thread that changes the model, after the commands submitted before it,
+     * and records it in the history once it is done.
+     * @param commandText The command as entered by the user.
+     * @return a future that completes with the result of the command execution, or with the
+     *     {@code CommandException} or {@code ParseException} it failed with.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -1,22 +1,37 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.ModelSnapshotPublishedEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.person.Person;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands are executed on the thread that changes the model. The lists shown to the user are filled from
+ * the snapshots the model publishes, on the JavaFX application thread, so they are never read by the UI
+ * while a command is changing them.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
@@ -24,41 +39,110 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final ObservableList<Person> shownPersons = FXCollections.observableArrayList();
+    private final ObservableList<Machine> shownMachines = FXCollections.observableArrayList();
+    private final ObservableList<Admin> shownAdmins = FXCollections.observableArrayList();
 
     public LogicManager(Model model) {
         this.model = model;
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
+        showSnapshot(model.getSnapshot());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
-            Command command = addressBookParser.parseCommand(commandText);
-            return command.execute(model, history);
-        } finally {
-            history.add(commandText);
+            return executeAsync(commandText).join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return model.submit(() -> {
+            try {
+                // the events of the command are merged and dispatched once it is done, even if it fails part way
+                try (EventsCenter.Transaction events = eventsCenter.beginTransaction()) {
+                    Command command = addressBookParser.parseCommand(commandText);
+                    return command.execute(model, history);
+                }
+            } finally {
+                // added by the thread running the commands, so the history is in the order they were run
+                history.add(commandText);
+            }
+        });
+    }
+
+    /**
+     * Throws {@code failure} of a command as it was thrown by the command
+     */
+    private static RuntimeException rethrow(Throwable failure) throws CommandException, ParseException {
+        if (failure instanceof CommandException) {
+            throw (CommandException) failure;
+        } else if (failure instanceof ParseException) {
+            throw (ParseException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
         }
+        return new IllegalStateException(failure);
     }
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return FXCollections.unmodifiableObservableList(shownPersons);
     }
 
     @Override
     public ObservableList<Machine> getFilteredMachineList() {
-        return model.getFilteredMachineList();
+        return FXCollections.unmodifiableObservableList(shownMachines);
     }
 
     @Override
     public ObservableList<Admin> getFilteredAdminList() {
-        return model.getFilteredAdminList();
+        return FXCollections.unmodifiableObservableList(shownAdmins);
     }
 
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    /**
+     * Makes the lists shown to the user match {@code snapshot}
+     */
+    private void showSnapshot(ModelSnapshot snapshot) {
+        updateShownList(shownPersons, snapshot.getFilteredPersonList());
+        updateShownList(shownMachines, snapshot.getFilteredMachineList());
+        updateShownList(shownAdmins, snapshot.getFilteredAdminList());
+    }
+
+    /**
+     * Makes {@code shown} hold the items of {@code latest}, replacing only the items that are not the same objects,
+     * so the items shown for unchanged data are left as they are
+     */
+    private static <T> void updateShownList(ObservableList<T> shown, List<T> latest) {
+        if (shown.size() != latest.size()) {
+            shown.setAll(latest);
+            return;
+        }
+        for (int i = 0; i < latest.size(); i++) {
+            if (shown.get(i) != latest.get(i)) {
+                shown.set(i, latest.get(i));
+            }
+        }
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleModelSnapshotPublishedEvent(ModelSnapshotPublishedEvent event) {
+        // a snapshot that is not the model's latest, or is of another model, is followed by the latest one
+        if (event.snapshot == model.getSnapshot()) {
+            showSnapshot(event.snapshot);
+        }
+    }
 }
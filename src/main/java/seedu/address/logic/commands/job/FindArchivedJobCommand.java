@@ -0,0 +1,91 @@
+package seedu.address.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_MONTH;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+
+/**
+ * Finds and lists the archived jobs whose name contains any of the argument keywords,
+ * optionally only those last worked on in a range of months.
+ * Keyword matching is case insensitive.
+ */
+public class FindArchivedJobCommand extends Command {
+
+    public static final String COMMAND_WORD = "findArchivedJob";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all archived jobs whose names contain any of "
+            + "the specified keywords (case-insensitive), optionally only those last worked on from and/or "
+            + "to the given months, and lists them.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... "
+            + "[" + PREFIX_FROM_MONTH + "YYYY-MM] "
+            + "[" + PREFIX_TO_MONTH + "YYYY-MM]\n"
+            + "Example: " + COMMAND_WORD + " iDCP " + PREFIX_FROM_MONTH + "2018-09 " + PREFIX_TO_MONTH + "2018-10";
+
+    public static final String MESSAGE_ARCHIVE_READ_FAILED = "Could not read the job archive: %1$s";
+
+    private static final DateTimeFormatter LAST_ACTIVE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+            .withZone(ZoneId.systemDefault());
+
+    private final JobNameContainsKeywordsPredicate predicate;
+    private final YearMonth from;
+    private final YearMonth to;
+
+    /**
+     * @param from the first month to look in, or null to look from the oldest archived job
+     * @param to the last month to look in, or null to look up to the newest archived job
+     */
+    public FindArchivedJobCommand(JobNameContainsKeywordsPredicate predicate, YearMonth from, YearMonth to) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Job> archivedJobs;
+        try {
+            archivedJobs = model.findArchivedJobs(predicate, from, to);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_READ_FAILED, e.getMessage()));
+        }
+
+        StringBuilder result = new StringBuilder(
+                String.format(Messages.MESSAGE_ARCHIVED_JOBS_LISTED_OVERVIEW, archivedJobs.size()));
+        int index = 1;
+        for (Job job : archivedJobs) {
+            result.append('\n').append(index++).append(". ")
+                    .append(job.getJobName()).append(" on ").append(job.getMachineName())
+                    .append(" (").append(job.getStatus()).append(", last worked on ")
+                    .append(LAST_ACTIVE_FORMAT.format(Instant.ofEpochMilli(job.getLastActiveTime()))).append(')');
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindArchivedJobCommand // instanceof handles nulls
+                && predicate.equals(((FindArchivedJobCommand) other).predicate)
+                && Objects.equals(from, ((FindArchivedJobCommand) other).from)
+                && Objects.equals(to, ((FindArchivedJobCommand) other).to)); // state check
+    }
+}
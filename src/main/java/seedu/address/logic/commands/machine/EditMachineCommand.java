@@ -19,7 +19,6 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.job.Job;
-import seedu.address.model.job.Status;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.machine.MachineStatus;
@@ -80,7 +79,7 @@ public class EditMachineCommand extends Command {
             throw new CommandException(MESSAGE_MACHINE_NOT_FOUND);
         }
 
-        if (machineToEdit.getJobs().stream().anyMatch(jobs -> jobs.getStatus() == Status.ONGOING)) {
+        if (machineToEdit.hasOngoingJob()) {
             throw new CommandException(MESSAGE_ONGOING_JOB);
         }
 
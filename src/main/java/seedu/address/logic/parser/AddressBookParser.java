@@ -19,6 +19,7 @@ import seedu.address.logic.commands.admin.LogoutCommand;
 import seedu.address.logic.commands.admin.RemoveAdminCommand;
 import seedu.address.logic.commands.admin.UpdatePasswordCommand;
 import seedu.address.logic.commands.job.AddJobCommand;
+import seedu.address.logic.commands.job.FindArchivedJobCommand;
 import seedu.address.logic.commands.job.FindJobCommand;
 import seedu.address.logic.commands.job.ListJobsCommand;
 import seedu.address.logic.commands.job.ManageJobCommand;
@@ -35,6 +36,7 @@ import seedu.address.logic.parser.admin.RemoveAdminCommandParser;
 import seedu.address.logic.parser.admin.UpdatePasswordCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.job.AddJobCommandParser;
+import seedu.address.logic.parser.job.FindArchivedJobCommandParser;
 import seedu.address.logic.parser.job.FindJobCommandParser;
 import seedu.address.logic.parser.job.ManageJobCommandParser;
 import seedu.address.logic.parser.job.RequestDeletionCommandParser;
@@ -141,6 +143,9 @@ public class AddressBookParser {
         case FindJobCommand.COMMAND_WORD:
             return new FindJobCommandParser().parse(arguments);
 
+        case FindArchivedJobCommand.COMMAND_WORD:
+            return new FindArchivedJobCommandParser().parse(arguments);
+
         case ListJobsCommand.COMMAND_WORD:
             return new ListJobsCommand();
 
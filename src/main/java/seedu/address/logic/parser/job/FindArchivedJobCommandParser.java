@@ -0,0 +1,67 @@
+package seedu.address.logic.parser.job;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_MONTH;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import seedu.address.logic.commands.job.FindArchivedJobCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindArchivedJobCommand object
+ */
+public class FindArchivedJobCommandParser implements Parser<FindArchivedJobCommand> {
+
+    public static final String MESSAGE_INVALID_MONTH = "Months should be given as YYYY-MM, e.g. 2018-10";
+    public static final String MESSAGE_INVALID_MONTH_RANGE = "The month to look from should not be after "
+        + "the month to look to";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindArchivedJobCommand
+     * and returns a FindArchivedJobCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindArchivedJobCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM_MONTH, PREFIX_TO_MONTH);
+        String trimmedKeywords = argMultimap.getPreamble().trim();
+        if (trimmedKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindArchivedJobCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameKeywords = trimmedKeywords.split("\\s+");
+        YearMonth from = parseMonth(argMultimap.getValue(PREFIX_FROM_MONTH));
+        YearMonth to = parseMonth(argMultimap.getValue(PREFIX_TO_MONTH));
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_MONTH_RANGE);
+        }
+
+        return new FindArchivedJobCommand(new JobNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)),
+                from, to);
+    }
+
+    /**
+     * Returns the month in {@code month}, or null if no month was given
+     * @throws ParseException if the month is not given as YYYY-MM
+     */
+    private static YearMonth parseMonth(Optional<String> month) throws ParseException {
+        if (!month.isPresent()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(month.get().trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_MONTH, e);
+        }
+    }
+
+}
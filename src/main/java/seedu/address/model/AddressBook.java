@@ -94,6 +94,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.machines.setMachines(machines);
     }
 
+    /**
+     * Replaces the contents of the machine list with {@code machines} without copying them.
+     * {@code machines} must not contain duplicate machines, and must not be used by anything else afterwards.
+     */
+    public void adoptMachines(List<Machine> machines) {
+        this.machines.adoptMachines(machines);
+    }
+
     /**
      * Replaces the contents of the admin list with {@code admins}.
      * {@code admins} must not contain duplicate admins
@@ -269,7 +277,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void flushMachine(Machine toFlushMachine) {
         requireNonNull(toFlushMachine);
-        toFlushMachine.flushMachine();
+        machines.flushMachine(toFlushMachine);
         EventsCenter.getInstance().post(new FocusMachineRequestEvent(new JobMachineTuple(null, toFlushMachine)));
 
     }
@@ -283,10 +291,18 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void cleanMachine(Machine toCleanMachine) {
         requireNonNull(toCleanMachine);
-        toCleanMachine.cleanMachine();
+        machines.cleanMachine(toCleanMachine);
         EventsCenter.getInstance().post(new FocusMachineRequestEvent(new JobMachineTuple(null, toCleanMachine)));
     }
 
+    /**
+     * Removes the finished, cancelled and deleting jobs last worked on before {@code millis} from every machine,
+     * and returns the jobs that were removed
+     */
+    public List<Job> removeJobsCompletedBefore(long millis) {
+        return machines.removeJobsCompletedBefore(millis);
+    }
+
     /**
      * Replaces the given Machine {@code target} in the list with {@code editedMachine}.
      * {@code target} must exist in the address book.
@@ -328,12 +344,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasJob(Job job) {
         requireNonNull(job);
-        for (Machine machine : getMachineList()) {
-            if (machine.hasJob(job)) {
-                return true;
-            }
-        }
-        return false;
+        return machines.containsJob(job.getJobName());
     }
 
     /**
@@ -362,18 +373,28 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     }
 
+    /**
+     * Adds a job to the chosen machine list without asking the UI to focus on the machine
+     */
+    void addJobWithoutFocus(Job jobToAdd) {
+        requireNonNull(jobToAdd);
+        machines.addJobWithoutFocus(jobToAdd);
+    }
+
+    /**
+     * Removes the job named {@code job} without asking the UI to focus on its machine
+     */
+    void removeJobWithoutFocus(JobName job) {
+        requireNonNull(job);
+        machines.removeJobWithoutFocus(job);
+    }
+
     /**
      * Returns the job, if present, according to JobName
      */
     public JobMachineTuple findJob(JobName name) {
         requireNonNull(name);
-        for (Machine machine : getMachineList()) {
-            Job jobToFind = machine.findJob(name);
-            if (!(jobToFind == null)) {
-                return new JobMachineTuple(jobToFind, machine);
-            }
-        }
-        return null;
+        return machines.findJob(name);
     }
 
     /**
@@ -385,6 +406,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
 
+    /**
+     * Overwrites the job with the same name as {@code savedJob} with the state of {@code savedJob}
+     */
+    public void restoreJob(Job savedJob) {
+        requireNonNull(savedJob);
+        machines.restoreJob(savedJob);
+    }
+
     /**
      * Starts the job
      * Job Must exist in AddressBook else throws nullpointer exception
@@ -397,12 +426,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (target.machine.getStatus() == MachineStatus.DISABLED) {
             throw new MachineDisabledException();
         }
-        if (target.machine.getJobs().stream().anyMatch(job -> job.getStatus() == Status.ONGOING)) {
+        if (target.machine.hasOngoingJob()) {
             throw new JobOngoingException();
         }
-        target.job.startJob();
-        target.machine.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(target));
+        JobMachineTuple changed = machines.changeJobStatus(target, Job::startJob);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(changed));
     }
 
     /**
@@ -413,9 +441,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void cancelJob(JobName name) {
         requireNonNull(name);
         JobMachineTuple target = findJob(name);
-        target.job.cancelJob();
-        target.machine.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(target));
+        JobMachineTuple changed = machines.changeJobStatus(target, Job::cancelJob);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(changed));
     }
 
     /**
@@ -426,9 +453,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void restartJob(JobName name) {
         requireNonNull(name);
         JobMachineTuple target = findJob(name);
-        target.job.restartJob();
-        target.machine.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(target));
+        JobMachineTuple changed = machines.changeJobStatus(target, Job::restartJob);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(changed));
     }
 
     /**
@@ -436,6 +462,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Swaps the jobs with the given jobnames
      */
     public void swapJobs(JobName jobName1, JobName jobName2) {
+        JobMachineTuple focused = swapJobsWithoutFocus(jobName1, jobName2);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(focused));
+    }
+
+    /**
+     * Swaps the jobs with the given jobnames without asking the UI to focus on a machine,
+     * and returns the second job with the machine it was on before the swap
+     */
+    JobMachineTuple swapJobsWithoutFocus(JobName jobName1, JobName jobName2) {
         JobMachineTuple mj1 = findJob(jobName1);
         JobMachineTuple mj2 = findJob(jobName2);
         if (mj1 == null || mj2 == null) {
@@ -444,11 +479,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (mj1.job.getStatus() == Status.ONGOING || mj1.job.getStatus() == Status.ONGOING) {
             throw new JobOngoingException();
         }
-        mj1.machine.replaceJob(mj1.job, mj2.job);
-        mj2.machine.replaceJob(mj2.job, mj1.job);
-        mj1.machine.reSortJobList();
-        mj2.machine.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(mj2));
+        machines.swapJobs(mj1, mj2);
+        return mj2;
     }
 
     /**
@@ -456,6 +488,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Moves the job with the given jobnames to the machine with the give Machine Name
      */
     public void moveJob(JobName jobName, MachineName targetMachineName)
+        throws JobNotFoundException, MachineNotFoundException {
+        JobMachineTuple moved = moveJobWithoutFocus(jobName, targetMachineName);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(moved));
+    }
+
+    /**
+     * Moves the job with the given jobname to the machine with the given machine name
+     * without asking the UI to focus on the machine, and returns the job with the machine it was moved to
+     */
+    JobMachineTuple moveJobWithoutFocus(JobName jobName, MachineName targetMachineName)
         throws JobNotFoundException, MachineNotFoundException {
         JobMachineTuple targetJobAndMachine = findJob(jobName);
         if (targetJobAndMachine == null) {
@@ -468,16 +510,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (targetMachine == null) {
             throw new MachineNotFoundException();
         }
-        //removing job from old machine
-        targetJobAndMachine.machine.removeJob(targetJobAndMachine.job);
-        targetJobAndMachine.machine.reSortJobList();
-        //updating job
-        targetJobAndMachine.job.setMachine(targetMachine.getName());
-        //adding to new Machine
-        targetMachine.addJob(targetJobAndMachine.job);
-        targetMachine.reSortJobList();
-        EventsCenter.getInstance()
-            .post(new FocusMachineRequestEvent(new JobMachineTuple(targetJobAndMachine.job, targetMachine)));
+        return machines.moveJob(targetJobAndMachine, targetMachine);
     }
 
     /**
@@ -485,6 +518,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      * shifts the order job with the given jobname within a machine
      */
     public void shiftJob(JobName jobName, int shiftBy) {
+        JobMachineTuple shifted = shiftJobWithoutFocus(jobName, shiftBy);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(shifted));
+    }
+
+    /**
+     * Shifts the job with the given jobname within its machine without asking the UI to focus on the machine,
+     * and returns the job with its machine
+     */
+    JobMachineTuple shiftJobWithoutFocus(JobName jobName, int shiftBy) {
         JobMachineTuple targetJobAndMachine = findJob(jobName);
         if (targetJobAndMachine == null) {
             throw new JobNotFoundException();
@@ -494,8 +536,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
         //shifting
         targetJobAndMachine.machine.shift(targetJobAndMachine.job, shiftBy);
-        targetJobAndMachine.machine.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(targetJobAndMachine));
+        return targetJobAndMachine;
     }
 
     /**
@@ -505,9 +546,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void finishJob(JobMachineTuple target) {
         requireNonNull(target);
-        target.job.finishJob();
-        target.machine.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(target));
+        JobMachineTuple finished = machines.changeJobStatus(target, Job::finishJob);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(finished));
     }
 
     /**
@@ -515,9 +555,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void requestDeletion(JobName jobName) {
         JobMachineTuple toRequestDelete = findJob(jobName);
-        toRequestDelete.job.setStatus(Status.DELETING);
-        toRequestDelete.machine.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(toRequestDelete));
+        JobMachineTuple changed = machines.changeJobStatus(toRequestDelete, job -> job.setStatus(Status.DELETING));
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(changed));
     }
 
     public int getTotalNumberOfStoredJobs() {
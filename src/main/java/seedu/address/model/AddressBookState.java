@@ -0,0 +1,145 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.AdminSession;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+
+/**
+ * A snapshot of an {@code AddressBook} in the history of a {@code VersionedAddressBook}.
+ *
+ * Persons, admins and jobs are never changed in place, so the snapshot only keeps references to them.
+ * Machines are changed in place, so the snapshot keeps a private copy of each machine that holds the same jobs,
+ * but a machine that has not changed since the previous snapshot shares that snapshot's copy.
+ * The copies must never be changed or handed out to a live address book.
+ */
+class AddressBookState implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Admin> admins;
+    private final List<MachineState> machineStates;
+    private final ObservableList<Machine> machines;
+    private final AdminSession adminSession = new AdminSession();
+
+    /**
+     * Takes a snapshot of {@code current}, sharing the machine copies of {@code previous}
+     * for machines that have not changed since {@code previous} was taken or restored.
+     *
+     * @param previous the snapshot {@code current} was last taken from or restored to, or null if there is none
+     */
+    AddressBookState(ReadOnlyAddressBook current, AddressBookState previous) {
+        persons = FXCollections.unmodifiableObservableList(
+            FXCollections.observableArrayList(current.getPersonList()));
+        admins = FXCollections.unmodifiableObservableList(
+            FXCollections.observableArrayList(current.getAdminList()));
+        if (current.getAdminSession().isAdminLoggedIn()) {
+            adminSession.setLogin(current.getAdminSession().getLoggedInAdmin());
+        }
+
+        Map<Machine, MachineState> previousStates = new IdentityHashMap<>();
+        if (previous != null) {
+            previous.machineStates.forEach(state -> previousStates.put(state.source, state));
+        }
+        machineStates = new ArrayList<>();
+        List<Machine> copies = new ArrayList<>();
+        for (Machine machine : current.getMachineList()) {
+            MachineState state = previousStates.get(machine);
+            if (state == null || !state.isUnchangedSince()) {
+                state = new MachineState(machine);
+            }
+            machineStates.add(state);
+            copies.add(state.copy);
+        }
+        machines = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(copies));
+    }
+
+    /**
+     * Returns machines holding the data of this snapshot, to be adopted by the live address book.
+     * Machines that have not changed since they were captured are returned as they are,
+     * the other ones are copied again from this snapshot.
+     */
+    List<Machine> restoreMachines() {
+        List<Machine> restored = new ArrayList<>();
+        for (MachineState state : machineStates) {
+            restored.add(state.restore());
+        }
+        return restored;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Admin> getAdminList() {
+        return admins;
+    }
+
+    @Override
+    public ObservableList<Machine> getMachineList() {
+        return machines;
+    }
+
+    @Override
+    public AdminSession getAdminSession() {
+        return adminSession;
+    }
+
+    @Override
+    public int getTotalNumberOfStoredJobs() {
+        return machines.stream().mapToInt(machine -> machine.getJobs().size()).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AddressBookState // instanceof handles nulls
+            && persons.equals(((AddressBookState) other).persons)
+            && admins.equals(((AddressBookState) other).admins)
+            && machines.equals(((AddressBookState) other).machines));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    /**
+     * A private copy of a machine, together with the live machine it currently stands for
+     * and the version that live machine had when the two last held the same data
+     */
+    private static class MachineState {
+        private final Machine copy;
+        private Machine source;
+        private long sourceVersion;
+
+        MachineState(Machine source) {
+            this.copy = Machine.copySharingJobs(source);
+            bind(source);
+        }
+
+        boolean isUnchangedSince() {
+            return source.getVersion() == sourceVersion;
+        }
+
+        Machine restore() {
+            if (!isUnchangedSince()) {
+                bind(Machine.copySharingJobs(copy));
+            }
+            return source;
+        }
+
+        private void bind(Machine machine) {
+            source = machine;
+            sourceVersion = machine.getVersion();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package seedu.address.model;
+
+/**
+ * The kinds of data of an {@code AddressBook} that are stored in files of their own,
+ * so that a change to one of them only needs that file to be written again.
+ */
+public enum DataSection {
+    PERSONS, MACHINES, ADMINS
+}
@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Periodically hands the time before which finished jobs should be archived to a callback.
+ *
+ * The first run is shortly after the scheduler is started, so jobs that aged while the application was closed
+ * are archived soon after it opens, and further runs follow every {@code ARCHIVE_PERIOD_MILLIS}.
+ */
+class JobArchiveScheduler {
+
+    static final long FIRST_ARCHIVE_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    static final long ARCHIVE_PERIOD_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final Logger logger = LogsCenter.getLogger(JobArchiveScheduler.class);
+
+    private final ScheduledExecutorService executor;
+    private final Clock clock;
+    private final long archiveAgeMillis;
+    private final LongConsumer onArchiveDue;
+    // guarded by this
+    private ScheduledFuture<?> timer;
+
+    /**
+     * @param executor runs the periodic timer, and the callback each time it is due
+     * @param clock the clock that the age of finished jobs is measured by
+     * @param archiveAgeMillis how long a job must have been finished before it is archived
+     * @param onArchiveDue called with the time, in milliseconds since the epoch, before which finished jobs
+     *                     are to be archived
+     */
+    JobArchiveScheduler(ScheduledExecutorService executor, Clock clock, long archiveAgeMillis,
+                        LongConsumer onArchiveDue) {
+        requireNonNull(executor);
+        requireNonNull(clock);
+        requireNonNull(onArchiveDue);
+        this.executor = executor;
+        this.clock = clock;
+        this.archiveAgeMillis = archiveAgeMillis;
+        this.onArchiveDue = onArchiveDue;
+    }
+
+    /**
+     * Starts archiving periodically, unless already started
+     */
+    public synchronized void start() {
+        if (timer == null) {
+            timer = executor.scheduleAtFixedRate(this::fire, FIRST_ARCHIVE_DELAY_MILLIS, ARCHIVE_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops archiving until started again
+     */
+    public synchronized void stop() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+    }
+
+    public synchronized boolean isStarted() {
+        return timer != null;
+    }
+
+    private void fire() {
+        try {
+            onArchiveDue.accept(clock.millis() - archiveAgeMillis);
+        } catch (RuntimeException e) {
+            // an exception would cancel all further runs
+            logger.warning("Failed to archive finished jobs: " + e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+
+/**
+ * Wakes up when an ONGOING job is expected to finish, and hands the name of that job to a callback.
+ *
+ * One timer is kept per ONGOING job, keyed on the job's name and due at its start time plus its duration.
+ * Nothing runs while no job is ONGOING. The callback has to check that the job is still ONGOING
+ * and due when it is called, as a job may have changed since it was scheduled.
+ * The timers run on the given executor and are timed by the given clock, so tests can move time on by hand.
+ */
+class JobFinishScheduler {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    private static ScheduledExecutorService sharedExecutor;
+
+    private final ScheduledExecutorService executor;
+    private final Clock clock;
+    private final Consumer<JobName> onJobDue;
+    // guarded by this
+    private final Map<JobName, Deadline> deadlines = new HashMap<>();
+
+    /**
+     * @param executor runs the timers, and the callback when a timer is due
+     * @param clock the clock that the finish times of jobs are compared against
+     */
+    JobFinishScheduler(ScheduledExecutorService executor, Clock clock, Consumer<JobName> onJobDue) {
+        requireNonNull(executor);
+        requireNonNull(clock);
+        requireNonNull(onJobDue);
+        this.executor = executor;
+        this.clock = clock;
+        this.onJobDue = onJobDue;
+    }
+
+    /**
+     * Returns the executor that runs the timers of every model in this process. It has a single daemon thread,
+     * which is started when a timer is scheduled and stops after being idle for a while, and it drops timers
+     * as soon as they are cancelled.
+     */
+    static synchronized ScheduledExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "Model timers");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            executor.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+            executor.allowCoreThreadTimeOut(true);
+            sharedExecutor = executor;
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * Schedules {@code job} to be handed to the callback when it is due to finish if it is ONGOING,
+     * replacing any earlier timer of a job with the same name, or drops that timer if it is not ONGOING
+     */
+    public synchronized void schedule(Job job) {
+        requireNonNull(job);
+        cancel(job.getJobName());
+        if (job.getStatus() != Status.ONGOING) {
+            return;
+        }
+
+        Deadline deadline = new Deadline(job.getJobName());
+        long delay = Math.max(0, job.getFinishTime() - clock.millis());
+        deadline.timer = executor.schedule(() -> fire(deadline), delay, TimeUnit.MILLISECONDS);
+        deadlines.put(deadline.name, deadline);
+    }
+
+    /**
+     * Drops the timer of the job named {@code name}, if there is one
+     */
+    public synchronized void cancel(JobName name) {
+        requireNonNull(name);
+        Deadline deadline = deadlines.remove(name);
+        if (deadline != null) {
+            deadline.timer.cancel(false);
+        }
+    }
+
+    /**
+     * Drops every timer and schedules the ONGOING jobs of {@code machines} again,
+     * e.g. after the jobs have been replaced by undo or redo
+     */
+    public synchronized void rescheduleAll(Iterable<Machine> machines) {
+        requireNonNull(machines);
+        deadlines.values().forEach(deadline -> deadline.timer.cancel(false));
+        deadlines.clear();
+        for (Machine machine : machines) {
+            for (Job job : machine.getJobs()) {
+                if (job.getStatus() == Status.ONGOING) {
+                    schedule(job);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of jobs that are waiting to finish
+     */
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private void fire(Deadline deadline) {
+        synchronized (this) {
+            // a deadline that has been replaced or dropped while it was firing is stale
+            if (!deadlines.remove(deadline.name, deadline)) {
+                return;
+            }
+        }
+        onJobDue.accept(deadline.name);
+    }
+
+    /**
+     * The pending timer of one ONGOING job
+     */
+    private static class Deadline {
+        private final JobName name;
+        private ScheduledFuture<?> timer;
+
+        Deadline(JobName name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Describes a single change made to the jobs of an {@code AddressBook},
+ * so that the change can be recorded and applied again to an earlier copy of the data.
+ */
+public class JobMutation {
+
+    /**
+     * The kinds of job changes that can be described
+     */
+    public enum Kind {
+        ADD, UPDATE, MOVE, SWAP, SHIFT, REMOVE
+    }
+
+    private final Kind kind;
+    private final Job job;
+    private final JobName jobName;
+    private final JobName otherJobName;
+    private final MachineName machineName;
+    private final int shiftBy;
+
+    private JobMutation(Kind kind, Job job, JobName jobName, JobName otherJobName, MachineName machineName,
+                        int shiftBy) {
+        this.kind = kind;
+        this.job = job;
+        this.jobName = jobName;
+        this.otherJobName = otherJobName;
+        this.machineName = machineName;
+        this.shiftBy = shiftBy;
+    }
+
+    /**
+     * Returns a mutation that adds {@code job} to the queue of its machine
+     */
+    public static JobMutation jobAdded(Job job) {
+        requireNonNull(job);
+        return new JobMutation(Kind.ADD, new Job(job), job.getJobName(), null, null, 0);
+    }
+
+    /**
+     * Returns a mutation that overwrites the job with the same name with the current state of {@code job},
+     * e.g. after its status has changed
+     */
+    public static JobMutation jobUpdated(Job job) {
+        requireNonNull(job);
+        return new JobMutation(Kind.UPDATE, new Job(job), job.getJobName(), null, null, 0);
+    }
+
+    /**
+     * Returns a mutation that moves the job named {@code jobName} to the machine named {@code machineName}
+     */
+    public static JobMutation jobMoved(JobName jobName, MachineName machineName) {
+        requireNonNull(jobName);
+        requireNonNull(machineName);
+        return new JobMutation(Kind.MOVE, null, jobName, null, machineName, 0);
+    }
+
+    /**
+     * Returns a mutation that swaps the jobs named {@code jobName} and {@code otherJobName}
+     */
+    public static JobMutation jobsSwapped(JobName jobName, JobName otherJobName) {
+        requireNonNull(jobName);
+        requireNonNull(otherJobName);
+        return new JobMutation(Kind.SWAP, null, jobName, otherJobName, null, 0);
+    }
+
+    /**
+     * Returns a mutation that shifts the job named {@code jobName} by {@code shiftBy} places in its queue
+     */
+    public static JobMutation jobShifted(JobName jobName, int shiftBy) {
+        requireNonNull(jobName);
+        return new JobMutation(Kind.SHIFT, null, jobName, null, null, shiftBy);
+    }
+
+    /**
+     * Returns a mutation that removes the job named {@code jobName}
+     */
+    public static JobMutation jobRemoved(JobName jobName) {
+        requireNonNull(jobName);
+        return new JobMutation(Kind.REMOVE, null, jobName, null, null, 0);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the job carried by ADD and UPDATE mutations, or null for the other kinds
+     */
+    public Job getJob() {
+        return job;
+    }
+
+    public JobName getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the second job of a SWAP mutation, or null for the other kinds
+     */
+    public JobName getOtherJobName() {
+        return otherJobName;
+    }
+
+    /**
+     * Returns the target machine of a MOVE mutation, or null for the other kinds
+     */
+    public MachineName getMachineName() {
+        return machineName;
+    }
+
+    public int getShiftBy() {
+        return shiftBy;
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     * No events are raised, as the change is only being replayed on data that nothing is showing yet.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        switch (kind) {
+        case ADD:
+            addressBook.addJobWithoutFocus(new Job(job));
+            break;
+        case UPDATE:
+            addressBook.restoreJob(job);
+            break;
+        case MOVE:
+            addressBook.moveJobWithoutFocus(jobName, machineName);
+            break;
+        case SWAP:
+            addressBook.swapJobsWithoutFocus(jobName, otherJobName);
+            break;
+        case SHIFT:
+            addressBook.shiftJobWithoutFocus(jobName, shiftBy);
+            break;
+        case REMOVE:
+            addressBook.removeJobWithoutFocus(jobName);
+            break;
+        default:
+            throw new AssertionError("Unknown job mutation " + kind);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof JobMutation)) {
+            return false;
+        }
+
+        JobMutation otherMutation = (JobMutation) other;
+        return kind == otherMutation.kind
+            && Objects.equals(job, otherMutation.job)
+            && jobName.equals(otherMutation.jobName)
+            && Objects.equals(otherJobName, otherMutation.otherJobName)
+            && Objects.equals(machineName, otherMutation.machineName)
+            && shiftBy == otherMutation.shiftBy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, jobName, otherJobName, machineName, shiftBy);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + jobName;
+    }
+}
@@ -1,5 +1,10 @@
 package seedu.address.model;
 
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -33,6 +38,19 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Makes {@code change} on the thread that changes the model, after the changes submitted before it,
+     * and returns a future that completes with its result, or with what it threw.
+     * Changes are made this way so that the model is never changed by two threads at once.
+     */
+    <T> CompletableFuture<T> submit(Callable<T> change);
+
+    /**
+     * Returns the data of the model as it was after the last change submitted, which is never changed
+     * and can be read from any thread.
+     */
+    ModelSnapshot getSnapshot();
+
     // ============================== Person methods ======================================= //
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
@@ -98,8 +116,6 @@ public interface Model {
 
     int getTotalNumberOfJobsDisplayed();
 
-    void moveJobToMachine(Job job, Machine targetMachine);
-
     void autoMoveJobsDuringFlush(Machine currentMachine) throws CommandException;
 
     // ============================== Machine methods ======================================= //
@@ -139,6 +155,13 @@ public interface Model {
      */
 
     void cleanMachine(Machine toCleanMachine);
+
+    /**
+     * Returns the jobs in the job archive that match {@code predicate} and were last worked on
+     * in the months from {@code from} to {@code to}, both included. Either month may be null to leave it open.
+     * @throws IOException if the job archive could not be read.
+     */
+    List<Job> findArchivedJobs(Predicate<Job> predicate, YearMonth from, YearMonth to) throws IOException;
     /**
      * Replaces the given machine {@code target} with {@code editedMachine}.
      * {@code target} must exist in the Model.
@@ -4,9 +4,20 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.machine.ManageMachineCommand.MESSAGE_NO_MORE_MACHINES;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -19,7 +30,18 @@ import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
+import seedu.address.commons.events.model.JobAddedEvent;
+import seedu.address.commons.events.model.JobMovedEvent;
+import seedu.address.commons.events.model.JobRemovedEvent;
+import seedu.address.commons.events.model.JobShiftedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
+import seedu.address.commons.events.model.JobsArchivedEvent;
+import seedu.address.commons.events.model.JobsSwappedEvent;
+import seedu.address.commons.events.model.MachineAddedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.model.MachineRemovedEvent;
+import seedu.address.commons.events.model.MachineStatusChangedEvent;
+import seedu.address.commons.events.model.ModelSnapshotPublishedEvent;
 import seedu.address.commons.events.ui.AdminLoginEvent;
 import seedu.address.commons.events.ui.AdminLogoutEvent;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -28,16 +50,20 @@ import seedu.address.model.admin.Username;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobName;
 import seedu.address.model.job.Status;
-import seedu.address.model.job.exceptions.JobNotStartedException;
 import seedu.address.model.job.exceptions.JobOngoingException;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
 import seedu.address.model.machine.exceptions.MachineNotFoundException;
 import seedu.address.model.person.Person;
 
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * Changes are made one at a time on the thread of a {@link ModelWriter}, including the ones made when a job is due
+ * to finish or finished jobs are due to be archived. After each change, a {@link ModelSnapshot} of the data is
+ * published, which any other thread can read without locking.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -46,25 +72,56 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Admin> filteredAdmins;
     private final FilteredList<Machine> filteredMachines;
+    private final Clock clock;
+    private final JobFinishScheduler jobFinishScheduler;
+    private final JobArchiveScheduler jobArchiveScheduler;
+    private ReadOnlyJobArchive jobArchive = ReadOnlyJobArchive.EMPTY;
+    // sections changed since they were last reported, which are reported at the next commit
+    private final Set<DataSection> unsavedSections = EnumSet.noneOf(DataSection.class);
+    private final ModelWriter writer = new ModelWriter(this::publishSnapshot);
+    private volatile ModelSnapshot snapshot;
+    // the copies of the machines in the last snapshot, which are used again while their machine is unchanged
+    private Map<Machine, SnapshotMachine> snapshotMachines = new IdentityHashMap<>();
 
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) {
+        this(addressBook, userPrefs, JobFinishScheduler.getSharedExecutor(), Clock.systemUTC());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which finishes and archives jobs
+     * when they are due by {@code clock}, using timers run on {@code timerExecutor}
+     */
+    ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs, ScheduledExecutorService timerExecutor,
+                 Clock clock) {
+        this(new VersionedAddressBook(requireNonNull(addressBook)), userPrefs, timerExecutor, clock);
+    }
+
+    private ModelManager(VersionedAddressBook versionedAddressBook, UserPrefs userPrefs,
+                         ScheduledExecutorService timerExecutor, Clock clock) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(versionedAddressBook, userPrefs, timerExecutor, clock);
 
-        logger.fine(
-            "Initializing with address book: " + addressBook + " and user prefs " + userPrefs + "and initial admin");
+        logger.fine("Initializing with address book: " + versionedAddressBook + " and user prefs " + userPrefs
+            + "and initial admin");
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        this.versionedAddressBook = versionedAddressBook;
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredMachines = new FilteredList<>(versionedAddressBook.getMachineList());
         filteredAdmins = new FilteredList<>(versionedAddressBook.getAdminList());
 
-        Timer refreshTimer = refreshUiTimer();
-
+        this.clock = clock;
+        jobFinishScheduler = new JobFinishScheduler(timerExecutor, clock,
+            name -> submitChange(() -> finishJobIfDue(name)));
+        jobFinishScheduler.rescheduleAll(versionedAddressBook.getMachineList());
+        jobArchiveScheduler = userPrefs.getJobArchiveAgeDays() > 0
+            ? new JobArchiveScheduler(timerExecutor, clock, TimeUnit.DAYS.toMillis(userPrefs.getJobArchiveAgeDays()),
+                millis -> submitChange(() -> archiveJobsCompletedBefore(millis)))
+            : null;
+        snapshot = takeSnapshot();
     }
 
     public ModelManager() {
@@ -72,42 +129,129 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Helps refresh the Ui and show changes instantaneously
-     * @return
+     * Returns a ModelManager that takes over the data of {@code addressBook} instead of copying it,
+     * e.g. for data that has just been read from storage.
+     * {@code addressBook} must not be used by anything else afterwards.
      */
-    private Timer refreshUiTimer() {
-        // Timer for auto print cleanup
-
-        // credit: https://dzone.com/articles/how-schedule-task-run-interval
-        TimerTask task = new TimerTask() {
-            @Override
-            public void run() {
-                for (Machine machine : versionedAddressBook.getMachineList()) {
-                    for (Job job : machine.getJobs()) {
-                        try {
-                            if (job.getStatus() == Status.ONGOING && job.isFinished()) {
-                                finishJob(new JobMachineTuple(job, machine));
-                            }
-                        } catch (JobNotStartedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                }
-            }
-        };
+    public static ModelManager adopt(AddressBook addressBook, UserPrefs userPrefs) {
+        requireNonNull(addressBook);
+        return new ModelManager(VersionedAddressBook.adopt(addressBook), userPrefs,
+            JobFinishScheduler.getSharedExecutor(), Clock.systemUTC());
+    }
+
+    /**
+     * Finishes the job named {@code name} if it is ONGOING and its duration has passed.
+     * Called by the {@code jobFinishScheduler} when the job is due.
+     */
+    private void finishJobIfDue(JobName name) {
+        JobMachineTuple target = versionedAddressBook.findJob(name);
+        if (target == null || target.job.getStatus() != Status.ONGOING) {
+            return;
+        }
+        if (target.job.getFinishTime() > clock.millis()) {
+            jobFinishScheduler.schedule(target.job);
+            return;
+        }
+        finishJob(target);
+    }
 
-        Timer timer = new Timer();
-        long delay = 1000;
-        long intervalPeriod = 1000;
-        timer.scheduleAtFixedRate(task, delay, intervalPeriod);
+    /**
+     * Sets the job archive that finished jobs are kept in once they have been taken out of the machines,
+     * and starts archiving them if {@code UserPrefs} asks for it.
+     * Until this is called, no job is archived and the job archive is empty.
+     */
+    public void setJobArchive(ReadOnlyJobArchive jobArchive) {
+        requireNonNull(jobArchive);
+        this.jobArchive = jobArchive;
+        if (jobArchiveScheduler != null) {
+            jobArchiveScheduler.start();
+        }
+    }
 
-        return timer;
+    /**
+     * Takes the finished, cancelled and deleting jobs that were last worked on before {@code millis} out of
+     * the machines, and raises a {@link JobsArchivedEvent} for them to be kept in the job archive.
+     * This is not an undoable change, so no state is committed.
+     * Called by the {@code jobArchiveScheduler} when archiving is due.
+     */
+    void archiveJobsCompletedBefore(long millis) {
+        List<Job> archivedJobs = versionedAddressBook.removeJobsCompletedBefore(millis);
+        if (archivedJobs.isEmpty()) {
+            return;
+        }
+        logger.info("Archiving " + archivedJobs.size() + " finished jobs");
+        // the jobs are handed to the archive before the machines without them are saved
+        raise(new JobsArchivedEvent(archivedJobs));
+        indicateMachineListChanged();
+        archivedJobs.forEach(job -> raise(new JobRemovedEvent(job.getJobName(), job.getMachineName())));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> change) {
+        return writer.submit(change);
+    }
+
+    /**
+     * Makes {@code change} on the writer thread, logging anything it throws as there is no one to report it to
+     */
+    private void submitChange(Runnable change) {
+        writer.submit(() -> {
+            change.run();
+            return null;
+        }).exceptionally(e -> {
+            logger.severe("Failed to change the model: " + e);
+            return null;
+        });
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Takes a snapshot of the data after a change made on the writer thread, and publishes it
+     */
+    private void publishSnapshot() {
+        snapshot = takeSnapshot();
+        raise(new ModelSnapshotPublishedEvent(snapshot));
+    }
+
+    /**
+     * Returns a snapshot of the current data, which copies only the machines changed since the last snapshot.
+     * The copies share the jobs of the live machines, as jobs are replaced rather than changed in place.
+     */
+    private ModelSnapshot takeSnapshot() {
+        Map<Machine, SnapshotMachine> copies = new IdentityHashMap<>();
+        List<Machine> machines = new ArrayList<>();
+        for (Machine machine : versionedAddressBook.getMachineList()) {
+            SnapshotMachine copy = snapshotMachines.get(machine);
+            if (copy == null || !copy.isUpToDateWith(machine)) {
+                copy = new SnapshotMachine(machine);
+            }
+            copies.put(machine, copy);
+            machines.add(copy.machine);
+        }
+        snapshotMachines = copies;
+
+        List<Machine> shownMachines = new ArrayList<>();
+        for (Machine machine : filteredMachines) {
+            shownMachines.add(copies.get(machine).machine);
+        }
+        return new ModelSnapshot(versionedAddressBook.getPersonList(), versionedAddressBook.getAdminList(), machines,
+            filteredPersons, filteredAdmins, shownMachines, versionedAddressBook.currentlyLoggedIn());
     }
 
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
+        boolean isSameAdmins = versionedAddressBook.getAdminList().equals(newData.getAdminList());
         versionedAddressBook.resetData(newData);
-        indicateAddressBookChanged();
+        jobFinishScheduler.rescheduleAll(versionedAddressBook.getMachineList());
+        markChanged(DataSection.PERSONS);
+        markChanged(DataSection.MACHINES);
+        if (!isSameAdmins) {
+            markChanged(DataSection.ADMINS);
+        }
     }
 
     @Override
@@ -115,6 +259,30 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook;
     }
 
+    /**
+     * Records that {@code section} has been changed, to be reported when the change is committed
+     */
+    private void markChanged(DataSection section) {
+        unsavedSections.add(section);
+    }
+
+    /**
+     * Raises an event for each section changed since it was last reported, and only for those,
+     * so only the files of those sections are written again
+     */
+    private void indicateUnsavedSectionsChanged() {
+        if (unsavedSections.contains(DataSection.PERSONS)) {
+            indicateAddressBookChanged();
+        }
+        if (unsavedSections.contains(DataSection.MACHINES)) {
+            indicateMachineListChanged();
+        }
+        if (unsavedSections.contains(DataSection.ADMINS)) {
+            indicateAdminListChanged();
+        }
+        unsavedSections.clear();
+    }
+
     /**
      * Raises an event to indicate the model has changed
      */
@@ -136,6 +304,35 @@ public class ModelManager extends ComponentManager implements Model {
         raise(new MachineListChangedEvent(versionedAddressBook));
     }
 
+    /**
+     * Raises an event to indicate the model has changed through {@code mutation}
+     */
+    private void indicateMachineListChanged(JobMutation mutation) {
+        raise(new MachineListChangedEvent(versionedAddressBook, mutation));
+    }
+
+    /**
+     * Raises events to indicate the status of the job named {@code name} has changed
+     */
+    private void indicateJobStatusChanged(JobName name) {
+        JobMachineTuple target = versionedAddressBook.findJob(name);
+        indicateMachineListChanged(JobMutation.jobUpdated(target.job));
+        raise(new JobStatusChangedEvent(name, target.machine.getName(), target.job.getStatus()));
+    }
+
+    /**
+     * Raises a {@link JobRemovedEvent} for each job of {@code jobsBefore} that is no longer in {@code machine}
+     */
+    private void indicateJobsRemoved(Machine machine, List<Job> jobsBefore) {
+        Set<Job> remainingJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+        remainingJobs.addAll(machine.getJobs());
+        for (Job job : jobsBefore) {
+            if (!remainingJobs.contains(job)) {
+                raise(new JobRemovedEvent(job.getJobName(), machine.getName()));
+            }
+        }
+    }
+
     // ============================== Person methods ======================================= //
     @Override
     public boolean hasPerson(Person person) {
@@ -146,21 +343,21 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deletePerson(Person target) {
         versionedAddressBook.removePerson(target);
-        indicateAddressBookChanged();
+        markChanged(DataSection.PERSONS);
     }
 
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        indicateAddressBookChanged();
+        markChanged(DataSection.PERSONS);
     }
 
     @Override
     public void updatePerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         versionedAddressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+        markChanged(DataSection.PERSONS);
     }
 
     // ============================== Job related methods ======================================= //
@@ -175,21 +372,25 @@ public class ModelManager extends ComponentManager implements Model {
     public void addJob(Job job) {
         requireAllNonNull(job);
         versionedAddressBook.addJobToMachineList(job);
-        indicateMachineListChanged();
+        indicateMachineListChanged(JobMutation.jobAdded(job));
+        raise(new JobAddedEvent(job.getJobName(), job.getMachineName()));
     }
 
     @Override
     public void deleteJob(JobName job) {
         requireAllNonNull(job);
+        JobMachineTuple target = versionedAddressBook.findJob(job);
         versionedAddressBook.removeJob(job);
-        indicateMachineListChanged();
+        jobFinishScheduler.cancel(job);
+        indicateMachineListChanged(JobMutation.jobRemoved(job));
+        raise(new JobRemovedEvent(job, target.machine.getName()));
     }
 
     @Override
     public void updateJob(Job oldJob, Job updatedJob) {
         requireAllNonNull(oldJob, updatedJob);
         versionedAddressBook.updateJob(oldJob, updatedJob);
-        indicateMachineListChanged();
+        markChanged(DataSection.MACHINES);
     }
 
 
@@ -209,51 +410,64 @@ public class ModelManager extends ComponentManager implements Model {
     public void startJob(JobName name) {
         requireNonNull(name);
         versionedAddressBook.startJob(name);
-        indicateMachineListChanged();
+        jobFinishScheduler.schedule(versionedAddressBook.findJob(name).job);
+        indicateJobStatusChanged(name);
     }
 
     @Override
     public void cancelJob(JobName name) {
         requireAllNonNull();
         versionedAddressBook.cancelJob(name);
-        indicateMachineListChanged();
+        jobFinishScheduler.cancel(name);
+        indicateJobStatusChanged(name);
     }
 
     @Override
     public void restartJob(JobName name) {
         requireAllNonNull();
         versionedAddressBook.restartJob(name);
-        indicateMachineListChanged();
+        jobFinishScheduler.schedule(versionedAddressBook.findJob(name).job);
+        indicateJobStatusChanged(name);
     }
 
     @Override
     public void swapJobs(JobName jobName1, JobName jobName2) {
+        JobMachineTuple target1 = versionedAddressBook.findJob(jobName1);
+        JobMachineTuple target2 = versionedAddressBook.findJob(jobName2);
         versionedAddressBook.swapJobs(jobName1, jobName2);
-        indicateMachineListChanged();
+        indicateMachineListChanged(JobMutation.jobsSwapped(jobName1, jobName2));
+        raise(new JobsSwappedEvent(jobName1, target1.machine.getName(), jobName2, target2.machine.getName()));
     }
 
     @Override
     public void moveJob(JobName jobName, MachineName targetMachineName) {
+        JobMachineTuple target = versionedAddressBook.findJob(jobName);
         versionedAddressBook.moveJob(jobName, targetMachineName);
-        indicateMachineListChanged();
+        jobFinishScheduler.schedule(versionedAddressBook.findJob(jobName).job);
+        indicateMachineListChanged(JobMutation.jobMoved(jobName, targetMachineName));
+        raise(new JobMovedEvent(jobName, target.machine.getName(), targetMachineName));
     }
 
     @Override
     public void shiftJob(JobName jobName, int shiftBy) {
         versionedAddressBook.shiftJob(jobName, shiftBy);
-        indicateMachineListChanged();
+        indicateMachineListChanged(JobMutation.jobShifted(jobName, shiftBy));
+        MachineName machineName = versionedAddressBook.findJob(jobName).machine.getName();
+        raise(new JobShiftedEvent(jobName, machineName, shiftBy));
     }
 
     @Override
     public void finishJob(JobMachineTuple target) {
         versionedAddressBook.finishJob(target);
-        indicateMachineListChanged();
+        jobFinishScheduler.cancel(target.job.getJobName());
+        indicateJobStatusChanged(target.job.getJobName());
     }
 
     @Override
     public void requestDeletion(JobName jobName) {
         versionedAddressBook.requestDeletion(jobName);
-        indicateMachineListChanged();
+        jobFinishScheduler.schedule(versionedAddressBook.findJob(jobName).job);
+        indicateJobStatusChanged(jobName);
     }
 
     @Override
@@ -273,24 +487,12 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook.isTopJob(job);
     }
 
-    /**
-     * used for moving Job to Machine
-     *
-     * @param job
-     * @param targetMachine
-     */
-    public void moveJobToMachine(Job job, Machine targetMachine) {
-        job.setMachine(targetMachine.getName());
-        targetMachine.addJob(job);
-    }
-
     @Override
     public void autoMoveJobsDuringFlush(Machine currentMachine) throws CommandException {
-        if (currentMachine.getJobs().stream().anyMatch(job -> job.getStatus() == Status.ONGOING)) {
+        if (currentMachine.hasOngoingJob()) {
             throw new JobOngoingException();
         }
         for (Job j : new ArrayList<>(currentMachine.getJobs())) {
-            System.out.println(j.getJobName().fullName);
             try {
                 Machine mostFreeMachine = getMostFreeMachine(currentMachine);
                 moveJob(j.getJobName(), mostFreeMachine.getName());
@@ -299,7 +501,7 @@ public class ModelManager extends ComponentManager implements Model {
             }
         }
         flushMachine(currentMachine);
-        indicateMachineListChanged();
+        markChanged(DataSection.MACHINES);
     }
 
 
@@ -309,13 +511,15 @@ public class ModelManager extends ComponentManager implements Model {
     public void addMachine(Machine machine) {
         versionedAddressBook.addMachine(machine);
         updateFilteredMachineList(PREDICATE_SHOW_ALL_MACHINES);
-        indicateMachineListChanged();
+        markChanged(DataSection.MACHINES);
+        raise(new MachineAddedEvent(machine.getName()));
     }
 
     @Override
     public void removeMachine(Machine toRemove) {
         versionedAddressBook.removeMachine(toRemove);
-        indicateMachineListChanged();
+        markChanged(DataSection.MACHINES);
+        raise(new MachineRemovedEvent(toRemove.getName()));
     }
 
     @Override
@@ -332,23 +536,41 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void flushMachine(Machine toFlushMachine) {
         requireNonNull(toFlushMachine);
+        List<Job> jobsBefore = new ArrayList<>(toFlushMachine.getJobs());
         versionedAddressBook.flushMachine(toFlushMachine);
-        indicateMachineListChanged();
+        markChanged(DataSection.MACHINES);
+        indicateJobsRemoved(toFlushMachine, jobsBefore);
     }
 
     @Override
     public void cleanMachine(Machine toCleanMachine) {
         requireNonNull(toCleanMachine);
+        List<Job> jobsBefore = new ArrayList<>(toCleanMachine.getJobs());
         versionedAddressBook.cleanMachine(toCleanMachine);
-        indicateMachineListChanged();
+        markChanged(DataSection.MACHINES);
+        indicateJobsRemoved(toCleanMachine, jobsBefore);
+    }
+
+    @Override
+    public List<Job> findArchivedJobs(Predicate<Job> predicate, YearMonth from, YearMonth to) throws IOException {
+        requireNonNull(predicate);
+        return jobArchive.findJobs(predicate, from, to);
     }
 
 
     @Override
     public void updateMachine(Machine target, Machine editedMachine) {
         requireAllNonNull(target, editedMachine);
+        MachineName oldName = target.getName();
+        MachineStatus oldStatus = target.getStatus();
         versionedAddressBook.updateMachine(target, editedMachine);
-        indicateMachineListChanged();
+        markChanged(DataSection.MACHINES);
+        if (!oldName.equals(editedMachine.getName())) {
+            raise(new MachineRemovedEvent(oldName));
+            raise(new MachineAddedEvent(editedMachine.getName()));
+        } else if (oldStatus != editedMachine.getStatus()) {
+            raise(new MachineStatusChangedEvent(editedMachine.getName(), editedMachine.getStatus()));
+        }
     }
 
     @Override
@@ -372,14 +594,14 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addAdmin(Admin admin) {
         versionedAddressBook.addAdmin(admin);
-        indicateAdminListChanged();
+        markChanged(DataSection.ADMINS);
     }
 
     //TODO: add tests
     @Override
     public void removeAdmin(Admin admin) {
         versionedAddressBook.removeAdmin(admin);
-        indicateAdminListChanged();
+        markChanged(DataSection.ADMINS);
     }
 
     //TODO: add tests
@@ -387,7 +609,7 @@ public class ModelManager extends ComponentManager implements Model {
     public void updateAdmin(Admin admin, Admin updatedAdmin) {
         versionedAddressBook.addAdmin(updatedAdmin);
         versionedAddressBook.removeAdmin(admin);
-        indicateAdminListChanged();
+        markChanged(DataSection.ADMINS);
     }
 
     @Override
@@ -502,42 +724,38 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoAddressBook() {
-        versionedAddressBook.undo();
-        indicateAddressBookChanged();
-        indicateMachineListChanged();
-        indicateAdminListChanged();
+        Set<DataSection> changedSections = versionedAddressBook.undo();
+        jobFinishScheduler.rescheduleAll(versionedAddressBook.getMachineList());
+        // the restored state is only reported for the sections it differs in, along with any unsaved ones
+        unsavedSections.addAll(changedSections);
+        indicateUnsavedSectionsChanged();
     }
 
     @Override
     public void redoAddressBook() {
-        versionedAddressBook.redo();
-        indicateAddressBookChanged();
-        indicateMachineListChanged();
-        indicateAdminListChanged();
+        Set<DataSection> changedSections = versionedAddressBook.redo();
+        jobFinishScheduler.rescheduleAll(versionedAddressBook.getMachineList());
+        // the restored state is only reported for the sections it differs in, along with any unsaved ones
+        unsavedSections.addAll(changedSections);
+        indicateUnsavedSectionsChanged();
     }
 
     @Override
     public void commitAddressBook() {
         versionedAddressBook.commit();
-        indicateAddressBookChanged();
-        indicateMachineListChanged();
-        indicateAdminListChanged();
+        indicateUnsavedSectionsChanged();
     }
 
     @Override
     public void adminLoginCommitAddressBook() {
         versionedAddressBook.adminLoginCommit();
-        indicateAddressBookChanged();
-        indicateMachineListChanged();
-        indicateAdminListChanged();
+        indicateUnsavedSectionsChanged();
     }
 
     @Override
     public void adminLogoutCommitAddressBook() {
         versionedAddressBook.adminLogoutCommit();
-        indicateAddressBookChanged();
-        indicateMachineListChanged();
-        indicateAdminListChanged();
+        indicateUnsavedSectionsChanged();
     }
 
     @Override
@@ -558,5 +776,23 @@ public class ModelManager extends ComponentManager implements Model {
             || filteredMachines.equals(other.filteredMachines));
     }
 
+    /**
+     * A copy of a machine in a snapshot, with the version and job filter of the machine it was copied from
+     */
+    private static class SnapshotMachine {
+        private final Machine machine;
+        private final long version;
+        private final Predicate<Job> jobPredicate;
+
+        private SnapshotMachine(Machine original) {
+            machine = Machine.copySharingJobs(original);
+            version = original.getVersion();
+            jobPredicate = original.getFilteredJobListPredicate();
+            machine.updateFilteredJobList(jobPredicate);
+        }
 
+        private boolean isUpToDateWith(Machine original) {
+            return version == original.getVersion() && jobPredicate == original.getFilteredJobListPredicate();
+        }
+    }
 }
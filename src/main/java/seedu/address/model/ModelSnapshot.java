@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.AdminSession;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+
+/**
+ * The data of a model as it was after a change, which is never changed afterwards
+ * and so can be read from any thread without locking.
+ *
+ * Persons and admins cannot be changed, so they are shared with the model. The machines are copies
+ * with the job filter of their machine in the model, and must not be changed by whoever reads them.
+ */
+public class ModelSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Admin> admins;
+    private final ObservableList<Machine> machines;
+    private final List<Person> filteredPersons;
+    private final List<Admin> filteredAdmins;
+    private final List<Machine> filteredMachines;
+    private final Admin loggedInAdmin;
+
+    /**
+     * Every field but {@code loggedInAdmin}, which is null if no admin is logged in, must be present and not null.
+     * The lists are copied.
+     */
+    public ModelSnapshot(List<Person> persons, List<Admin> admins, List<Machine> machines,
+                         List<Person> filteredPersons, List<Admin> filteredAdmins, List<Machine> filteredMachines,
+                         Admin loggedInAdmin) {
+        requireAllNonNull(persons, admins, machines, filteredPersons, filteredAdmins, filteredMachines);
+        this.persons = unmodifiableCopyOf(persons);
+        this.admins = unmodifiableCopyOf(admins);
+        this.machines = unmodifiableCopyOf(machines);
+        this.filteredPersons = Collections.unmodifiableList(new ArrayList<>(filteredPersons));
+        this.filteredAdmins = Collections.unmodifiableList(new ArrayList<>(filteredAdmins));
+        this.filteredMachines = Collections.unmodifiableList(new ArrayList<>(filteredMachines));
+        this.loggedInAdmin = loggedInAdmin;
+    }
+
+    private static <T> ObservableList<T> unmodifiableCopyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Admin> getAdminList() {
+        return admins;
+    }
+
+    @Override
+    public ObservableList<Machine> getMachineList() {
+        return machines;
+    }
+
+    /**
+     * Returns the persons that were shown to the user, in the order they were shown
+     */
+    public List<Person> getFilteredPersonList() {
+        return filteredPersons;
+    }
+
+    /**
+     * Returns the admins that were shown to the user, in the order they were shown
+     */
+    public List<Admin> getFilteredAdminList() {
+        return filteredAdmins;
+    }
+
+    /**
+     * Returns the machines that were shown to the user, in the order they were shown,
+     * each showing the jobs that were shown in it
+     */
+    public List<Machine> getFilteredMachineList() {
+        return filteredMachines;
+    }
+
+    /**
+     * Returns a session of the admin that was logged in, which is not linked to this snapshot
+     */
+    @Override
+    public AdminSession getAdminSession() {
+        AdminSession session = new AdminSession();
+        session.setLogin(loggedInAdmin);
+        return session;
+    }
+
+    @Override
+    public int getTotalNumberOfStoredJobs() {
+        return machines.stream().mapToInt(machine -> machine.getJobs().size()).sum();
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + machines.size() + " machines, " + admins.size() + " admins";
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Makes the changes to a model one at a time, in the order they were submitted, on a thread of its own,
+ * so that the model is never changed by two threads at once.
+ *
+ * The thread is started when a change is submitted and stops after being idle for a while.
+ * After each change, a callback is run on the same thread, e.g. to publish what the model looks like now.
+ */
+class ModelWriter {
+    private static final Logger logger = LogsCenter.getLogger(ModelWriter.class);
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    private final ThreadPoolExecutor executor;
+    private final Runnable afterEachChange;
+    private volatile Thread writerThread;
+
+    ModelWriter(Runnable afterEachChange) {
+        requireNonNull(afterEachChange);
+        this.afterEachChange = afterEachChange;
+        // a single thread takes the changes from an unbounded queue, so they are made in the order submitted
+        executor = new ThreadPoolExecutor(0, 1, IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                // the writer posts the events of each change, and must not wait for a full lane to be drained
+                Thread thread = new Thread(() -> {
+                    EventsCenter.markCurrentThreadNonBlocking();
+                    runnable.run();
+                }, "Model writer");
+                thread.setDaemon(true);
+                writerThread = thread;
+                return thread;
+            });
+    }
+
+    /**
+     * Makes {@code change} after the changes submitted before it, and returns a future that completes with
+     * its result, or with what it threw, once the callback has been run after it.
+     * A change submitted by the writer thread itself, e.g. from within another change, is made straight away
+     * as part of that change.
+     */
+    <T> CompletableFuture<T> submit(Callable<T> change) {
+        requireNonNull(change);
+        if (isWriterThread()) {
+            return call(change);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = change.call();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            try {
+                afterEachChange.run();
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Failed to run the callback after a change to the model", e);
+            }
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns true if the current thread is the one that changes the model
+     */
+    boolean isWriterThread() {
+        return Thread.currentThread() == writerThread;
+    }
+
+    private static <T> CompletableFuture<T> call(Callable<T> change) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(change.call());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+}
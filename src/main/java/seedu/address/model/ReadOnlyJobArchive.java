@@ -0,0 +1,30 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.job.Job;
+
+/**
+ * Unmodifiable view of the jobs that have been moved out of the address book into the job archive
+ */
+@FunctionalInterface
+public interface ReadOnlyJobArchive {
+
+    /** An archive that holds no jobs */
+    ReadOnlyJobArchive EMPTY = (predicate, from, to) -> Collections.emptyList();
+
+    /**
+     * Returns the archived jobs that match {@code predicate} and were last worked on in the months
+     * from {@code from} to {@code to}, both included, oldest first.
+     * Only the part of the archive that covers those months is read.
+     *
+     * @param from the first month to look in, or null to look from the oldest job
+     * @param to the last month to look in, or null to look up to the newest job
+     * @throws IOException if the archive could not be read.
+     */
+    List<Job> findJobs(Predicate<Job> predicate, YearMonth from, YearMonth to) throws IOException;
+}
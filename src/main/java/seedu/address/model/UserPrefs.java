@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -16,6 +17,10 @@ public class UserPrefs {
     private Path makerManagerMachinesFilePath;
     private Path makerManagerAdminsFilePath;
     private Path makerManagerJobsFilePath;
+    private StorageFormat storageFormat;
+    private boolean machineShardsEnabled;
+    private Path jobArchiveDirectoryPath;
+    private int jobArchiveAgeDays;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -23,6 +28,10 @@ public class UserPrefs {
         this.makerManagerMachinesFilePath = Paths.get("data\\makerManagerMachines.xml");
         this.makerManagerAdminsFilePath = Paths.get("data\\makerManagerAdmins.xml");
         this.makerManagerJobsFilePath = Paths.get("data\\makerManagerJobs.xml");
+        this.storageFormat = StorageFormat.XML;
+        this.machineShardsEnabled = false;
+        this.jobArchiveDirectoryPath = Paths.get("data\\jobArchive");
+        this.jobArchiveAgeDays = 0;
     }
 
     public GuiSettings getGuiSettings() {
@@ -61,6 +70,38 @@ public class UserPrefs {
         this.makerManagerJobsFilePath = makerManagerJobsFilePath;
     }
 
+    // ================================ storage format methods ============================ //
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+    public boolean isMachineShardsEnabled() {
+        return machineShardsEnabled;
+    }
+    public void setMachineShardsEnabled(boolean machineShardsEnabled) {
+        this.machineShardsEnabled = machineShardsEnabled;
+    }
+
+    // ================================ job archive methods =============================== //
+    public Path getJobArchiveDirectoryPath() {
+        return jobArchiveDirectoryPath;
+    }
+    public void setJobArchiveDirectoryPath(Path jobArchiveDirectoryPath) {
+        this.jobArchiveDirectoryPath = jobArchiveDirectoryPath;
+    }
+    /**
+     * Returns the number of days after which finished jobs are moved to the job archive,
+     * or zero or less if jobs are never archived
+     */
+    public int getJobArchiveAgeDays() {
+        return jobArchiveAgeDays;
+    }
+    public void setJobArchiveAgeDays(int jobArchiveAgeDays) {
+        this.jobArchiveAgeDays = jobArchiveAgeDays;
+    }
+
 
     // ================================ others =========================================== //
 
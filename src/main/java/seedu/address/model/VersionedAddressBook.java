@@ -1,36 +1,63 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.admin.Admin;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Consecutive states share the copies of machines that did not change between them,
+ * so a commit only copies the machines that were changed since the previous commit.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    private final List<AddressBookState> addressBookStateList;
     private int currentStatePointer;
     private int lastAdminLogoutPointer;
     private int lastAdminLoginPointer;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        this();
+        resetData(initialState);
+        addressBookStateList.add(new AddressBookState(this, null));
+    }
 
+    private VersionedAddressBook() {
         addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
         currentStatePointer = 0;
         lastAdminLogoutPointer = -1;
         lastAdminLoginPointer = -1;
     }
 
+    /**
+     * Returns a {@code VersionedAddressBook} that starts with the data of {@code initialState},
+     * taking over its machines instead of copying them.
+     * {@code initialState} must not be used by anything else afterwards.
+     */
+    public static VersionedAddressBook adopt(AddressBook initialState) {
+        requireNonNull(initialState);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setPersons(initialState.getPersonList());
+        versionedAddressBook.adoptMachines(new ArrayList<>(initialState.getMachineList()));
+        versionedAddressBook.setAdmins(initialState.getAdminList());
+        versionedAddressBook.setAdminsSession(initialState.getAdminSession());
+        versionedAddressBook.addressBookStateList.add(new AddressBookState(versionedAddressBook, null));
+        return versionedAddressBook;
+    }
+
     /**
      * Saves a copy of the current {@code AddressBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        saveCurrentState();
         if (currentStatePointer == lastAdminLoginPointer) {
             lastAdminLoginPointer = -1;
         }
@@ -41,9 +68,7 @@ public class VersionedAddressBook extends AddressBook {
      * Undone states are removed from the state list.
      */
     public void adminLoginCommit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        saveCurrentState();
         lastAdminLoginPointer = currentStatePointer;
     }
 
@@ -52,37 +77,89 @@ public class VersionedAddressBook extends AddressBook {
      * Undone states are removed from the state list.
      */
     public void adminLogoutCommit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        saveCurrentState();
         lastAdminLogoutPointer = currentStatePointer;
     }
 
-    private void removeStatesAfterCurrentPointer() {
+    /**
+     * Removes the undone states and saves the current state after the current one
+     */
+    private void saveCurrentState() {
+        AddressBookState previous = addressBookStateList.get(currentStatePointer);
         addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        addressBookStateList.add(new AddressBookState(this, previous));
+        currentStatePointer++;
     }
 
+    /**
+     * Restores the data of {@code state}, reusing the machines that have not changed since it was saved,
+     * and returns the sections of data that are different afterwards.
+     * The admin session is not stored, so it is not a section of its own.
+     */
+    private Set<DataSection> restore(AddressBookState state) {
+        List<Person> oldPersons = new ArrayList<>(getPersonList());
+        List<Machine> oldMachines = new ArrayList<>(getMachineList());
+        List<Admin> oldAdmins = new ArrayList<>(getAdminList());
+
+        setPersons(state.getPersonList());
+        adoptMachines(state.restoreMachines());
+        setAdmins(state.getAdminList());
+        setAdminsSession(state.getAdminSession());
+
+        Set<DataSection> changedSections = EnumSet.noneOf(DataSection.class);
+        if (!oldPersons.equals(getPersonList())) {
+            changedSections.add(DataSection.PERSONS);
+        }
+        // a machine that is the same in both states is restored as the very same machine, any other one is copied
+        if (!isSameMachines(oldMachines)) {
+            changedSections.add(DataSection.MACHINES);
+        }
+        if (!oldAdmins.equals(getAdminList())) {
+            changedSections.add(DataSection.ADMINS);
+        }
+        return changedSections;
+    }
+
+    /**
+     * Returns true if the machines are the very {@code machines}, in the same order
+     */
+    private boolean isSameMachines(List<Machine> machines) {
+        List<Machine> currentMachines = getMachineList();
+        if (currentMachines.size() != machines.size()) {
+            return false;
+        }
+        for (int i = 0; i < machines.size(); i++) {
+            if (currentMachines.get(i) != machines.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
     /**
      * Restores the address book to its previous state.
+     *
+     * @return the sections of data that were changed by restoring it.
      */
-    public void undo() {
+    public Set<DataSection> undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        return restore(addressBookStateList.get(currentStatePointer));
     }
 
     /**
      * Restores the address book to its previously undone state.
+     *
+     * @return the sections of data that were changed by restoring it.
      */
-    public void redo() {
+    public Set<DataSection> redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        return restore(addressBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -19,7 +19,8 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Printing job in MakerManager.
  * Morphed from the Person class in original Addressbook
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated.
+ * A job is not changed in place once it is in the model, which replaces it by a changed copy instead.
  */
 public class Job {
     public static final String MESSAGE_NAME_CONSTRAINTS = "Job names should only contain alphanumeric characters and "
@@ -89,12 +90,12 @@ public class Job {
         this.name = toBeCopied.name;
         this.machineName = toBeCopied.machineName;
         this.owner = toBeCopied.owner;
-        this.addedTime = new TimeStamp(toBeCopied.addedTime.getDate().getTime());
+        this.addedTime = toBeCopied.addedTime;
         this.priority = toBeCopied.priority;
         this.status = toBeCopied.status;
         this.duration = toBeCopied.duration;
         this.jobNote = toBeCopied.jobNote;
-        this.startTime = new TimeStamp(toBeCopied.startTime.getDate().getTime());
+        this.startTime = toBeCopied.startTime;
         this.tags.addAll(toBeCopied.tags);
     }
 
@@ -105,13 +106,32 @@ public class Job {
     public boolean isFinished() throws JobNotStartedException {
 
         if (this.status == ONGOING) {
-            TimeStamp current = new TimeStamp();
-            return TimeStamp.timeDifference(startTime, current) > this.duration;
+            return startTime.millisUntilNow() > this.duration;
         } else {
             throw new JobNotStartedException();
         }
     }
 
+    /**
+     * Returns the time, in milliseconds since the epoch, at which this job is due to finish if it is ONGOING
+     */
+    public long getFinishTime() {
+        return startTime.getMillis() + duration;
+    }
+
+    /**
+     * Returns the time, in milliseconds since the epoch, at which this job was last worked on:
+     * its finish time if it has FINISHED, or else the later of the times it was added and started
+     */
+    public long getLastActiveTime() {
+        long lastActiveTime = addedTime == null ? 0 : addedTime.getMillis();
+        if (startTime != null) {
+            long startedOrFinished = status == Status.FINISHED ? getFinishTime() : startTime.getMillis();
+            lastActiveTime = Math.max(lastActiveTime, startedOrFinished);
+        }
+        return lastActiveTime;
+    }
+
     public JobNote getJobNote() {
         return this.jobNote;
     }
@@ -122,13 +142,11 @@ public class Job {
 
     public String getReadableDurationString() {
         //return this.duration + "";
-        TimeStamp t = new TimeStamp(this.duration);
-        return t.showAsDuration();
+        return TimeStamp.showAsDuration(this.duration);
     }
 
     public float getPercentageCompletion() {
-        TimeStamp t = new TimeStamp(this.duration);
-        long timeElapsed = TimeStamp.timeDifference(startTime, new TimeStamp());
+        long timeElapsed = startTime.millisUntilNow();
         return (float) timeElapsed / this.duration;
     }
 
@@ -288,9 +306,9 @@ public class Job {
     }
 
     /**
-     * ranks statuses
+     * ranks statuses, a higher rank is displayed first
      */
-    private int statusRank(Status myStatus) {
+    static int statusRank(Status myStatus) {
         switch (myStatus) {
         case ONGOING:
             return 3;
@@ -326,8 +344,8 @@ public class Job {
         }
 
         return otherJob.getJobName().equals(getJobName()) && otherJob.getMachineName()
-            .equals(getMachineName()) && otherJob.getOwner().equals(getOwner()) && otherJob.getAddedTime().showTime()
-            .equals(getAddedTime().showTime()) && otherJob.getTags().equals(getTags()) && otherJob.getJobNote()
+            .equals(getMachineName()) && otherJob.getOwner().equals(getOwner()) && otherJob.getAddedTime()
+            .isSameSecond(getAddedTime()) && otherJob.getTags().equals(getTags()) && otherJob.getJobNote()
             .equals(getJobNote()) && (otherJob.getPriority() == getPriority()) && (otherJob
             .getDuration() == getDuration());
     }
@@ -0,0 +1,315 @@
+package seedu.address.model.job;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of jobs kept in display order: ONGOING jobs first, then QUEUED jobs, then all other jobs.
+ * Jobs of the same status rank keep their relative order, as a stable sort by
+ * {@link Job#hasHigherDisplayPriority(Job)} would leave them.
+ *
+ * The list is split into one contiguous band per status rank and only the band sizes are tracked,
+ * so a job is placed into its band without comparing it against the other jobs, and moving a job
+ * fires a single permutation change that covers only the rows between its old and new position.
+ *
+ * The jobs are also kept in one set per status, so that the jobs of a status can be counted and found
+ * without walking through the list. A job is filed under the status it had when it was added
+ * or last repositioned. Likewise, the jobs are indexed by name.
+ */
+class JobQueue extends ModifiableObservableListBase<Job> {
+
+    private static final int HIGHEST_RANK = 3;
+    private static final int NUMBER_OF_BANDS = HIGHEST_RANK;
+
+    private final List<Job> jobs = new ArrayList<>();
+    // bandSizes[b] is the number of jobs in band b, band 0 being displayed first
+    private final int[] bandSizes = new int[NUMBER_OF_BANDS];
+    private long version = 0;
+    private final Map<Status, Set<Job>> jobsByStatus = new EnumMap<>(Status.class);
+    private final Map<Job, Status> filedStatus = new IdentityHashMap<>();
+    private final Map<JobName, Job> jobsByName = new HashMap<>();
+
+    JobQueue() {
+        for (Status status : Status.values()) {
+            jobsByStatus.put(status, newIdentitySet());
+        }
+    }
+
+    @Override
+    public Job get(int index) {
+        return jobs.get(index);
+    }
+
+    @Override
+    public int size() {
+        return jobs.size();
+    }
+
+    /**
+     * Returns a number that grows whenever the list or one of its jobs is changed
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of jobs filed under {@code status}
+     */
+    public int count(Status status) {
+        return jobsByStatus.get(status).size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the jobs filed under {@code status}
+     */
+    public Set<Job> jobsWith(Status status) {
+        return Collections.unmodifiableSet(jobsByStatus.get(status));
+    }
+
+    /**
+     * Returns the job named {@code name}, or null if there is none
+     */
+    public Job find(JobName name) {
+        return jobsByName.get(name);
+    }
+
+    /**
+     * Adds {@code job} at the end of the band of its status
+     */
+    public void insert(Job job) {
+        int band = bandOf(job.getStatus());
+        add(bandEnd(band), job);
+    }
+
+    /**
+     * Returns the index of {@code job} in the list, looking in the band of {@code status} first.
+     * Jobs are compared by identity. Returns -1 if the job is not in the list.
+     */
+    public int indexOf(Job job, Status status) {
+        int band = bandOf(status);
+        for (int i = bandStart(band); i < bandEnd(band); i++) {
+            if (jobs.get(i) == job) {
+                return i;
+            }
+        }
+        for (int i = 0; i < jobs.size(); i++) {
+            if (jobs.get(i) == job) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the job at {@code index} into the band of its current status, if it is not there already.
+     * A job moving up goes to the end of its new band and a job moving down goes to the start of it,
+     * which is where a stable sort of the list would put it.
+     */
+    public void reposition(int index) {
+        file(jobs.get(index));
+        int oldBand = bandAt(index);
+        int newBand = bandOf(jobs.get(index).getStatus());
+        if (oldBand == newBand) {
+            return;
+        }
+
+        int target = newBand < oldBand ? bandEnd(newBand) : bandStart(newBand) - 1;
+        bandSizes[oldBand]--;
+        bandSizes[newBand]++;
+        move(index, target);
+    }
+
+    /**
+     * Moves the job at {@code index} by {@code shiftBy} places towards the front of the list.
+     * The job stays within the band of its status.
+     */
+    public void shift(int index, int shiftBy) {
+        int band = bandAt(index);
+        int target = Math.max(0, Math.min(index - shiftBy, jobs.size() - 1));
+        target = Math.max(bandStart(band), Math.min(target, bandEnd(band) - 1));
+        move(index, target);
+    }
+
+    /**
+     * Removes every job in {@code toRemove} from the list and fires a single change.
+     * The list is searched from its end, where the jobs of the lowest status rank are kept,
+     * and the search stops as soon as all of them have been found.
+     */
+    public void removeJobs(Collection<Job> toRemove) {
+        Set<Job> remaining = newIdentitySet();
+        remaining.addAll(toRemove);
+        beginChange();
+        try {
+            for (int i = jobs.size() - 1; i >= 0 && !remaining.isEmpty(); i--) {
+                if (remaining.remove(jobs.get(i))) {
+                    remove(i);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Restores the display order after the statuses of several jobs were changed in place.
+     * Runs in linear time and fires no change if the list is already in order.
+     */
+    public void sortAll() {
+        List<List<Job>> bands = new ArrayList<>();
+        List<List<Integer>> oldIndices = new ArrayList<>();
+        for (int band = 0; band < NUMBER_OF_BANDS; band++) {
+            bands.add(new ArrayList<>());
+            oldIndices.add(new ArrayList<>());
+        }
+        for (int i = 0; i < jobs.size(); i++) {
+            file(jobs.get(i));
+            int band = bandOf(jobs.get(i).getStatus());
+            bands.get(band).add(jobs.get(i));
+            oldIndices.get(band).add(i);
+        }
+
+        int[] permutation = new int[jobs.size()];
+        boolean isReordered = false;
+        int newIndex = 0;
+        for (int band = 0; band < NUMBER_OF_BANDS; band++) {
+            bandSizes[band] = bands.get(band).size();
+            for (int oldIndex : oldIndices.get(band)) {
+                permutation[oldIndex] = newIndex;
+                isReordered |= oldIndex != newIndex;
+                newIndex++;
+            }
+        }
+        if (!isReordered) {
+            return;
+        }
+
+        jobs.clear();
+        bands.forEach(jobs::addAll);
+        modCount++;
+        version++;
+        beginChange();
+        nextPermutation(0, jobs.size(), permutation);
+        endChange();
+    }
+
+    //============================= list operations =======================================//
+
+    @Override
+    protected void doAdd(int index, Job job) {
+        jobs.add(index, job);
+        bandSizes[bandOf(job.getStatus())]++;
+        file(job);
+        jobsByName.put(job.getJobName(), job);
+        version++;
+    }
+
+    @Override
+    protected Job doSet(int index, Job job) {
+        // the slot keeps its band until the job is repositioned
+        version++;
+        Job replaced = jobs.set(index, job);
+        unfile(replaced);
+        file(job);
+        jobsByName.remove(replaced.getJobName(), replaced);
+        jobsByName.put(job.getJobName(), job);
+        return replaced;
+    }
+
+    @Override
+    protected Job doRemove(int index) {
+        bandSizes[bandAt(index)]--;
+        version++;
+        Job removed = jobs.remove(index);
+        unfile(removed);
+        jobsByName.remove(removed.getJobName(), removed);
+        return removed;
+    }
+
+    /**
+     * Moves the job at {@code from} to {@code to} and fires one permutation over the rows in between
+     */
+    private void move(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        jobs.add(to, jobs.remove(from));
+        modCount++;
+        version++;
+
+        int low = Math.min(from, to);
+        int high = Math.max(from, to);
+        int[] permutation = new int[high - low + 1];
+        for (int oldIndex = low; oldIndex <= high; oldIndex++) {
+            int newIndex;
+            if (oldIndex == from) {
+                newIndex = to;
+            } else if (from < to) {
+                newIndex = oldIndex - 1;
+            } else {
+                newIndex = oldIndex + 1;
+            }
+            permutation[oldIndex - low] = newIndex;
+        }
+        beginChange();
+        nextPermutation(low, high + 1, permutation);
+        endChange();
+    }
+
+    /**
+     * Files {@code job} under its current status, moving it out of the set of the status it was filed under
+     */
+    private void file(Job job) {
+        Status oldStatus = filedStatus.put(job, job.getStatus());
+        if (oldStatus != null) {
+            jobsByStatus.get(oldStatus).remove(job);
+        }
+        jobsByStatus.get(job.getStatus()).add(job);
+    }
+
+    private void unfile(Job job) {
+        Status oldStatus = filedStatus.remove(job);
+        if (oldStatus != null) {
+            jobsByStatus.get(oldStatus).remove(job);
+        }
+    }
+
+    private static Set<Job> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private int bandAt(int index) {
+        int end = 0;
+        for (int band = 0; band < NUMBER_OF_BANDS - 1; band++) {
+            end += bandSizes[band];
+            if (index < end) {
+                return band;
+            }
+        }
+        return NUMBER_OF_BANDS - 1;
+    }
+
+    private int bandStart(int band) {
+        int start = 0;
+        for (int i = 0; i < band; i++) {
+            start += bandSizes[i];
+        }
+        return start;
+    }
+
+    private int bandEnd(int band) {
+        return bandStart(band) + bandSizes[band];
+    }
+
+    private static int bandOf(Status status) {
+        return HIGHEST_RANK - Job.statusRank(status);
+    }
+}
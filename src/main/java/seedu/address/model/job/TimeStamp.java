@@ -1,26 +1,36 @@
 package seedu.address.model.job;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.TimeZone;
 
 /**
- * Timestamp for modelling time
+ * Timestamp for modelling time.
+ * Immutable; holds the number of milliseconds since the epoch, so comparisons and time differences
+ * do not allocate anything.
  */
 public class TimeStamp {
+    private static final long MILLIS_IN_SECONDS = 1000;
     private static final long MILLIS_IN_MINUTES = 60000;
     private static final long MILLIS_IN_HOURS = MILLIS_IN_MINUTES * 60;
     private static final long MILLIS_IN_DAYS = MILLIS_IN_HOURS * 24;
     private static final long MILLIS_IN_YEARS = MILLIS_IN_DAYS * 365;
-    private Calendar calendar;
+
+    // day/month hour:minute:second, with the hour on a 12 hour clock
+    private static final DateTimeFormatter TIME_FORMATTER =
+        DateTimeFormatter.ofPattern("d/M K:m:s").withZone(ZoneId.systemDefault());
+
+    private final long millis;
 
     public TimeStamp() {
-        this.calendar = Calendar.getInstance();
+        this.millis = System.currentTimeMillis();
     }
 
     public TimeStamp(long millis) {
-        this.calendar = Calendar.getInstance();
-        this.calendar.setTimeInMillis(millis);
+        this.millis = millis;
     }
 
     public static long hoursToMillis(float hours) {
@@ -28,28 +38,49 @@ public class TimeStamp {
     }
 
     /**
-     * Return the calendar
-     *
-     * @return
+     * Returns the number of milliseconds since the epoch
+     */
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * Returns a new calendar set to this time
      */
     public Calendar getCalendar() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
         return calendar;
     }
 
     public Date getDate() {
-        return this.getCalendar().getTime();
+        return new Date(millis);
     }
 
     public static boolean compareTime(TimeStamp time1, TimeStamp time2) {
-        return time1.getDate().getTime() <= time2.getDate().getTime();
+        return time1.millis <= time2.millis;
     }
 
     public static long timeDifference(TimeStamp time1, TimeStamp time2) {
-        return time2.getDate().getTime() - time1.getDate().getTime();
+        return time2.millis - time1.millis;
     }
 
     public static TimeStamp timeAdd(TimeStamp time1, TimeStamp time2) {
-        return new TimeStamp(time2.getDate().getTime() + time1.getDate().getTime());
+        return new TimeStamp(time2.millis + time1.millis);
+    }
+
+    /**
+     * Returns the number of milliseconds from this time until now
+     */
+    public long millisUntilNow() {
+        return System.currentTimeMillis() - millis;
+    }
+
+    /**
+     * Returns true if both time stamps fall within the same second
+     */
+    public boolean isSameSecond(TimeStamp other) {
+        return Math.floorDiv(millis, MILLIS_IN_SECONDS) == Math.floorDiv(other.millis, MILLIS_IN_SECONDS);
     }
 
     /**
@@ -58,9 +89,7 @@ public class TimeStamp {
      * @return
      */
     public String showTime() {
-        return this.getCalendar().get(Calendar.DAY_OF_MONTH) + "/" + (this.getCalendar().get(Calendar.MONTH) + 1) + " "
-            + this.getCalendar().get(Calendar.HOUR) + ":" + this.getCalendar().get(Calendar.MINUTE) + ":" + this
-            .getCalendar().get(Calendar.SECOND);
+        return TIME_FORMATTER.format(Instant.ofEpochMilli(millis));
     }
 
     /**
@@ -69,34 +98,52 @@ public class TimeStamp {
      * @return
      */
     public String showAsDuration() {
-        long duration = this.getDate().getTime();
-        calendar.setTimeZone(TimeZone.getTimeZone("GMT+0000"));
+        return showAsDuration(millis);
+    }
+
+    /**
+     * Shows the duration formatted
+     */
+    public static String showAsDuration(long duration) {
+        long seconds = Math.floorMod(Math.floorDiv(duration, MILLIS_IN_SECONDS), 60);
+        long minutes = Math.floorMod(Math.floorDiv(duration, MILLIS_IN_MINUTES), 60);
+        long hours = Math.floorMod(Math.floorDiv(duration, MILLIS_IN_HOURS), 24);
+        long days = Math.floorDiv(duration, MILLIS_IN_DAYS);
         if (duration < MILLIS_IN_MINUTES) {
-            return calendar.get(Calendar.SECOND) + " Seconds";
+            return seconds + " Seconds";
         } else if (duration == MILLIS_IN_MINUTES) {
-            return calendar.get(Calendar.MINUTE) + " Minute";
+            return minutes + " Minute";
         } else if (duration < MILLIS_IN_HOURS) {
-            return calendar.get(Calendar.MINUTE) + " Minutes";
+            return minutes + " Minutes";
         } else if (duration < MILLIS_IN_HOURS * 2) {
-            return calendar.get(Calendar.HOUR_OF_DAY) + " Hour " + calendar.get(Calendar.MINUTE) + " Minutes";
+            return hours + " Hour " + minutes + " Minutes";
         } else if (duration < MILLIS_IN_DAYS) {
-            return calendar.get(Calendar.HOUR_OF_DAY) + " Hours " + calendar.get(Calendar.MINUTE) + " Minutes";
+            return hours + " Hours " + minutes + " Minutes";
         } else if (duration < MILLIS_IN_DAYS * 2) {
-            return (calendar.get(Calendar.DAY_OF_YEAR) - 1) + " Day " + calendar.get(Calendar.HOUR_OF_DAY) + " Hours ";
+            return days + " Day " + hours + " Hours ";
         } else if (duration < MILLIS_IN_YEARS) {
-            return (calendar.get(Calendar.DAY_OF_YEAR) - 1) + " Days " + calendar.get(Calendar.HOUR_OF_DAY) + " Hours ";
+            return days + " Days " + hours + " Hours ";
         } else {
-            return (calendar.get(Calendar.YEAR) - 1970) + " Years " + (calendar.get(Calendar.DAY_OF_YEAR) - 1)
-                + " Days ";
+            // counted on the calendar from the epoch, so that leap years are taken into account
+            LocalDate date = LocalDate.ofEpochDay(days);
+            return (date.getYear() - 1970) + " Years " + (date.getDayOfYear() - 1) + " Days ";
         }
     }
 
-    /**
-     * Shows the time
-     */
-    public static String showAsDuration(long millis) {
-        TimeStamp t = new TimeStamp(millis);
-        return t.showAsDuration();
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof TimeStamp // instanceof handles nulls
+            && millis == ((TimeStamp) other).millis);
     }
 
+    @Override
+    public int hashCode() {
+        return Long.hashCode(millis);
+    }
+
+    @Override
+    public String toString() {
+        return showTime();
+    }
 }
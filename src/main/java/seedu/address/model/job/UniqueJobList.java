@@ -3,9 +3,9 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -20,23 +20,25 @@ import seedu.address.model.job.exceptions.JobNotFoundException;
 public class UniqueJobList {
 
     private static final Logger logger = LogsCenter.getLogger(UniqueJobList.class);
-    private final ObservableList<Job> internalList = FXCollections.observableArrayList();
-    private Predicate<Job> cleanJobPredicate = job -> job.isCompleted() || job.isCancelled() || job.isDeleting();
+    private static final Status[] CLEANABLE_STATUSES = {Status.FINISHED, Status.CANCELLED, Status.DELETING};
+
+    private final JobQueue internalList = new JobQueue();
+    // sum of the durations of QUEUED and ONGOING jobs, kept up to date on every change to the list
+    private long remainingDuration = 0;
 
     /**
      * Returns true if the list contains an equivalent job as the given argument.
      */
     public boolean contains(Job toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameName);
-
+        return internalList.find(toCheck.getJobName()) != null;
     }
 
     /**
-     * sorts the internal list
+     * Restores the display order of the list after job statuses were changed without going through this list
      */
     public void reSortList() {
-        FXCollections.sort(internalList, new JobComparator());
+        internalList.sortAll();
     }
 
     /**
@@ -48,27 +50,21 @@ public class UniqueJobList {
         if (contains(toAdd)) {
             throw new DuplicateJobException();
         }
-        internalList.add(toAdd);
+        internalList.insert(toAdd);
+        remainingDuration += remainingDurationOf(toAdd);
     }
 
     /**
-     * Shifts Jobs according to index offset
+     * Shifts Jobs according to index offset.
+     * The job is not moved past jobs of a different status rank.
      */
     public void shift(Job toShift, int shiftBy) {
         requireNonNull(toShift);
         int currentIndex = internalList.indexOf(toShift);
-        //removing job
-        internalList.remove(currentIndex);
-
-        //re-addition
-        if (currentIndex - shiftBy > size()) {
-            internalList.add(toShift);
-        } else if (currentIndex - shiftBy < 0) {
-            internalList.add(0, toShift);
-        } else {
-            internalList.add(currentIndex - shiftBy, toShift);
+        if (currentIndex == -1) {
+            throw new JobNotFoundException();
         }
-        FXCollections.sort(internalList, new JobComparator());
+        internalList.shift(currentIndex, shiftBy);
     }
 
     /**
@@ -77,16 +73,19 @@ public class UniqueJobList {
      */
     public void remove(Job toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Job found = internalList.find(toRemove.getJobName());
+        if (found == null || !found.equals(toRemove)) {
             throw new JobNotFoundException();
         }
-        internalList.remove(toRemove);
+        internalList.remove(internalList.indexOf(found, found.getStatus()));
+        remainingDuration -= remainingDurationOf(found);
     }
 
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList, new JobComparator());
+        internalList.sortAll();
+        remainingDuration = replacement.remainingDuration;
     }
 
     /**
@@ -100,7 +99,8 @@ public class UniqueJobList {
         }
 
         internalList.setAll(jobs);
-        FXCollections.sort(internalList, new JobComparator());
+        internalList.sortAll();
+        remainingDuration = internalList.stream().mapToLong(UniqueJobList::remainingDurationOf).sum();
     }
 
     /**
@@ -121,6 +121,8 @@ public class UniqueJobList {
         }
 
         internalList.set(index, editedJob);
+        internalList.reposition(index);
+        remainingDuration += remainingDurationOf(editedJob) - remainingDurationOf(target);
     }
 
     /**
@@ -149,10 +151,10 @@ public class UniqueJobList {
     }
 
     /**
-     * Returns a sorted list based on custom comparator
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * The list is always kept in display order, see {@link Job#hasHigherDisplayPriority(Job)}.
      */
     public ObservableList<Job> asUnmodifiableObservableSortedList() {
-        FXCollections.sort(internalList, new JobComparator());
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
@@ -195,18 +197,70 @@ public class UniqueJobList {
      * @return
      */
     public Job findJob(JobName jobName) {
-        for (Job job : internalList) {
-            if (job.getJobName().equals(jobName)) {
-                return job;
-            }
-        }
-        return null;
+        return internalList.find(jobName);
     }
 
+    /**
+     * Returns a number that grows whenever the list or one of its jobs is changed through this list
+     */
+    public long getVersion() {
+        return internalList.getVersion();
+    }
+
+    /**
+     * Returns the total duration of the QUEUED and ONGOING jobs in the list
+     */
     public long getTotalTime() {
-        return internalList.stream()
-            .filter(job -> (job.getStatus() == Status.ONGOING) || (job.getStatus() == Status.QUEUED))
-            .mapToLong(job -> job.getDuration()).sum();
+        return remainingDuration;
+    }
+
+    /**
+     * Returns the number of jobs in the list with {@code status}
+     */
+    public int count(Status status) {
+        requireNonNull(status);
+        return internalList.count(status);
+    }
+
+    /**
+     * Returns true if the list has an ONGOING job
+     */
+    public boolean hasOngoingJob() {
+        return internalList.count(Status.ONGOING) != 0;
+    }
+
+    /**
+     * Replaces {@code target} by {@code changed}, a copy of it with some of its fields changed,
+     * and moves the copy to its place in the display order.
+     * Jobs are replaced instead of being changed in place, so that copies of this list can share its jobs.
+     */
+    public void replaceChangedJob(Job target, Job changed) {
+        requireAllNonNull(target, changed);
+        int index = internalList.indexOf(target, target.getStatus());
+        if (index == -1) {
+            throw new JobNotFoundException();
+        }
+        internalList.set(index, changed);
+        internalList.reposition(index);
+        remainingDuration += remainingDurationOf(changed) - remainingDurationOf(target);
+    }
+
+    /**
+     * Replaces the job named {@code name} by a copy of it changed by {@code change}
+     */
+    private void changeJob(JobName name, Consumer<Job> change) {
+        Job job = findJob(name);
+        if (job == null) {
+            throw new JobNotFoundException();
+        }
+        Job changed = new Job(job);
+        change.accept(changed);
+        replaceChangedJob(job, changed);
+    }
+
+    private static long remainingDurationOf(Job job) {
+        Status status = job.getStatus();
+        return (status == Status.ONGOING) || (status == Status.QUEUED) ? job.getDuration() : 0;
     }
 
     /**
@@ -227,30 +281,32 @@ public class UniqueJobList {
         }
 
         internalList.set(index, editedJob);
+        internalList.reposition(index);
+        remainingDuration += remainingDurationOf(editedJob) - remainingDurationOf(target);
     }
 
     /**
      * Starts the Job
      */
     public void startJob(JobName name) {
-        requireAllNonNull();
-        findJob(name).startJob();
+        requireNonNull(name);
+        changeJob(name, Job::startJob);
     }
 
     /**
      * Cancels the Job
      */
     public void cancelJob(JobName name) {
-        requireAllNonNull();
-        findJob(name).cancelJob();
+        requireNonNull(name);
+        changeJob(name, Job::cancelJob);
     }
 
     /**
      * Restarts the Job
      */
     public void restartJob(JobName name) {
-        requireAllNonNull();
-        findJob(name).restartJob();
+        requireNonNull(name);
+        changeJob(name, Job::restartJob);
     }
 
     /**
@@ -258,6 +314,7 @@ public class UniqueJobList {
      */
     public void clearJobs() {
         internalList.clear();
+        remainingDuration = 0;
     }
 
     /**
@@ -265,10 +322,37 @@ public class UniqueJobList {
      * 1) FINISHED
      * 2) CANCELLED
      * 3) DELETING
+     * and returns the jobs that were removed
      */
 
-    public void cleanJobs() {
-        internalList.removeIf(cleanJobPredicate);
+    public List<Job> cleanJobs() {
+        List<Job> cleanableJobs = new ArrayList<>();
+        for (Status status : CLEANABLE_STATUSES) {
+            cleanableJobs.addAll(internalList.jobsWith(status));
+        }
+        if (!cleanableJobs.isEmpty()) {
+            internalList.removeJobs(cleanableJobs);
+        }
+        return cleanableJobs;
+    }
+
+    /**
+     * Removes the jobs that could be cleaned and were last worked on before {@code millis},
+     * and returns the jobs that were removed
+     */
+    public List<Job> removeJobsCompletedBefore(long millis) {
+        List<Job> completedJobs = new ArrayList<>();
+        for (Status status : CLEANABLE_STATUSES) {
+            for (Job job : internalList.jobsWith(status)) {
+                if (job.getLastActiveTime() < millis) {
+                    completedJobs.add(job);
+                }
+            }
+        }
+        if (!completedJobs.isEmpty()) {
+            internalList.removeJobs(completedJobs);
+        }
+        return completedJobs;
     }
 
     /**
@@ -276,12 +360,18 @@ public class UniqueJobList {
      */
 
     public boolean hasCleanableJobs() {
-        return internalList.filtered(cleanJobPredicate).size() != 0;
+        for (Status status : CLEANABLE_STATUSES) {
+            if (internalList.count(status) != 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
     public void requestDeletion(JobName name) {
-        findJob(name).setStatus(Status.DELETING);
+        requireNonNull(name);
+        changeJob(name, job -> job.setStatus(Status.DELETING));
     }
 
 
@@ -299,27 +389,16 @@ public class UniqueJobList {
             throw new JobNotFoundException();
         }
         internalList.set(targetIndex, new Job(replaceWith));
+        internalList.reposition(targetIndex);
+        remainingDuration += remainingDurationOf(replaceWith) - remainingDurationOf(jobToBeReplaced);
     }
 
     /**
      * sets a jobStatus to finish.
      */
-    public void finishJob(Job job) {
-        job.finishJob();
-    }
-
-
-    //============================= queue operations =======================================//
-
-    /**
-     * Queue comparator for job
-     */
-    class JobComparator implements Comparator<Job> {
-
-        @Override
-        public int compare(Job j1, Job j2) {
-            return j2.hasHigherDisplayPriority(j1);
-        }
+    public void finishJob(JobName name) {
+        requireNonNull(name);
+        changeJob(name, Job::finishJob);
     }
 
 }
@@ -40,6 +40,7 @@ public class Machine {
     private MachineName machineName;
     //TODO make status be more diverse, like enum
     private MachineStatus status;
+    private long statusChanges = 0;
 
     // Data fields
     private final UniqueJobList jobs = new UniqueJobList();
@@ -68,6 +69,19 @@ public class Machine {
         }
     }
 
+    /**
+     * Returns a copy of {@code toBeCopied} that holds the same jobs instead of copies of them.
+     * Jobs in the model are replaced rather than changed in place, so a copy of a machine in the model
+     * keeps its jobs as they were when the copy was taken.
+     */
+    public static Machine copySharingJobs(Machine toBeCopied) {
+        requireNonNull(toBeCopied);
+        Machine copy = new Machine(toBeCopied.getName(), Collections.emptyList(), toBeCopied.tags,
+            toBeCopied.status);
+        copy.jobs.setJobs(toBeCopied.jobs);
+        return copy;
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -91,6 +105,17 @@ public class Machine {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns a number that grows whenever this machine or its job queue is changed.
+     * Two calls returning the same number mean the machine was not changed in between.
+     */
+    public long getVersion() {
+        return statusChanges + jobs.getVersion();
+    }
+
+    /**
+     * Returns the total duration of the QUEUED and ONGOING jobs of this machine
+     */
     public long getTotalDuration() {
         return jobs.getTotalTime();
     }
@@ -125,6 +150,7 @@ public class Machine {
     public void setMachineStatus(MachineStatus machineStatus) throws InvalidMachineStatusException {
         if (MachineStatus.isValidMachineStatus(machineStatus)) {
             this.status = machineStatus;
+            statusChanges++;
         }
 
         throw new InvalidMachineStatusException();
@@ -190,6 +216,14 @@ public class Machine {
         jobs.reSortList();
     }
 
+    /**
+     * Replaces {@code target} by {@code changed}, a changed copy of it,
+     * and updates the machine's remaining duration and the place of the job in the queue
+     */
+    public void replaceChangedJob(Job target, Job changed) {
+        jobs.replaceChangedJob(target, changed);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -214,6 +248,13 @@ public class Machine {
         return jobs.hasCleanableJobs();
     }
 
+    /**
+     * Returns true if the machine has an ONGOING job
+     */
+    public boolean hasOngoingJob() {
+        return jobs.hasOngoingJob();
+    }
+
     /**
      * Returns true if the machine contains
      * {@code job} in its list;
@@ -267,10 +308,18 @@ public class Machine {
     }
 
     /**
-     * Cleans all jobs in machine that satisfy the cleanJobPredicate in uniqueJobList
+     * Cleans all finished, cancelled and deleting jobs in machine, and returns the jobs that were removed
      */
 
-    public void cleanMachine() {
-        jobs.cleanJobs();
+    public List<Job> cleanMachine() {
+        return jobs.cleanJobs();
+    }
+
+    /**
+     * Removes the finished, cancelled and deleting jobs last worked on before {@code millis},
+     * and returns the jobs that were removed
+     */
+    public List<Job> removeJobsCompletedBefore(long millis) {
+        return jobs.removeJobsCompletedBefore(millis);
     }
 }
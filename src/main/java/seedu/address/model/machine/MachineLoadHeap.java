@@ -0,0 +1,182 @@
+package seedu.address.model.machine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An indexed binary min-heap of the ENABLED machines of a {@code UniqueMachineList},
+ * keyed on each machine's remaining queued and ongoing duration.
+ * Machines with the same load are ordered by their position in the machine list.
+ * The heap only sees load changes that are reported to it through {@link #update(Machine)}.
+ */
+class MachineLoadHeap {
+
+    private static final int NOT_IN_HEAP = -1;
+
+    private final List<Entry> heap = new ArrayList<>();
+    private final Map<Machine, Entry> entries = new IdentityHashMap<>();
+    private long nextOrder = 0;
+
+    /**
+     * Removes every machine from the heap
+     */
+    public void clear() {
+        heap.clear();
+        entries.clear();
+        nextOrder = 0;
+    }
+
+    /**
+     * Adds a machine that has just been appended to the machine list
+     */
+    public void add(Machine machine) {
+        requireNonNull(machine);
+        Entry entry = new Entry(machine, nextOrder++);
+        entries.put(machine, entry);
+        update(machine);
+    }
+
+    /**
+     * Puts {@code replacement} at the place of {@code target} in the list ordering
+     */
+    public void replace(Machine target, Machine replacement) {
+        requireNonNull(replacement);
+        Entry old = entries.get(target);
+        long order = old == null ? nextOrder++ : old.order;
+        remove(target);
+        entries.put(replacement, new Entry(replacement, order));
+        update(replacement);
+    }
+
+    /**
+     * Removes {@code machine} from the heap, if present
+     */
+    public void remove(Machine machine) {
+        Entry entry = entries.remove(machine);
+        if (entry != null && entry.position != NOT_IN_HEAP) {
+            removeAt(entry.position);
+        }
+    }
+
+    /**
+     * Re-reads the status and load of {@code machine} and restores the heap order around it.
+     * Must be called whenever the machine's load or status changes.
+     */
+    public void update(Machine machine) {
+        Entry entry = entries.get(machine);
+        if (entry == null) {
+            return;
+        }
+        boolean isEnabled = machine.getStatus() == MachineStatus.ENABLED;
+        if (!isEnabled) {
+            if (entry.position != NOT_IN_HEAP) {
+                removeAt(entry.position);
+            }
+            return;
+        }
+        entry.load = machine.getTotalDuration();
+        if (entry.position == NOT_IN_HEAP) {
+            entry.position = heap.size();
+            heap.add(entry);
+        }
+        siftDown(siftUp(entry.position));
+    }
+
+    /**
+     * Returns the ENABLED machine with the least load that is not {@code otherThanMe},
+     * or null if there is no such machine
+     */
+    public Machine peek(Machine otherThanMe) {
+        if (heap.isEmpty()) {
+            return null;
+        }
+        Entry root = heap.get(0);
+        if (root.machine != otherThanMe) {
+            return root.machine;
+        }
+        // the second smallest entry is always one of the root's children
+        Entry best = null;
+        for (int child = 1; child <= 2 && child < heap.size(); child++) {
+            if (best == null || isLess(heap.get(child), best)) {
+                best = heap.get(child);
+            }
+        }
+        return best == null ? null : best.machine;
+    }
+
+    //============================= heap operations =======================================//
+
+    private void removeAt(int position) {
+        Entry removed = heap.get(position);
+        Entry last = heap.remove(heap.size() - 1);
+        removed.position = NOT_IN_HEAP;
+        if (last != removed) {
+            heap.set(position, last);
+            last.position = position;
+            siftDown(siftUp(position));
+        }
+    }
+
+    private int siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!isLess(heap.get(position), heap.get(parent))) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+        return position;
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = 2 * position + 1;
+            int right = left + 1;
+            int smallest = position;
+            if (left < heap.size() && isLess(heap.get(left), heap.get(smallest))) {
+                smallest = left;
+            }
+            if (right < heap.size() && isLess(heap.get(right), heap.get(smallest))) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Entry first = heap.get(i);
+        Entry second = heap.get(j);
+        heap.set(i, second);
+        heap.set(j, first);
+        second.position = i;
+        first.position = j;
+    }
+
+    private static boolean isLess(Entry e1, Entry e2) {
+        return e1.load < e2.load || (e1.load == e2.load && e1.order < e2.order);
+    }
+
+    /**
+     * A machine together with its cached load, list ordering and position in the heap
+     */
+    private static class Entry {
+        private final Machine machine;
+        private final long order;
+        private long load;
+        private int position = NOT_IN_HEAP;
+
+        Entry(Machine machine, long order) {
+            this.machine = machine;
+            this.order = order;
+        }
+    }
+}
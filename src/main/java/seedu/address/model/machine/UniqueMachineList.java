@@ -3,7 +3,11 @@ package seedu.address.model.machine;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -24,10 +28,17 @@ import seedu.address.model.machine.exceptions.MachineNotFoundException;
 
 /**
  * A list of machines that ensures uniqueness in Machine names
+ * Also maintains an index of every job name to the job and the machine that holds it,
+ * so that job lookups do not have to walk through every machine's queue
+ *
+ * A job is never changed in place once it is in the list: it is replaced by a changed copy,
+ * so that copies of the machines can share the jobs that did not change.
  */
 public class UniqueMachineList {
     private static final Logger logger = LogsCenter.getLogger(UniqueMachineList.class);
     private final ObservableList<Machine> internalList = FXCollections.observableArrayList();
+    private final Map<JobName, JobMachineTuple> jobIndex = new HashMap<>();
+    private final MachineLoadHeap loadHeap = new MachineLoadHeap();
 
     /**
      * Returns true if the list contains an equivalent machine
@@ -59,7 +70,19 @@ public class UniqueMachineList {
         for (Machine machine : machines) {
             temp.add(new Machine(machine));
         }
-        internalList.setAll(temp);
+        adoptMachines(temp);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code machines} without copying them.
+     * {@code machines} must not contain duplicate machines, and must not be used by anything else afterwards.
+     */
+    public void adoptMachines(List<Machine> machines) {
+        requireNonNull(machines);
+        internalList.setAll(machines);
+        rebuildJobIndex();
+        loadHeap.clear();
+        internalList.forEach(loadHeap::add);
     }
 
     /**
@@ -80,6 +103,9 @@ public class UniqueMachineList {
         }
 
         internalList.set(index, editedMachine);
+        unindexJobsOf(target);
+        indexJobsOf(editedMachine);
+        loadHeap.replace(target, editedMachine);
     }
 
     /**
@@ -101,6 +127,15 @@ public class UniqueMachineList {
      * Adds a job the machine {@code target} jobs list
      */
     public void addJobToMachineList(Job job) throws MachineNotFoundException, MachineDisabledException {
+        JobMachineTuple added = addJobWithoutFocus(job);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(added));
+    }
+
+    /**
+     * Adds a job to the machine {@code target} jobs list without asking the UI to focus on the machine,
+     * and returns the job with the machine it was added to
+     */
+    public JobMachineTuple addJobWithoutFocus(Job job) throws MachineNotFoundException, MachineDisabledException {
         requireAllNonNull(job);
 
         Machine target = this.findMachine(job.getMachineName());
@@ -113,28 +148,155 @@ public class UniqueMachineList {
             throw new MachineDisabledException();
         }
         target.addJob(job);
-        target.reSortJobList();
-        EventsCenter.getInstance().post(new FocusMachineRequestEvent(new JobMachineTuple(job, target)));
+        JobMachineTuple added = new JobMachineTuple(job, target);
+        jobIndex.put(job.getJobName(), added);
+        loadHeap.update(target);
+        return added;
     }
 
     /**
      * Remove a job from the machine {@code target} jobs list
      */
     public void removeJobFromMachineList(JobName job) throws JobNotFoundException {
+        JobMachineTuple removed = removeJobWithoutFocus(job);
+        EventsCenter.getInstance().post(new FocusMachineRequestEvent(removed));
+    }
+
+    /**
+     * Removes a job from the machine {@code target} jobs list without asking the UI to focus on the machine,
+     * and returns the job with the machine it was removed from
+     */
+    public JobMachineTuple removeJobWithoutFocus(JobName job) throws JobNotFoundException {
         requireAllNonNull(job);
 
-        for (Machine m : internalList) {
-            Job query = m.findJob(job);
-            if (query != null) {
-                if (query.getStatus() == Status.ONGOING) {
-                    throw new JobOngoingException();
-                }
-                m.removeJob(query);
-                EventsCenter.getInstance().post(new FocusMachineRequestEvent(new JobMachineTuple(query, m)));
-                return;
+        JobMachineTuple query = jobIndex.get(job);
+        if (query == null) {
+            throw new JobNotFoundException();
+        }
+        if (query.job.getStatus() == Status.ONGOING) {
+            throw new JobOngoingException();
+        }
+        query.machine.removeJob(query.job);
+        jobIndex.remove(job);
+        loadHeap.update(query.machine);
+        return query;
+    }
+
+    /**
+     * Moves the job in {@code source} to the back of {@code targetMachine}'s queue,
+     * and returns the moved job with {@code targetMachine}
+     */
+    public JobMachineTuple moveJob(JobMachineTuple source, Machine targetMachine) {
+        requireAllNonNull(source, targetMachine);
+
+        source.machine.removeJob(source.job);
+        Job moved = new Job(source.job);
+        moved.setMachine(targetMachine.getName());
+        targetMachine.addJob(moved);
+        JobMachineTuple result = new JobMachineTuple(moved, targetMachine);
+        jobIndex.put(moved.getJobName(), result);
+        loadHeap.update(source.machine);
+        loadHeap.update(targetMachine);
+        return result;
+    }
+
+    /**
+     * Swaps the positions of the jobs in {@code first} and {@code second}
+     */
+    public void swapJobs(JobMachineTuple first, JobMachineTuple second) {
+        requireAllNonNull(first, second);
+
+        first.machine.replaceJob(first.job, second.job);
+        second.machine.replaceJob(second.job, first.job);
+        // replaceJob stores copies of the jobs, so the index has to point at the copies
+        indexJob(first.machine.findJob(second.job.getJobName()), first.machine);
+        indexJob(second.machine.findJob(first.job.getJobName()), second.machine);
+        loadHeap.update(first.machine);
+        loadHeap.update(second.machine);
+    }
+
+    /**
+     * Replaces the job with the same name as {@code savedJob} by a copy of {@code savedJob},
+     * keeping it on the same machine
+     */
+    public void restoreJob(Job savedJob) {
+        requireNonNull(savedJob);
+
+        JobMachineTuple target = jobIndex.get(savedJob.getJobName());
+        if (target == null) {
+            throw new JobNotFoundException();
+        }
+        target.machine.replaceJob(target.job, savedJob);
+        indexJob(target.machine.findJob(savedJob.getJobName()), target.machine);
+        loadHeap.update(target.machine);
+    }
+
+    /**
+     * Replaces the job in {@code target} by a copy of it changed by {@code statusChange},
+     * moves the copy to its place in the machine's queue and updates the machine's load,
+     * and returns the copy with its machine
+     */
+    public JobMachineTuple changeJobStatus(JobMachineTuple target, Consumer<Job> statusChange) {
+        requireAllNonNull(target, statusChange);
+
+        Job changed = new Job(target.job);
+        statusChange.accept(changed);
+        target.machine.replaceChangedJob(target.job, changed);
+        JobMachineTuple result = new JobMachineTuple(changed, target.machine);
+        jobIndex.put(changed.getJobName(), result);
+        loadHeap.update(target.machine);
+        return result;
+    }
+
+    /**
+     * Removes all jobs from {@code toFlush}
+     */
+    public void flushMachine(Machine toFlush) {
+        requireNonNull(toFlush);
+        unindexJobsOf(toFlush);
+        toFlush.flushMachine();
+        loadHeap.update(toFlush);
+    }
+
+    /**
+     * Removes all finished, cancelled and deleting jobs from {@code toClean}
+     */
+    public void cleanMachine(Machine toClean) {
+        requireNonNull(toClean);
+        for (Job job : toClean.cleanMachine()) {
+            jobIndex.computeIfPresent(job.getJobName(), (name, entry) -> entry.job == job ? null : entry);
+        }
+    }
+
+    /**
+     * Removes the finished, cancelled and deleting jobs last worked on before {@code millis} from every machine,
+     * and returns the jobs that were removed
+     */
+    public List<Job> removeJobsCompletedBefore(long millis) {
+        List<Job> removedJobs = new ArrayList<>();
+        for (Machine machine : internalList) {
+            for (Job job : machine.removeJobsCompletedBefore(millis)) {
+                jobIndex.computeIfPresent(job.getJobName(), (name, entry) -> entry.job == job ? null : entry);
+                removedJobs.add(job);
             }
         }
-        throw new JobNotFoundException();
+        return removedJobs;
+    }
+
+    /**
+     * Returns the job and the machine that holds it, or null if there is no job named {@code jobName}
+     */
+    public JobMachineTuple findJob(JobName jobName) {
+        requireNonNull(jobName);
+        return jobIndex.get(jobName);
+    }
+
+    /**
+     * Returns true if any machine holds a job named {@code jobName}
+     */
+    public boolean containsJob(JobName jobName) {
+        requireNonNull(jobName);
+        return jobIndex.containsKey(jobName);
     }
 
 
@@ -151,6 +313,8 @@ public class UniqueMachineList {
         }
 
         internalList.add(toAdd);
+        indexJobsOf(toAdd);
+        loadHeap.add(toAdd);
     }
 
     /**
@@ -162,6 +326,8 @@ public class UniqueMachineList {
         if (!internalList.remove(toRemove)) {
             throw new MachineNotFoundException();
         }
+        unindexJobsOf(toRemove);
+        loadHeap.remove(toRemove);
     }
 
 
@@ -194,17 +360,12 @@ public class UniqueMachineList {
         return getMostFreeMachine(null);
     }
 
+    /**
+     * Returns the ENABLED machine with the least queued and ongoing duration that is not {@code otherThanMe}.
+     * Ties go to the machine that comes first in the list.
+     */
     public Machine getMostFreeMachine(Machine otherThanMe) {
-        long minimumTime = Long.MAX_VALUE;
-        Machine mostFreeMachine = null;
-
-        for (Machine machine : internalList) {
-            if ((machine.getTotalDuration() < minimumTime) && (machine.getStatus().equals(MachineStatus.ENABLED))
-                && !(machine == otherThanMe)) {
-                minimumTime = machine.getTotalDuration();
-                mostFreeMachine = machine;
-            }
-        }
+        Machine mostFreeMachine = loadHeap.peek(otherThanMe);
 
         if (mostFreeMachine != null) {
             return mostFreeMachine;
@@ -219,15 +380,48 @@ public class UniqueMachineList {
      * @param job
      */
     public boolean isTopJob(JobName job) {
-        for (Machine m : internalList) {
-            if (m.getJobs().isEmpty()) {
-                continue;
-            }
-            if (m.getJobs().get(0).getJobName().equals(job)) {
-                return true;
-            }
+        JobMachineTuple query = jobIndex.get(job);
+        if (query == null || query.machine.getJobs().isEmpty()) {
+            return false;
+        }
+        return query.machine.getJobs().get(0).getJobName().equals(job);
+    }
+
+    //============================= job index operations =======================================//
+
+    /**
+     * Rebuilds the job index from the machines currently in the list
+     */
+    private void rebuildJobIndex() {
+        jobIndex.clear();
+        for (Machine machine : internalList) {
+            indexJobsOf(machine);
+        }
+    }
+
+    /**
+     * Adds every job of {@code machine} to the index.
+     * If a job name is already indexed, the earlier machine keeps it.
+     */
+    private void indexJobsOf(Machine machine) {
+        for (Job job : machine.getJobs()) {
+            jobIndex.putIfAbsent(job.getJobName(), new JobMachineTuple(job, machine));
+        }
+    }
+
+    /**
+     * Removes every job of {@code machine} from the index
+     */
+    private void unindexJobsOf(Machine machine) {
+        for (Job job : machine.getJobs()) {
+            jobIndex.computeIfPresent(job.getJobName(), (name, entry) -> entry.machine == machine ? null : entry);
+        }
+    }
+
+    private void indexJob(Job job, Machine machine) {
+        if (job != null) {
+            jobIndex.put(job.getJobName(), new JobMachineTuple(job, machine));
         }
-        return false;
     }
 
 }
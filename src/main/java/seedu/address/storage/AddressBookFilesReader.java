@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads the persons, the machines and the admins of an address book from their own files at the same time,
+ * and merges them into one {@code AddressBook}.
+ *
+ * Each kind of data is read on a thread of its own into an {@code AddressBook} of its own, so reading all of them
+ * takes about as long as reading the slowest file. A reader handles the errors of its own file, e.g. by leaving
+ * its kind of data empty, or by creating the default admin when there are no admins,
+ * which then happens alongside the reading of the other files.
+ */
+public class AddressBookFilesReader {
+
+    /**
+     * Reads one kind of data from its file into a new {@code AddressBook} that holds only that kind of data
+     */
+    @FunctionalInterface
+    public interface PartReader {
+        AddressBook read() throws IOException;
+    }
+
+    /**
+     * Runs {@code persons}, {@code machines} and {@code admins} at the same time, and returns an address book
+     * with the persons, machines and admins they read. The machines read are taken over without being copied.
+     *
+     * @throws IOException if any of the readers throws it.
+     */
+    public static AddressBook readAll(PartReader persons, PartReader machines, PartReader admins)
+            throws IOException {
+        requireAllNonNull(persons, machines, admins);
+        ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "Data file reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<AddressBook> personsRead = executor.submit(persons::read);
+            Future<AddressBook> machinesRead = executor.submit(machines::read);
+            Future<AddressBook> adminsRead = executor.submit(admins::read);
+
+            AddressBook fullAddressBookData = new AddressBook();
+            fullAddressBookData.setPersons(getPart(personsRead).getPersonList());
+            // the machines read belong to no one else, so they are taken over without copying them
+            fullAddressBookData.adoptMachines(new ArrayList<>(getPart(machinesRead).getMachineList()));
+            fullAddressBookData.setAdmins(getPart(adminsRead).getAdminList());
+            return fullAddressBookData;
+        } finally {
+            // stops the readers that are not needed any more after a failure
+            executor.shutdownNow();
+        }
+    }
+
+    private static AddressBook getPart(Future<AddressBook> part) throws IOException {
+        try {
+            return part.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the data files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -2,11 +2,17 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -36,6 +42,13 @@ public interface AddressBookStorage {
      */
 
     Optional<ReadOnlyAddressBook> readAddressBook(UserPrefs userPrefs) throws DataConversionException, IOException;
+
+    /**
+     * Similar to {@link #readAddressBook(UserPrefs)}, but returns the data as a new {@link AddressBook}
+     * that nothing else refers to, so that the caller can take it over without copying it.
+     */
+    Optional<AddressBook> readOwnedAddressBook(UserPrefs userPrefs) throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -54,6 +67,36 @@ public interface AddressBookStorage {
 
     void saveAddressBook(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) throws IOException;
 
+    /**
+     * Returns true if the next job change can be saved with {@link #saveMachineMutation(JobMutation)},
+     * after the {@code pendingMutations} job changes that have been accepted but not saved yet.
+     * Returns false if the whole machine list has to be saved first, e.g. because it has never been saved
+     * or because enough changes have been recorded since it was last saved.
+     */
+    boolean canSaveMachineMutation(int pendingMutations);
+
+    /**
+     * Saves a single job change {@code mutation} on top of the machine list that was last saved in full,
+     * and the job changes saved after it.
+     * @throws IOException if there was any problem writing to the file,
+     *     or if the machine list has not been saved in full yet.
+     */
+    void saveMachineMutation(JobMutation mutation) throws IOException;
+
+    /**
+     * Returns true if machines can be saved one at a time with {@link #saveChangedMachines(List, Collection)}.
+     * Returns false if the whole machine list has to be saved instead.
+     */
+    boolean canSaveChangedMachines();
+
+    /**
+     * Saves only {@code changedMachines}, keeping the machines saved earlier, and records that the machine list
+     * now consists of the machines named {@code machineNames}, in that order.
+     * @throws IOException if there was any problem writing to the files,
+     *     or if the machines cannot be saved one at a time.
+     */
+    void saveChangedMachines(List<MachineName> machineNames, Collection<Machine> changedMachines) throws IOException;
+
     UserPrefs getUserPrefs();
 
 }
@@ -7,10 +7,13 @@ import java.util.Optional;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
 import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.model.JobsArchivedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyJobArchive;
 import seedu.address.model.UserPrefs;
 
 
@@ -31,34 +34,56 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException;
 
+    /**
+     * Returns the data of all the data files as a new {@link AddressBook} that the caller can take over.
+     * @see #readOwnedAddressBook(UserPrefs)
+     */
+    Optional<AddressBook> readOwnedAddressBook() throws DataConversionException, IOException;
+
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Returns the job archive that finished jobs are kept in once they have been taken out of the machines
+     */
+    ReadOnlyJobArchive getJobArchive();
+
+    /**
+     * Writes out the changes that are still waiting to be saved, and returns once they have been written.
+     */
+    void flushPendingSaves();
+
+    /**
+     * Saves the current version of the Address Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
     /**
-     * Saves the current version of the Admin List to the hard disk.
+     * Saves the current version of the Admin List to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAdminListChangedEvent(AdminListChangedEvent alce);
 
     /**
-     * Saves the current version of the Machine List to the hard disk.
+     * Saves the current version of the Machine List to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleMachineListChangedEvent(MachineListChangedEvent mlce);
 
     /**
-     * Saves the current version of the Job List to the hard disk.
+     * Saves the current version of the Job List to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleJobListChangedEvent(JobListChangedEvent event);
+
+    /**
+     * Appends the archived jobs to the job archive on the hard disk in the background.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void handleJobsArchivedEvent(JobsArchivedEvent event);
 }
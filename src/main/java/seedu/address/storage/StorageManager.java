@@ -2,7 +2,17 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,28 +22,76 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
 import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.model.JobsArchivedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyJobArchive;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.storage.json.JsonJobArchive;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Changes reported by events are not written on the thread that raised them.
+ * Each handler copies the part of the data that belongs to its file and marks that file as dirty,
+ * and a background writer saves the dirty files once no more changes have arrived for the save delay,
+ * so a burst of changes to the same file is written only once.
+ * The handlers are called on the thread that raised the event, as the events carry the model itself,
+ * whose data must be copied before it is changed again.
+ *
+ * When machines can be saved one at a time, the version of each machine last handed to the writer is
+ * remembered, and a change to the machine list copies and saves only the machines whose version has changed.
+ * Once the machines file fails to be written, the machines are saved in full with the next change
+ * before any job change is journaled again.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    /** Default time to wait for further changes before the changed files are written */
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 200;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private UserPrefs userPrefs;
 
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService saveExecutor;
+    // files waiting to be written, guarded by itself
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+    private boolean isSaveScheduled = false;
+    // versions of the machines as they were last handed to the writer, guarded by pendingSaves
+    private final Map<Machine, Long> savedMachineVersions = new IdentityHashMap<>();
+    // true after the machines file failed to be written, until the machines are saved in full again,
+    // guarded by pendingSaves
+    private boolean isMachineCheckpointNeeded = false;
+    private final JsonJobArchive jobArchive;
+    // archived jobs that could not be appended to the job archive yet, only used by the writer
+    private final List<Job> unwrittenArchivedJobs = new ArrayList<>();
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, DEFAULT_SAVE_DELAY_MILLIS);
+    }
+
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayMillis) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.userPrefs = addressBookStorage.getUserPrefs();
+        this.saveDelayMillis = saveDelayMillis;
+        this.jobArchive = new JsonJobArchive(userPrefs.getJobArchiveDirectoryPath());
+        this.saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Storage writer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -84,6 +142,23 @@ public class StorageManager extends ComponentManager implements Storage {
         return addressBookStorage.readAddressBook(userPrefs);
     }
 
+    @Override
+    public Optional<AddressBook> readOwnedAddressBook() throws DataConversionException, IOException {
+        return readOwnedAddressBook(userPrefs);
+    }
+
+    @Override
+    public Optional<AddressBook> readOwnedAddressBook(UserPrefs userPrefs) throws DataConversionException,
+                                                                                     IOException {
+        Optional<AddressBook> addressBook = addressBookStorage.readOwnedAddressBook(userPrefs);
+        addressBook.ifPresent(data -> {
+            synchronized (pendingSaves) {
+                recordSavedMachineVersions(data.getMachineList());
+            }
+        });
+        return addressBook;
+    }
+
     /**
      * Saves the entire addressbook to each of the relevant file
      * by marshalling the individual data correctly into its appropriate file
@@ -110,6 +185,42 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, userPrefs);
     }
 
+    @Override
+    public boolean canSaveMachineMutation(int pendingMutations) {
+        return addressBookStorage.canSaveMachineMutation(pendingMutations);
+    }
+
+    @Override
+    public void saveMachineMutation(JobMutation mutation) throws IOException {
+        addressBookStorage.saveMachineMutation(mutation);
+    }
+
+    @Override
+    public boolean canSaveChangedMachines() {
+        return addressBookStorage.canSaveChangedMachines();
+    }
+
+    @Override
+    public void saveChangedMachines(List<MachineName> machineNames, Collection<Machine> changedMachines)
+            throws IOException {
+        addressBookStorage.saveChangedMachines(machineNames, changedMachines);
+    }
+
+    @Override
+    public ReadOnlyJobArchive getJobArchive() {
+        return jobArchive;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        try {
+            saveExecutor.submit(this::writePendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Unexpected exception " + e.getCause().getMessage(), e.getCause());
+        }
+    }
 
     //----------------------------Events---------------------------------//
     @Override
@@ -117,11 +228,9 @@ public class StorageManager extends ComponentManager implements Storage {
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         logger.info("PersonsListChangedEvent triggered");
-        try {
-            saveAddressBook(event.data, userPrefs.getAddressBookFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        AddressBook persons = new AddressBook();
+        persons.setPersons(event.data.getPersonList());
+        scheduleSave(userPrefs.getAddressBookFilePath(), persons);
     }
 
     @Override
@@ -129,34 +238,202 @@ public class StorageManager extends ComponentManager implements Storage {
     public void handleAdminListChangedEvent(AdminListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         logger.info("AdminListChangedEvent triggered");
-        try {
-            saveAddressBook(event.data, userPrefs.getMakerManagerAdminsFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        AddressBook admins = new AddressBook();
+        admins.setAdmins(event.data.getAdminList());
+        scheduleSave(userPrefs.getMakerManagerAdminsFilePath(), admins);
     }
 
     @Override
     @Subscribe
     public void handleMachineListChangedEvent(MachineListChangedEvent event) {
-        try {
-            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-            logger.info("MachineListChangedEvent triggered");
-            saveAddressBook(event.data, userPrefs.getMakerManagerMachinesFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info("MachineListChangedEvent triggered");
+        Path machinesFile = userPrefs.getMakerManagerMachinesFilePath();
+        synchronized (pendingSaves) {
+            PendingSave pending = pendingSaves.get(machinesFile);
+            boolean isFullSavePending = pending != null && pending.data != null;
+            int pendingMutations = pending == null ? 0 : pending.mutations.size();
+            if (event.mutation != null && !isMachineCheckpointNeeded && canSaveMachineMutation(pendingMutations)) {
+                // a job change is cheap to record and needs no copy of the machines
+                addPendingSave(machinesFile).mutations.add(event.mutation);
+            } else if (!isFullSavePending && !isMachineCheckpointNeeded && canSaveChangedMachines()) {
+                scheduleChangedMachinesSave(machinesFile, event.data.getMachineList());
+            } else {
+                // the storage may not journal job changes at all, so a pending copy is replaced rather than
+                // followed by the job change
+                AddressBook machines = new AddressBook();
+                machines.setMachines(event.data.getMachineList());
+                scheduleSave(machinesFile, machines);
+                recordSavedMachineVersions(event.data.getMachineList());
+            }
         }
     }
 
     @Override
     @Subscribe
     public void handleJobListChangedEvent(JobListChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info("JobsListChangedEvent triggered");
+        scheduleSave(userPrefs.getMakerManagerJobsFilePath(), new AddressBook(event.data));
+    }
+
+    @Override
+    @Subscribe
+    public void handleJobsArchivedEvent(JobsArchivedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Jobs archived, appending to the job archive"));
+        List<Job> archivedJobs = new ArrayList<>(event.jobs);
+        // not delayed, so the jobs are in the archive before the machines without them are written
+        saveExecutor.submit(() -> appendToJobArchive(archivedJobs));
+    }
+
+    //----------------------------Background writer---------------------------------//
+
+    /**
+     * Appends {@code archivedJobs} to the job archive, along with any archived jobs that failed to be appended
+     * before. Raises {@link DataSavingExceptionEvent} if the archive could not be written, and keeps the jobs
+     * to be appended with the next archived jobs.
+     */
+    private void appendToJobArchive(List<Job> archivedJobs) {
+        unwrittenArchivedJobs.addAll(archivedJobs);
         try {
-            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-            logger.info("JobsListChangedEvent triggered");
-            saveAddressBook(event.data, userPrefs.getMakerManagerJobsFilePath());
+            jobArchive.append(unwrittenArchivedJobs);
+            unwrittenArchivedJobs.clear();
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
+
+    /**
+     * Marks {@code filePath} to be written with {@code data}, which must not be changed afterwards.
+     * Replaces any earlier data and job changes still waiting to be written to the same file.
+     */
+    private void scheduleSave(Path filePath, ReadOnlyAddressBook data) {
+        synchronized (pendingSaves) {
+            PendingSave pending = addPendingSave(filePath);
+            pending.data = data;
+            pending.mutations.clear();
+            pending.machineNames = null;
+            pending.changedMachines.clear();
+        }
+    }
+
+    /**
+     * Marks {@code machinesFile} to be written by saving copies of the machines in {@code machineList}
+     * that have changed since they were last handed to the writer.
+     * Must be called while holding the lock on {@code pendingSaves}.
+     */
+    private void scheduleChangedMachinesSave(Path machinesFile, List<Machine> machineList) {
+        List<MachineName> machineNames = new ArrayList<>(machineList.size());
+        List<Machine> changedMachines = new ArrayList<>();
+        Map<Machine, Long> versions = new IdentityHashMap<>();
+        for (Machine machine : machineList) {
+            machineNames.add(machine.getName());
+            Long savedVersion = savedMachineVersions.get(machine);
+            if (savedVersion == null || savedVersion != machine.getVersion()) {
+                changedMachines.add(machine);
+            }
+            versions.put(machine, machine.getVersion());
+        }
+        savedMachineVersions.clear();
+        savedMachineVersions.putAll(versions);
+
+        PendingSave pending = addPendingSave(machinesFile);
+        pending.machineNames = machineNames;
+        for (Machine machine : changedMachines) {
+            pending.changedMachines.put(machine.getName(), new Machine(machine));
+        }
+    }
+
+    /**
+     * Remembers the versions of the machines in {@code machineList} as the versions last handed to the writer.
+     * Must be called while holding the lock on {@code pendingSaves}.
+     */
+    private void recordSavedMachineVersions(List<Machine> machineList) {
+        savedMachineVersions.clear();
+        for (Machine machine : machineList) {
+            savedMachineVersions.put(machine, machine.getVersion());
+        }
+    }
+
+    /**
+     * Returns the pending save of {@code filePath}, creating it and scheduling the writer if needed.
+     * Must be called while holding the lock on {@code pendingSaves}.
+     */
+    private PendingSave addPendingSave(Path filePath) {
+        if (!isSaveScheduled) {
+            saveExecutor.schedule(this::writePendingSaves, saveDelayMillis, TimeUnit.MILLISECONDS);
+            isSaveScheduled = true;
+        }
+        return pendingSaves.computeIfAbsent(filePath, unused -> new PendingSave());
+    }
+
+    /**
+     * Writes every file that is waiting to be written.
+     * Raises {@link DataSavingExceptionEvent} for each file that could not be written.
+     */
+    private void writePendingSaves() {
+        List<Map.Entry<Path, PendingSave>> saves;
+        synchronized (pendingSaves) {
+            saves = new ArrayList<>(pendingSaves.entrySet());
+            pendingSaves.clear();
+            isSaveScheduled = false;
+        }
+
+        for (Map.Entry<Path, PendingSave> save : saves) {
+            PendingSave pending = save.getValue();
+            boolean isMachinesFile = save.getKey().equals(userPrefs.getMakerManagerMachinesFilePath());
+            try {
+                if (pending.data != null) {
+                    saveAddressBook(pending.data, save.getKey());
+                    if (isMachinesFile) {
+                        setMachineCheckpointNeeded(false);
+                    }
+                }
+                if (!pending.mutations.isEmpty() && isMachineCheckpointNeeded()) {
+                    // queued before an earlier write failed, so they are saved with the machines in full instead
+                    logger.info("Not journaling " + pending.mutations.size()
+                        + " job changes until the machines are saved in full");
+                } else {
+                    for (JobMutation mutation : pending.mutations) {
+                        saveMachineMutation(mutation);
+                    }
+                }
+                if (pending.machineNames != null) {
+                    saveChangedMachines(pending.machineNames, pending.changedMachines.values());
+                }
+            } catch (IOException e) {
+                if (isMachinesFile) {
+                    // the changes that were not written would leave a gap under any job change journaled next,
+                    // so the machines are saved in full with the next change before anything else is journaled
+                    setMachineCheckpointNeeded(true);
+                }
+                raise(new DataSavingExceptionEvent(e));
+            }
+        }
+    }
+
+    private boolean isMachineCheckpointNeeded() {
+        synchronized (pendingSaves) {
+            return isMachineCheckpointNeeded;
+        }
+    }
+
+    private void setMachineCheckpointNeeded(boolean isNeeded) {
+        synchronized (pendingSaves) {
+            isMachineCheckpointNeeded = isNeeded;
+        }
+    }
+
+    /**
+     * The data and the job changes waiting to be written to one file.
+     * The job changes are recorded after the data, or after what was last written if there is no data.
+     * Changed machines are saved on their own only if there is neither data nor job changes,
+     * with {@code machineNames} listing every machine in order.
+     */
+    private static class PendingSave {
+        private ReadOnlyAddressBook data;
+        private final List<JobMutation> mutations = new ArrayList<>();
+        private List<MachineName> machineNames;
+        private final Map<MachineName, Machine> changedMachines = new LinkedHashMap<>();
+    }
 }
@@ -6,6 +6,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -15,16 +18,27 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Password;
 import seedu.address.model.admin.Username;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 import seedu.address.storage.admin.XmlSerializableMakerManagerAdmins;
+import seedu.address.storage.machine.MachineJournal;
+import seedu.address.storage.machine.MachineShardStore;
+import seedu.address.storage.machine.XmlMakerManagerMachinesReader;
 import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
 
 /**
  * A class to access AddressBook data stored as multiple xml files on the hard disk.
+ *
+ * When machine shards are enabled in {@code UserPrefs}, the machines are kept in a {@link MachineShardStore}
+ * instead of the machines file, and single job changes are not journaled, as only the shard of the machine
+ * that changed has to be written again. The machines file and its journal are still read once to migrate them
+ * if the shards have not been written yet.
  */
 public class XmlAddressBookStorage extends ComponentManager implements AddressBookStorage {
 
@@ -36,6 +50,8 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
     private String addressBookFilePath;
     private String makerManagerAdminsFilePath;
     private String makerManagerMachinesFilePath;
+    private MachineJournal machineJournal;
+    private MachineShardStore machineShardStore;
 
     public XmlAddressBookStorage(UserPrefs userPrefs) {
         this.userPrefs = userPrefs;
@@ -43,6 +59,10 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
         this.addressBookFilePath = userPrefs.getAddressBookFilePath().getFileName().toString();
         this.makerManagerAdminsFilePath = userPrefs.getMakerManagerAdminsFilePath().getFileName().toString();
         this.makerManagerMachinesFilePath = userPrefs.getMakerManagerMachinesFilePath().getFileName().toString();
+        this.machineJournal = new MachineJournal(
+                MachineJournal.journalPathFor(userPrefs.getMakerManagerMachinesFilePath()));
+        this.machineShardStore = new MachineShardStore(
+                MachineShardStore.shardDirectoryFor(userPrefs.getMakerManagerMachinesFilePath()));
     }
 
     public Path getAddressBookFilePath() {
@@ -75,9 +95,9 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
                 XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
                 return Optional.of(xmlAddressBook.toModelType());
             } else if (filePath.getFileName().toString().equals(makerManagerMachinesFilePath)) {
-                XmlSerializableMakerManagerMachines xmlMakerManagerMachines =
-                        XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(filePath);
-                return Optional.of(xmlMakerManagerMachines.toModelType());
+                AddressBook machinesAddressBookData = new AddressBook();
+                loadMachines(filePath, machinesAddressBookData);
+                return Optional.of(machinesAddressBookData);
             } else if (filePath.getFileName().toString().equals(makerManagerAdminsFilePath)) {
                 XmlSerializableMakerManagerAdmins xmlMakerManagerAdmins =
                         XmlFileStorage.loadMakerManagerAdminDataFromSaveFile(filePath);
@@ -97,7 +117,21 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
      * i.e addressbook will contain list of persons,admins,machines etc..
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(UserPrefs userPrefs) throws DataConversionException,
-                                                                                        FileNotFoundException {
+                                                                                        IOException {
+        return Optional.of(readAllFiles(userPrefs));
+    }
+
+    @Override
+    public Optional<AddressBook> readOwnedAddressBook(UserPrefs userPrefs) throws DataConversionException,
+                                                                                     IOException {
+        return Optional.of(readAllFiles(userPrefs));
+    }
+
+    /**
+     * Reads the data of every file straight into a new {@code AddressBook}, all files at the same time.
+     * The machines read are handed to the address book as they are, without being copied.
+     */
+    private AddressBook readAllFiles(UserPrefs userPrefs) throws IOException {
         requireNonNull(userPrefs);
 
         Path mainAddressBookFile = userPrefs.getAddressBookFilePath();
@@ -119,41 +153,53 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
             e.printStackTrace();
         }
 
-        AddressBook fullAddressBookData = new AddressBook();
+        return AddressBookFilesReader.readAll(() -> readPersonsFile(mainAddressBookFile),
+            () -> readMachinesFile(makerManagerMachinesFile), () -> readAdminsFile(makerManagerAdminsFile));
+    }
 
-        /**
-         * Loads all the data into each individual temporary serializable xml address book
-         * by parsing the data accordingly through the correct marshalling format stated in XmlFileStorage
-         * Will throw dataConversionError when the file is empty
-         * or if incorrect format
-         */
+    /*
+     * Each of the files below is loaded into its own temporary address book
+     * by parsing the data accordingly through the correct marshalling format stated in XmlFileStorage.
+     * A file that is empty or in an incorrect format leaves its kind of data empty.
+     */
 
+    private AddressBook readPersonsFile(Path mainAddressBookFile) throws FileNotFoundException {
+        AddressBook personsAddressBookData = new AddressBook();
         try {
             XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(mainAddressBookFile);
-            AddressBook mainAddressBookData = xmlAddressBook.toModelType();
-            fullAddressBookData.setPersons(mainAddressBookData.getPersonList());
+            xmlAddressBook.addPersonsTo(personsAddressBookData);
         } catch (DataConversionException dce) {
             logger.info("Person conversion error");
         } catch (IllegalValueException e) {
+            personsAddressBookData.setPersons(Collections.emptyList());
             e.printStackTrace();
         }
+        return personsAddressBookData;
+    }
 
+    private AddressBook readMachinesFile(Path makerManagerMachinesFile) throws FileNotFoundException {
+        AddressBook machinesAddressBookData = new AddressBook();
         try {
-            XmlSerializableMakerManagerMachines xmlMakerManagerMachines =
-                    XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(makerManagerMachinesFile);
-            AddressBook machinesAddressBookData = xmlMakerManagerMachines.toModelType();
-            fullAddressBookData.setMachines(machinesAddressBookData.getMachineList());
+            loadMachines(makerManagerMachinesFile, machinesAddressBookData);
         } catch (DataConversionException dce) {
             logger.info("Machine conversion error");
         } catch (IllegalValueException e) {
             e.printStackTrace();
         }
+        return machinesAddressBookData;
+    }
 
+    /**
+     * Reads the admins file, or creates the default admin and its admins file if there are no admins to read.
+     * The password of the default admin is hashed here, on the thread reading the admins file,
+     * so it does not hold up the reading of the other files.
+     */
+    private AddressBook readAdminsFile(Path makerManagerAdminsFile) throws IOException {
+        AddressBook adminsAddressBookData = new AddressBook();
         try {
             XmlSerializableMakerManagerAdmins xmlMakerManagerAdmins =
                     XmlFileStorage.loadMakerManagerAdminDataFromSaveFile(makerManagerAdminsFile);
-            AddressBook adminsData = xmlMakerManagerAdmins.toModelType();
-            fullAddressBookData.setAdmins(adminsData.getAdminList());
+            xmlMakerManagerAdmins.addAdminsTo(adminsAddressBookData);
 
         } catch (DataConversionException dce) {
             logger.info("Admins conversion error");
@@ -162,15 +208,16 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
             Admin admin = new Admin(username, password);
             AddressBook newAdminData = new AddressBook();
             newAdminData.addAdmin(admin);
-            XmlFileStorage.saveDataToFile(userPrefs.getMakerManagerAdminsFilePath(),
+            XmlFileStorage.saveDataToFile(makerManagerAdminsFile,
                     new XmlSerializableMakerManagerAdmins(newAdminData));
             logger.info("Creating new admin file");
-            fullAddressBookData.setAdmins(newAdminData.getAdminList());
+            adminsAddressBookData.setAdmins(newAdminData.getAdminList());
 
         } catch (IllegalValueException e) {
+            adminsAddressBookData.setAdmins(Collections.emptyList());
             e.printStackTrace();
         }
-        return Optional.of(fullAddressBookData);
+        return adminsAddressBookData;
     }
 
     @Override
@@ -192,7 +239,7 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
         if (filePath.getFileName().toString().equals(addressBookFilePath)) {
             XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook));
         } else if (filePath.getFileName().toString().equals(makerManagerMachinesFilePath)) {
-            XmlFileStorage.saveDataToFile(filePath, new XmlSerializableMakerManagerMachines(addressBook));
+            saveMachines(addressBook, filePath);
         } else if (filePath.getFileName().toString().equals(makerManagerAdminsFilePath)) {
             XmlFileStorage.saveDataToFile(filePath, new XmlSerializableMakerManagerAdmins(addressBook));
         } else {
@@ -225,13 +272,119 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
          * and not just one file
          */
         XmlFileStorage.saveDataToFile(mainAddressBookFile, new XmlSerializableAddressBook(addressBook));
-        XmlFileStorage.saveDataToFile(makerManagerMachinesFile, new XmlSerializableMakerManagerMachines(addressBook));
+        saveMachines(addressBook, makerManagerMachinesFile);
         XmlFileStorage.saveDataToFile(makerManagerAdminsFile, new XmlSerializableMakerManagerAdmins(addressBook));
     }
 
+    @Override
+    public boolean canSaveMachineMutation(int pendingMutations) {
+        if (userPrefs.isMachineShardsEnabled()) {
+            return false;
+        }
+        return machineJournal.hasRoomFor(pendingMutations);
+    }
+
+    /**
+     * Records a single job change by appending it to the machine journal
+     */
+    @Override
+    public void saveMachineMutation(JobMutation mutation) throws IOException {
+        requireNonNull(mutation);
+
+        if (!machineJournal.isStarted()) {
+            throw new IOException("Machine journal " + machineJournal.getJournalFile() + " has not been started");
+        }
+        machineJournal.append(mutation);
+    }
+
+    @Override
+    public boolean canSaveChangedMachines() {
+        return userPrefs.isMachineShardsEnabled() && machineShardStore.exists();
+    }
+
+    /**
+     * Rewrites the shards of {@code changedMachines} and the machine shard manifest only
+     */
+    @Override
+    public void saveChangedMachines(List<MachineName> machineNames, Collection<Machine> changedMachines)
+            throws IOException {
+        requireNonNull(machineNames);
+        requireNonNull(changedMachines);
+
+        if (!userPrefs.isMachineShardsEnabled()) {
+            throw new IOException("Machine shards are not enabled, save the machines file instead");
+        }
+        machineShardStore.write(machineNames, changedMachines);
+    }
+
     @Override
     public UserPrefs getUserPrefs() {
         return userPrefs;
     }
 
+    //============================= machine journal and shards =============================//
+
+    /**
+     * Loads the machines file into {@code machinesAddressBookData}, replacing its machines,
+     * and replays the job changes journaled after the file was written.
+     * Loads the machine shards instead if they are enabled and have been written.
+     */
+    private void loadMachines(Path machinesFile, AddressBook machinesAddressBookData)
+            throws DataConversionException, IllegalValueException, FileNotFoundException {
+        if (isUsingShardsFor(machinesFile) && machineShardStore.exists()) {
+            machinesAddressBookData.adoptMachines(machineShardStore.read());
+            return;
+        }
+
+        XmlMakerManagerMachinesReader machinesReader = new XmlMakerManagerMachinesReader();
+        machinesAddressBookData.adoptMachines(machinesReader.read(machinesFile));
+
+        List<JobMutation> mutations;
+        try {
+            mutations = getMachineJournal(machinesFile).read(machinesReader.getCheckpoint());
+        } catch (IOException e) {
+            logger.warning("Unable to read the machine journal of " + machinesFile + ": " + e.getMessage());
+            return;
+        }
+        for (JobMutation mutation : mutations) {
+            try {
+                mutation.applyTo(machinesAddressBookData);
+            } catch (RuntimeException e) {
+                logger.warning("Unable to replay journaled job change " + mutation + ": " + e.getMessage());
+            }
+        }
+        if (!mutations.isEmpty()) {
+            logger.info("Replayed " + mutations.size() + " journaled job changes on " + machinesFile);
+        }
+    }
+
+    /**
+     * Writes the whole machine list as a new checkpoint and starts a fresh machine journal after it
+     */
+    private void saveMachines(ReadOnlyAddressBook addressBook, Path machinesFile) throws IOException {
+        if (isUsingShardsFor(machinesFile)) {
+            machineShardStore.writeAll(addressBook.getMachineList());
+            return;
+        }
+        String checkpoint = MachineJournal.newCheckpointId();
+        XmlFileStorage.saveDataToFile(machinesFile, new XmlSerializableMakerManagerMachines(addressBook, checkpoint));
+        getMachineJournal(machinesFile).reset(checkpoint);
+    }
+
+    /**
+     * Returns true if the machines of {@code machinesFile} are kept in the machine shards
+     */
+    private boolean isUsingShardsFor(Path machinesFile) {
+        return userPrefs.isMachineShardsEnabled()
+            && machinesFile.getFileName().equals(userPrefs.getMakerManagerMachinesFilePath().getFileName());
+    }
+
+    private MachineJournal getMachineJournal(Path machinesFile) {
+        Path journalFile = MachineJournal.journalPathFor(machinesFile);
+        if (journalFile.equals(machineJournal.getJournalFile())) {
+            return machineJournal;
+        }
+        return new MachineJournal(journalFile);
+    }
+
 }
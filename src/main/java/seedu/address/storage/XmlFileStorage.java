@@ -1,18 +1,23 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.logging.Logger;
-import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.DataSerializer;
+import seedu.address.commons.util.DataSerializers;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.storage.admin.XmlSerializableMakerManagerAdmins;
 import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
 
 /**
- * Stores addressbook data in an XML file
+ * Stores addressbook data in an XML file.
+ * The files are read and written by the {@link DataSerializer} registered for their file extension,
+ * which is the xml one for the files of this app.
  */
 public class XmlFileStorage {
 
@@ -23,36 +28,24 @@ public class XmlFileStorage {
     /**
      * Saves the given addressbook data to the specified file.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook) throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(file, addressBook);
-        } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
-        }
+    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook) throws IOException {
+        saveToFile(file, addressBook);
     }
 
     /**
      * Saves the given admins data to the specified file.
      */
     public static void saveDataToFile(Path file, XmlSerializableMakerManagerAdmins addressBook)
-        throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(file, addressBook);
-        } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
-        }
+        throws IOException {
+        saveToFile(file, addressBook);
     }
 
     /**
      * Saves the given machines data to the specified file.
      */
     public static void saveDataToFile(Path file, XmlSerializableMakerManagerMachines addressBook)
-        throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(file, addressBook);
-        } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
-        }
+        throws IOException {
+        saveToFile(file, addressBook);
     }
 
     //==================================Load data================================================//
@@ -62,11 +55,7 @@ public class XmlFileStorage {
      */
     public static XmlSerializableAddressBook loadDataFromSaveFile(Path file)
         throws DataConversionException, FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
-        } catch (JAXBException e) {
-            throw new DataConversionException(e);
-        }
+        return loadFromFile(file, XmlSerializableAddressBook.class);
     }
 
     /**
@@ -75,11 +64,7 @@ public class XmlFileStorage {
 
     public static XmlSerializableMakerManagerAdmins loadMakerManagerAdminDataFromSaveFile(Path file)
         throws DataConversionException, FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableMakerManagerAdmins.class);
-        } catch (JAXBException e) {
-            throw new DataConversionException(e);
-        }
+        return loadFromFile(file, XmlSerializableMakerManagerAdmins.class);
     }
 
     /**
@@ -87,10 +72,39 @@ public class XmlFileStorage {
      */
     public static XmlSerializableMakerManagerMachines loadMakerManagerMachineDataFromSaveFile(Path file)
         throws DataConversionException, FileNotFoundException {
+        return loadFromFile(file, XmlSerializableMakerManagerMachines.class);
+    }
+
+    //==================================Serializers================================================//
+
+    /**
+     * Writes {@code data} to {@code file}, which must exist already
+     */
+    private static void saveToFile(Path file, Object data) throws IOException {
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+        serializerFor(file).writeFile(file, data);
+    }
+
+    /**
+     * Returns the data in {@code file} as an object of the specified type.
+     * A file that cannot be read is reported the same way as one in the wrong format.
+     */
+    private static <T> T loadFromFile(Path file, Class<T> type) throws DataConversionException, FileNotFoundException {
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableMakerManagerMachines.class);
-        } catch (JAXBException e) {
+            return serializerFor(file).readFile(file, type);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
             throw new DataConversionException(e);
         }
     }
+
+    /**
+     * Returns the serializer registered for the extension of {@code file}, or the xml one if there is none
+     */
+    private static DataSerializer serializerFor(Path file) {
+        return DataSerializers.forFile(file).orElse(XmlUtil.getSerializer());
+    }
 }
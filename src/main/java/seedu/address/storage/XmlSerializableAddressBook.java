@@ -51,6 +51,17 @@ public class XmlSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        addPersonsTo(addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Adds the persons in this addressbook to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violations or duplicates in the
+     * {@code XmlAdaptedPerson}.
+     */
+    public void addPersonsTo(AddressBook addressBook) throws IllegalValueException {
         for (XmlAdaptedPerson p : persons) {
             Person person = p.toModelType();
             if (addressBook.hasPerson(person)) {
@@ -58,8 +69,6 @@ public class XmlSerializableAddressBook {
             }
             addressBook.addPerson(person);
         }
-
-        return addressBook;
     }
 
     @Override
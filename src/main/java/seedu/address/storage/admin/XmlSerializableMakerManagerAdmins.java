@@ -48,7 +48,17 @@ public class XmlSerializableMakerManagerAdmins {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        addAdminsTo(addressBook);
+        return addressBook;
+    }
 
+    /**
+     * Adds the admins in this file to {@code addressBook}, keeping their hashed passwords.
+     *
+     * @throws IllegalValueException if there were any data constraints violations or duplicates in the
+     * {@code XmlAdaptedAdmin}.
+     */
+    public void addAdminsTo(AddressBook addressBook) throws IllegalValueException {
         for (XmlAdaptedAdmin a : admins) {
             Admin admin = a.toModelType();
             if (addressBook.hasAdmin(admin)) {
@@ -56,8 +66,6 @@ public class XmlSerializableMakerManagerAdmins {
             }
             addressBook.addAdminWithoutRehash(admin);
         }
-
-        return addressBook;
     }
 
     @Override
@@ -0,0 +1,313 @@
+package seedu.address.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.storage.AddressBookFilesReader;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.XmlAddressBookStorage;
+
+/**
+ * A class to access AddressBook data stored as binary snapshot files on the hard disk.
+ *
+ * Each kind of data has its own snapshot file next to the xml file named in {@code UserPrefs},
+ * with the extension replaced by {@code .bin}, e.g. {@code makerManagerMachines.bin}.
+ * The xml file paths are still used to tell which kind of data is read or saved.
+ * When none of the snapshot files exist yet, the data is imported from the xml files.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final UserPrefs userPrefs;
+
+    public BinaryAddressBookStorage(UserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs = userPrefs;
+    }
+
+    /**
+     * Returns the snapshot file that stands for {@code xmlFile}
+     */
+    public static Path binaryPathFor(Path xmlFile) {
+        String fileName = xmlFile.getFileName().toString();
+        if (fileName.endsWith(BINARY_FILE_EXTENSION)) {
+            return xmlFile;
+        }
+        int extension = fileName.lastIndexOf('.');
+        String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+        return xmlFile.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return binaryPathFor(userPrefs.getAddressBookFilePath());
+    }
+
+    @Override
+    public UserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    //============================= read =======================================//
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(userPrefs);
+    }
+
+    /**
+     * Returns the data of the single snapshot file that stands for {@code filePath}
+     * @param filePath location of the data, either the xml file named in {@code UserPrefs} or its snapshot file.
+     *                 Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+        Path binaryFile = binaryPathFor(filePath);
+        if (!Files.exists(binaryFile)) {
+            logger.info("MakerManager file " + binaryFile + " not found");
+            return Optional.empty();
+        }
+
+        AddressBook data = new AddressBook();
+        BinarySnapshotReader reader = BinarySnapshotReader.open(binaryFile);
+        try {
+            if (isSameFile(filePath, userPrefs.getAddressBookFilePath())) {
+                data.setPersons(reader.readPersons());
+            } else if (isSameFile(filePath, userPrefs.getMakerManagerMachinesFilePath())) {
+                data.adoptMachines(reader.readMachines());
+            } else if (isSameFile(filePath, userPrefs.getMakerManagerAdminsFilePath())) {
+                reader.readAdmins().forEach(data::addAdminWithoutRehash);
+            } else {
+                logger.info("No such file path available to read data from");
+                return Optional.empty();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + binaryFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(data);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(UserPrefs userPrefs) throws DataConversionException,
+                                                                                        IOException {
+        return Optional.of(readAllFiles(userPrefs));
+    }
+
+    @Override
+    public Optional<AddressBook> readOwnedAddressBook(UserPrefs userPrefs) throws DataConversionException,
+                                                                                     IOException {
+        return Optional.of(readAllFiles(userPrefs));
+    }
+
+    /**
+     * Reads every snapshot file into a new {@code AddressBook}, all at the same time, importing the xml files
+     * first if there are xml files but no snapshot files yet. A file that is missing or cannot be read leaves
+     * its kind of data empty, and a default admin is created if there are no admins, as for the xml files.
+     */
+    private AddressBook readAllFiles(UserPrefs userPrefs) throws IOException {
+        requireNonNull(userPrefs);
+        Path[] xmlFiles = {userPrefs.getAddressBookFilePath(), userPrefs.getMakerManagerMachinesFilePath(),
+            userPrefs.getMakerManagerAdminsFilePath()};
+        if (Stream.of(xmlFiles).noneMatch(xmlFile -> Files.exists(binaryPathFor(xmlFile)))
+            && Stream.of(xmlFiles).anyMatch(Files::exists)) {
+            logger.info("No snapshot files found, importing the xml files");
+            return importFromXml(userPrefs);
+        }
+
+        Path personsFile = binaryPathFor(userPrefs.getAddressBookFilePath());
+        Path machinesFile = binaryPathFor(userPrefs.getMakerManagerMachinesFilePath());
+        Path adminsFile = binaryPathFor(userPrefs.getMakerManagerAdminsFilePath());
+        return AddressBookFilesReader.readAll(() -> readPersonsFile(personsFile),
+            () -> readMachinesFile(machinesFile), () -> readAdminsFile(adminsFile));
+    }
+
+    private AddressBook readPersonsFile(Path personsFile) {
+        AddressBook persons = new AddressBook();
+        try {
+            if (Files.exists(personsFile)) {
+                persons.setPersons(BinarySnapshotReader.open(personsFile).readPersons());
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.info("Person conversion error: " + e.getMessage());
+        }
+        return persons;
+    }
+
+    private AddressBook readMachinesFile(Path machinesFile) {
+        AddressBook machines = new AddressBook();
+        try {
+            if (Files.exists(machinesFile)) {
+                machines.adoptMachines(BinarySnapshotReader.open(machinesFile).readMachines());
+            }
+        } catch (DataConversionException | IllegalValueException | IOException e) {
+            logger.info("Machine conversion error: " + e.getMessage());
+        }
+        return machines;
+    }
+
+    /**
+     * Reads the admins snapshot, or creates the default admin and its snapshot if there are no admins to read
+     */
+    private AddressBook readAdminsFile(Path adminsFile) throws IOException {
+        AddressBook admins = new AddressBook();
+        try {
+            if (Files.exists(adminsFile)) {
+                BinarySnapshotReader.open(adminsFile).readAdmins().forEach(admins::addAdminWithoutRehash);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.info("Admins conversion error: " + e.getMessage());
+        }
+        if (admins.getAdminList().isEmpty()) {
+            logger.info("Creating new admin file");
+            admins.addAdmin(new Admin(new Username("admin"), new Password("admin")));
+            saveAdmins(admins, adminsFile);
+        }
+        return admins;
+    }
+
+    //============================= save =======================================//
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, userPrefs.getAddressBookFilePath());
+    }
+
+    /**
+     * Saves the kind of data that {@code filePath} stands for to its snapshot file
+     * @param filePath either the xml file named in {@code UserPrefs} or its snapshot file. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (isSameFile(filePath, userPrefs.getAddressBookFilePath())) {
+            savePersons(addressBook, binaryPathFor(filePath));
+        } else if (isSameFile(filePath, userPrefs.getMakerManagerMachinesFilePath())) {
+            saveMachines(addressBook, binaryPathFor(filePath));
+        } else if (isSameFile(filePath, userPrefs.getMakerManagerAdminsFilePath())) {
+            saveAdmins(addressBook, binaryPathFor(filePath));
+        } else {
+            logger.info("No such file path available to save data in");
+        }
+    }
+
+    /**
+     * Saves all the data at once to all the snapshot files
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(userPrefs);
+
+        savePersons(addressBook, binaryPathFor(userPrefs.getAddressBookFilePath()));
+        saveMachines(addressBook, binaryPathFor(userPrefs.getMakerManagerMachinesFilePath()));
+        saveAdmins(addressBook, binaryPathFor(userPrefs.getMakerManagerAdminsFilePath()));
+    }
+
+    /**
+     * Always false, as a snapshot of the machines is quick enough to write in full after every change
+     */
+    @Override
+    public boolean canSaveMachineMutation(int pendingMutations) {
+        return false;
+    }
+
+    @Override
+    public void saveMachineMutation(JobMutation mutation) throws IOException {
+        throw new IOException("Binary snapshots do not record single job changes, save the machines instead");
+    }
+
+    /**
+     * Always false, as all the machines are kept in a single snapshot file
+     */
+    @Override
+    public boolean canSaveChangedMachines() {
+        return false;
+    }
+
+    @Override
+    public void saveChangedMachines(List<MachineName> machineNames, Collection<Machine> changedMachines)
+            throws IOException {
+        throw new IOException("Binary snapshots do not store machines one at a time, save the machines instead");
+    }
+
+    private void savePersons(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter();
+        writer.writePersons(addressBook.getPersonList());
+        writer.writeTo(file);
+    }
+
+    private void saveMachines(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter();
+        writer.writeMachines(addressBook.getMachineList());
+        writer.writeTo(file);
+    }
+
+    private void saveAdmins(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter();
+        writer.writeAdmins(addressBook.getAdminList());
+        writer.writeTo(file);
+    }
+
+    //============================= xml bridge =======================================//
+
+    /**
+     * Reads the xml files named in {@code userPrefs} and writes their data to the snapshot files.
+     * Returns the data imported.
+     */
+    public AddressBook importFromXml(UserPrefs userPrefs) throws IOException {
+        requireNonNull(userPrefs);
+        AddressBook data;
+        try {
+            data = new XmlAddressBookStorage(userPrefs).readOwnedAddressBook(userPrefs).orElseGet(AddressBook::new);
+        } catch (DataConversionException e) {
+            throw new IOException("Unable to import the xml files: " + e.getMessage(), e);
+        }
+        saveAddressBook(data, userPrefs);
+        return data;
+    }
+
+    /**
+     * Writes the data of the snapshot files to the xml files named in {@code userPrefs},
+     * e.g. before switching back to xml storage or to edit the data by hand.
+     */
+    public void exportToXml(UserPrefs userPrefs) throws IOException {
+        requireNonNull(userPrefs);
+        new XmlAddressBookStorage(userPrefs).saveAddressBook(readAllFiles(userPrefs), userPrefs);
+    }
+
+    /**
+     * Returns true if {@code filePath} names {@code xmlFile} or its snapshot file
+     */
+    private static boolean isSameFile(Path filePath, Path xmlFile) {
+        return binaryPathFor(filePath).getFileName().equals(binaryPathFor(xmlFile).getFileName());
+    }
+}
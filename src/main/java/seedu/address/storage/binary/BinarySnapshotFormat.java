@@ -0,0 +1,39 @@
+package seedu.address.storage.binary;
+
+/**
+ * Constants of the binary snapshot format.
+ *
+ * A snapshot file is laid out as follows, with every number stored big-endian:
+ * <pre>
+ * file     := MAGIC:int VERSION:int stringCount:int string* section*
+ * string   := byteLength:int utf8Bytes
+ * section  := kind:int byteLength:int body
+ *
+ * PERSONS  := count:int person*
+ * person   := name:ref phone:ref email:ref address:ref tags
+ * ADMINS   := count:int (username:ref password:ref)*
+ * MACHINES := ownerCount:int person* machineCount:int machine*
+ * machine  := name:ref status:ref tags jobCount:int job*
+ * job      := name:ref machine:ref owner:int addedTime:long startTime:long priority:ref status:ref
+ *             duration:long note:ref tags
+ * tags     := count:int tag:ref*
+ * </pre>
+ * A {@code ref} is an int index into the string table, or {@link #NO_STRING} for a missing value,
+ * so every distinct string is stored once per file. Jobs refer to their owner by its index in the owner table
+ * of the machines section. Times are milliseconds since the epoch, or {@link #NO_TIME} for a missing time.
+ * Sections of an unknown kind are skipped, so that newer versions can add sections without breaking older ones.
+ */
+final class BinarySnapshotFormat {
+
+    static final int MAGIC = 0x4D4D5342;
+    static final int VERSION = 1;
+
+    static final int PERSONS_SECTION = 1;
+    static final int ADMINS_SECTION = 2;
+    static final int MACHINES_SECTION = 3;
+
+    static final int NO_STRING = -1;
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    private BinarySnapshotFormat() {}
+}
@@ -0,0 +1,254 @@
+package seedu.address.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.binary.BinarySnapshotFormat.ADMINS_SECTION;
+import static seedu.address.storage.binary.BinarySnapshotFormat.MACHINES_SECTION;
+import static seedu.address.storage.binary.BinarySnapshotFormat.MAGIC;
+import static seedu.address.storage.binary.BinarySnapshotFormat.NO_STRING;
+import static seedu.address.storage.binary.BinarySnapshotFormat.NO_TIME;
+import static seedu.address.storage.binary.BinarySnapshotFormat.PERSONS_SECTION;
+import static seedu.address.storage.binary.BinarySnapshotFormat.VERSION;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+
+/**
+ * Reads a snapshot file in the format described in {@link BinarySnapshotFormat}.
+ *
+ * Large files are memory-mapped instead of being read through a stream. Every section is decoded straight
+ * from the mapping when the file is opened, and the mapping is not kept, so that it can be unmapped once
+ * {@link #open} returns. A mapped file cannot be replaced on Windows, which would make the next save fail.
+ */
+class BinarySnapshotReader {
+
+    /** Files smaller than this are read onto the heap, as mapping them costs more than it saves */
+    private static final long MAP_THRESHOLD_BYTES = 1 << 20;
+
+    private final String[] strings;
+    private final Set<Integer> sectionKinds = new HashSet<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Admin> admins = new ArrayList<>();
+    private final List<Machine> machines = new ArrayList<>();
+
+    private BinarySnapshotReader(Path file, ByteBuffer buffer) throws DataConversionException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new DataConversionException(new IllegalValueException(file + " is not a snapshot file"));
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new DataConversionException(new IllegalValueException(
+                    file + " has snapshot version " + version + ", expected version " + VERSION));
+            }
+
+            strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            while (buffer.hasRemaining()) {
+                int kind = buffer.getInt();
+                int length = buffer.getInt();
+                ByteBuffer body = buffer.slice();
+                body.limit(length);
+                buffer.position(buffer.position() + length);
+                sectionKinds.add(kind);
+                decodeSection(kind, body);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+            | NegativeArraySizeException | NullPointerException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Opens the snapshot file {@code file} and decodes all of its sections.
+     *
+     * @throws DataConversionException if the file is not a snapshot of the current version, or is cut short.
+     * @throws IOException if the file cannot be read.
+     */
+    public static BinarySnapshotReader open(Path file) throws DataConversionException, IOException {
+        requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAP_THRESHOLD_BYTES) {
+                return new BinarySnapshotReader(file, ByteBuffer.wrap(Files.readAllBytes(file)));
+            }
+            // the mapping stays valid after the channel is closed, and is dropped once the sections are decoded
+            return new BinarySnapshotReader(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Returns true if the file has a section of the given kind
+     */
+    public boolean hasSection(int kind) {
+        return sectionKinds.contains(kind);
+    }
+
+    /**
+     * Returns the persons in the file, or an empty list if it has none
+     */
+    public List<Person> readPersons() {
+        return new ArrayList<>(persons);
+    }
+
+    /**
+     * Returns the admins in the file, with their passwords still hashed, or an empty list if it has none
+     */
+    public List<Admin> readAdmins() {
+        return new ArrayList<>(admins);
+    }
+
+    /**
+     * Returns the machines in the file with their jobs, or an empty list if it has none.
+     * Jobs with the same owner share one {@code Person}.
+     *
+     * @throws IllegalValueException if two machines have the same name.
+     */
+    public List<Machine> readMachines() throws IllegalValueException {
+        Set<MachineName> machineNames = new HashSet<>();
+        for (Machine machine : machines) {
+            if (!machineNames.add(machine.getName())) {
+                throw new IllegalValueException(XmlSerializableMakerManagerMachines.MESSAGE_DUPLICATE_MACHINE);
+            }
+        }
+        return new ArrayList<>(machines);
+    }
+
+    /**
+     * Decodes the section of the given kind from {@code in}, skipping kinds this version does not know
+     */
+    private void decodeSection(int kind, ByteBuffer in) {
+        switch (kind) {
+        case PERSONS_SECTION:
+            decodePersons(in);
+            break;
+        case ADMINS_SECTION:
+            decodeAdmins(in);
+            break;
+        case MACHINES_SECTION:
+            decodeMachines(in);
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void decodePersons(ByteBuffer in) {
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            persons.add(readPerson(in));
+        }
+    }
+
+    private void decodeAdmins(ByteBuffer in) {
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            Username username = new Username(string(in.getInt()));
+            Password password = new Password(string(in.getInt()));
+            admins.add(new Admin(username, password));
+        }
+    }
+
+    private void decodeMachines(ByteBuffer in) {
+        Person[] owners = new Person[in.getInt()];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = readPerson(in);
+        }
+
+        int machineCount = in.getInt();
+        for (int i = 0; i < machineCount; i++) {
+            MachineName name = new MachineName(string(in.getInt()));
+            MachineStatus status = MachineStatus.valueOf(string(in.getInt()));
+            Set<Tag> tags = readTags(in);
+            int jobCount = in.getInt();
+            List<Job> jobs = new ArrayList<>(jobCount);
+            for (int j = 0; j < jobCount; j++) {
+                jobs.add(readJob(in, owners));
+            }
+            machines.add(new Machine(name, jobs, tags, status));
+        }
+    }
+
+    private Person readPerson(ByteBuffer in) {
+        Name name = new Name(string(in.getInt()));
+        Phone phone = new Phone(string(in.getInt()));
+        Email email = new Email(string(in.getInt()));
+        Address address = new Address(string(in.getInt()));
+        return new Person(name, phone, email, address, readTags(in));
+    }
+
+    private Job readJob(ByteBuffer in, Person[] owners) {
+        JobName name = new JobName(string(in.getInt()));
+        MachineName machine = new MachineName(string(in.getInt()));
+        Person owner = owners[in.getInt()];
+        TimeStamp addedTime = timeStamp(in.getLong());
+        TimeStamp startTime = timeStamp(in.getLong());
+        String priority = string(in.getInt());
+        String status = string(in.getInt());
+        long duration = in.getLong();
+        String note = string(in.getInt());
+        Set<Tag> tags = readTags(in);
+        return new Job(name, machine, owner, addedTime, startTime,
+            priority == null ? null : Priority.valueOf(priority),
+            status == null ? null : Status.valueOf(status),
+            duration,
+            note == null ? null : new JobNote(note),
+            tags);
+    }
+
+    private Set<Tag> readTags(ByteBuffer in) {
+        int count = in.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(new Tag(string(in.getInt())));
+        }
+        return tags;
+    }
+
+    private static TimeStamp timeStamp(long millis) {
+        return millis == NO_TIME ? null : new TimeStamp(millis);
+    }
+
+    /**
+     * Returns the string at {@code ref} in the string table, or null for {@link BinarySnapshotFormat#NO_STRING}
+     */
+    private String string(int ref) {
+        return ref == NO_STRING ? null : strings[ref];
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.binary.BinarySnapshotFormat.ADMINS_SECTION;
+import static seedu.address.storage.binary.BinarySnapshotFormat.MACHINES_SECTION;
+import static seedu.address.storage.binary.BinarySnapshotFormat.MAGIC;
+import static seedu.address.storage.binary.BinarySnapshotFormat.NO_STRING;
+import static seedu.address.storage.binary.BinarySnapshotFormat.NO_TIME;
+import static seedu.address.storage.binary.BinarySnapshotFormat.PERSONS_SECTION;
+import static seedu.address.storage.binary.BinarySnapshotFormat.VERSION;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Builds a snapshot file in the format described in {@link BinarySnapshotFormat}.
+ * Sections are collected in memory while their strings are added to the string table,
+ * and the whole file is written by {@link #writeTo(Path)}.
+ */
+class BinarySnapshotWriter {
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream sectionBytes = new ByteArrayOutputStream();
+
+    /**
+     * Adds a section holding {@code persons}
+     */
+    public void writePersons(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(out, person);
+        }
+        addSection(PERSONS_SECTION, body);
+    }
+
+    /**
+     * Adds a section holding {@code admins}, whose passwords are already hashed
+     */
+    public void writeAdmins(List<Admin> admins) throws IOException {
+        requireNonNull(admins);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeInt(admins.size());
+        for (Admin admin : admins) {
+            out.writeInt(ref(admin.getUsername().toString()));
+            out.writeInt(ref(admin.getPassword().toString()));
+        }
+        addSection(ADMINS_SECTION, body);
+    }
+
+    /**
+     * Adds a section holding {@code machines} and their jobs.
+     * The owners of the jobs are stored once in an owner table that the jobs refer to.
+     */
+    public void writeMachines(List<Machine> machines) throws IOException {
+        requireNonNull(machines);
+        Map<Person, Integer> ownerIndex = new LinkedHashMap<>();
+        for (Machine machine : machines) {
+            for (Job job : machine.getJobs()) {
+                ownerIndex.putIfAbsent(job.getOwner(), ownerIndex.size());
+            }
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeInt(ownerIndex.size());
+        for (Person owner : ownerIndex.keySet()) {
+            writePerson(out, owner);
+        }
+        out.writeInt(machines.size());
+        for (Machine machine : machines) {
+            out.writeInt(ref(machine.getName().fullName));
+            out.writeInt(ref(machine.getStatus().name()));
+            writeTags(out, machine.getTags());
+            out.writeInt(machine.getJobs().size());
+            for (Job job : machine.getJobs()) {
+                writeJob(out, job, ownerIndex.get(job.getOwner()));
+            }
+        }
+        addSection(MACHINES_SECTION, body);
+    }
+
+    /**
+     * Writes the string table and the sections added so far to {@code file}.
+     * The file is replaced in one step, so it never holds a partly written snapshot.
+     */
+    public void writeTo(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            sectionBytes.writeTo(out);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void addSection(int kind, ByteArrayOutputStream body) throws IOException {
+        DataOutputStream out = new DataOutputStream(sectionBytes);
+        out.writeInt(kind);
+        out.writeInt(body.size());
+        body.writeTo(out);
+    }
+
+    private void writePerson(DataOutputStream out, Person person) throws IOException {
+        out.writeInt(ref(person.getName().fullName));
+        out.writeInt(ref(person.getPhone().value));
+        out.writeInt(ref(person.getEmail().value));
+        out.writeInt(ref(person.getAddress().value));
+        writeTags(out, person.getTags());
+    }
+
+    private void writeJob(DataOutputStream out, Job job, int owner) throws IOException {
+        out.writeInt(ref(job.getJobName().fullName));
+        out.writeInt(ref(job.getMachineName().fullName));
+        out.writeInt(owner);
+        out.writeLong(millisOf(job.getAddedTime()));
+        out.writeLong(millisOf(job.getStartTime()));
+        out.writeInt(ref(job.getPriority() == null ? null : job.getPriority().name()));
+        out.writeInt(ref(job.getStatus() == null ? null : job.getStatus().name()));
+        out.writeLong(job.getDuration());
+        out.writeInt(ref(job.getJobNote() == null ? null : job.getJobNote().toString()));
+        writeTags(out, job.getTags());
+    }
+
+    private void writeTags(DataOutputStream out, Set<Tag> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(ref(tag.tagName));
+        }
+    }
+
+    private static long millisOf(TimeStamp timeStamp) {
+        return timeStamp == null ? NO_TIME : timeStamp.getMillis();
+    }
+
+    /**
+     * Returns the index of {@code string} in the string table, adding it if it is not there yet
+     */
+    private int ref(String string) {
+        if (string == null) {
+            return NO_STRING;
+        }
+        return stringIndex.computeIfAbsent(string, unused -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+}
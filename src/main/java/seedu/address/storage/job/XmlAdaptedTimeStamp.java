@@ -25,7 +25,7 @@ public class XmlAdaptedTimeStamp {
      * @param source future changes to this will not affect the created XmlAdaptedTimeStamp
      */
     public XmlAdaptedTimeStamp(TimeStamp source) {
-        this.timeStamp = Long.toString(source.getDate().getTime());
+        this.timeStamp = Long.toString(source.getMillis());
     }
 
     /**
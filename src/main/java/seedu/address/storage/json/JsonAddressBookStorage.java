@@ -0,0 +1,269 @@
+package seedu.address.storage.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.storage.AddressBookFilesReader;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.storage.admin.XmlSerializableMakerManagerAdmins;
+
+/**
+ * A class to access AddressBook data stored as json files on the hard disk.
+ *
+ * The format of each file is chosen by its name in {@code UserPrefs}: a file named {@code *.json} is stored as
+ * json, and a file named {@code *.json.gz} as gzip compressed json. Any other file is handed to an
+ * {@link XmlAddressBookStorage}, so the kinds of data can be stored in different formats, e.g. the machines
+ * as json and the persons as xml. Single job changes are only journaled for a machines file stored as xml.
+ */
+public class JsonAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+
+    private final UserPrefs userPrefs;
+    private final XmlAddressBookStorage xmlStorage;
+
+    public JsonAddressBookStorage(UserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs = userPrefs;
+        this.xmlStorage = new XmlAddressBookStorage(userPrefs);
+    }
+
+    /**
+     * Returns true if {@code file} is stored as json
+     */
+    public static boolean isJsonFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(JsonDataFormat.JSON_FILE_EXTENSION)
+            || fileName.endsWith(JsonDataFormat.JSON_FILE_EXTENSION + JsonDataFormat.GZIP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if any of the files named in {@code userPrefs} is stored as json
+     */
+    public static boolean isUsedBy(UserPrefs userPrefs) {
+        return Stream.of(userPrefs.getAddressBookFilePath(), userPrefs.getMakerManagerMachinesFilePath(),
+            userPrefs.getMakerManagerAdminsFilePath()).anyMatch(JsonAddressBookStorage::isJsonFile);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public UserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    //============================= read =======================================//
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(userPrefs);
+    }
+
+    /**
+     * Returns the data of the single file {@code filePath}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+        if (!isJsonFile(filePath)) {
+            return xmlStorage.readAddressBook(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            logger.info("MakerManager file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBook data = new AddressBook();
+        JsonDataReader reader = new JsonDataReader();
+        try {
+            if (isSameFile(filePath, userPrefs.getAddressBookFilePath())) {
+                data.setPersons(reader.readPersons(filePath));
+            } else if (isSameFile(filePath, userPrefs.getMakerManagerMachinesFilePath())) {
+                data.adoptMachines(reader.readMachines(filePath));
+            } else if (isSameFile(filePath, userPrefs.getMakerManagerAdminsFilePath())) {
+                addAdmins(reader.readAdmins(filePath), data);
+            } else {
+                logger.info("No such file path available to read data from");
+                return Optional.empty();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(data);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(UserPrefs userPrefs) throws DataConversionException,
+                                                                                        IOException {
+        return Optional.of(readAllFiles(userPrefs));
+    }
+
+    @Override
+    public Optional<AddressBook> readOwnedAddressBook(UserPrefs userPrefs) throws DataConversionException,
+                                                                                     IOException {
+        return Optional.of(readAllFiles(userPrefs));
+    }
+
+    /**
+     * Reads every file into a new {@code AddressBook}, each in its own format and all at the same time.
+     * A file that is missing or cannot be read leaves its kind of data empty,
+     * and a default admin is created if there are no admins, as for the xml files.
+     */
+    private AddressBook readAllFiles(UserPrefs userPrefs) throws IOException {
+        requireNonNull(userPrefs);
+        return AddressBookFilesReader.readAll(() -> readPart(userPrefs.getAddressBookFilePath(), "Person"),
+            () -> readPart(userPrefs.getMakerManagerMachinesFilePath(), "Machine"), () -> readAdminsPart(userPrefs));
+    }
+
+    /**
+     * Returns the data of {@code filePath}, or an empty address book if the file is missing or cannot be read
+     */
+    private AddressBook readPart(Path filePath, String kindOfData) {
+        try {
+            Optional<ReadOnlyAddressBook> part = readAddressBook(filePath);
+            if (part.isPresent()) {
+                // the data read belongs to no one else, so it is handed on without copying it where possible
+                return part.get() instanceof AddressBook ? (AddressBook) part.get() : new AddressBook(part.get());
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.info(kindOfData + " conversion error: " + e.getMessage());
+        }
+        return new AddressBook();
+    }
+
+    /**
+     * Returns the admins of the admins file, or the default admin, saved to a new admins file,
+     * if there are no admins to read
+     */
+    private AddressBook readAdminsPart(UserPrefs userPrefs) throws IOException {
+        AddressBook admins = readPart(userPrefs.getMakerManagerAdminsFilePath(), "Admins");
+        if (admins.getAdminList().isEmpty()) {
+            logger.info("Creating new admin file");
+            admins.addAdmin(new Admin(new Username("admin"), new Password("admin")));
+            saveAddressBook(admins, userPrefs.getMakerManagerAdminsFilePath());
+        }
+        return admins;
+    }
+
+    //============================= save =======================================//
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, userPrefs.getAddressBookFilePath());
+    }
+
+    /**
+     * Saves the kind of data that {@code filePath} stands for to that file, in its format
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!isJsonFile(filePath)) {
+            xmlStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        JsonDataWriter writer = new JsonDataWriter();
+        if (isSameFile(filePath, userPrefs.getAddressBookFilePath())) {
+            writer.writePersons(filePath, addressBook.getPersonList());
+        } else if (isSameFile(filePath, userPrefs.getMakerManagerMachinesFilePath())) {
+            writer.writeMachines(filePath, addressBook.getMachineList());
+        } else if (isSameFile(filePath, userPrefs.getMakerManagerAdminsFilePath())) {
+            writer.writeAdmins(filePath, addressBook.getAdminList());
+        } else {
+            logger.info("No such file path available to save data in");
+        }
+    }
+
+    /**
+     * Saves all the data at once to all the files, each in its own format
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(userPrefs);
+
+        saveAddressBook(addressBook, userPrefs.getAddressBookFilePath());
+        saveAddressBook(addressBook, userPrefs.getMakerManagerMachinesFilePath());
+        saveAddressBook(addressBook, userPrefs.getMakerManagerAdminsFilePath());
+    }
+
+    /**
+     * Returns false if the machines are stored as json, as a json file can only be written in full
+     */
+    @Override
+    public boolean canSaveMachineMutation(int pendingMutations) {
+        return !isJsonFile(userPrefs.getMakerManagerMachinesFilePath())
+            && xmlStorage.canSaveMachineMutation(pendingMutations);
+    }
+
+    @Override
+    public void saveMachineMutation(JobMutation mutation) throws IOException {
+        if (isJsonFile(userPrefs.getMakerManagerMachinesFilePath())) {
+            throw new IOException("Json files do not record single job changes, save the machines instead");
+        }
+        xmlStorage.saveMachineMutation(mutation);
+    }
+
+    @Override
+    public boolean canSaveChangedMachines() {
+        return !isJsonFile(userPrefs.getMakerManagerMachinesFilePath()) && xmlStorage.canSaveChangedMachines();
+    }
+
+    @Override
+    public void saveChangedMachines(List<MachineName> machineNames, Collection<Machine> changedMachines)
+            throws IOException {
+        if (isJsonFile(userPrefs.getMakerManagerMachinesFilePath())) {
+            throw new IOException("Json files do not store machines one at a time, save the machines instead");
+        }
+        xmlStorage.saveChangedMachines(machineNames, changedMachines);
+    }
+
+    /**
+     * Adds {@code admins}, whose passwords are already hashed, to {@code addressBook}
+     *
+     * @throws IllegalValueException if there are duplicate admins.
+     */
+    private static void addAdmins(List<Admin> admins, AddressBook addressBook) throws IllegalValueException {
+        for (Admin admin : admins) {
+            if (addressBook.hasAdmin(admin)) {
+                throw new IllegalValueException(XmlSerializableMakerManagerAdmins.MESSAGE_DUPLICATE_ADMIN);
+            }
+            addressBook.addAdminWithoutRehash(admin);
+        }
+    }
+
+    private static boolean isSameFile(Path filePath, Path userPrefsFile) {
+        return filePath.getFileName().equals(userPrefsFile.getFileName());
+    }
+}
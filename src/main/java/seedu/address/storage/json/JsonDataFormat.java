@@ -0,0 +1,55 @@
+package seedu.address.storage.json;
+
+import java.nio.file.Path;
+
+/**
+ * Field names of the json data files.
+ *
+ * Each file holds a single object with one array, laid out as follows:
+ * <pre>
+ * persons file  := { "persons": [ person* ] }
+ * admins file   := { "admins": [ { "username": string, "password": string }* ] }
+ * machines file := { "machines": [ machine* ] }
+ * machine       := { "name": string, "status": string, "tags": [ string* ], "jobs": [ job* ] }
+ * job           := { "name": string, "machine": string, "owner": person, "addedTime": long, "startTime": long,
+ *                    "priority": string, "status": string, "duration": long, "note": string, "tags": [ string* ] }
+ * person        := { "name": string, "phone": string, "email": string, "address": string, "tags": [ string* ] }
+ * </pre>
+ * Times are milliseconds since the epoch. Missing values are written as null, and unknown fields are skipped
+ * when reading. A file whose name ends with {@code .gz} is gzip compressed.
+ */
+final class JsonDataFormat {
+
+    static final String JSON_FILE_EXTENSION = ".json";
+    static final String GZIP_FILE_EXTENSION = ".gz";
+
+    static final String PERSONS = "persons";
+    static final String ADMINS = "admins";
+    static final String MACHINES = "machines";
+
+    static final String NAME = "name";
+    static final String PHONE = "phone";
+    static final String EMAIL = "email";
+    static final String ADDRESS = "address";
+    static final String TAGS = "tags";
+    static final String USERNAME = "username";
+    static final String PASSWORD = "password";
+    static final String STATUS = "status";
+    static final String JOBS = "jobs";
+    static final String MACHINE = "machine";
+    static final String OWNER = "owner";
+    static final String ADDED_TIME = "addedTime";
+    static final String START_TIME = "startTime";
+    static final String PRIORITY = "priority";
+    static final String DURATION = "duration";
+    static final String NOTE = "note";
+
+    private JsonDataFormat() {}
+
+    /**
+     * Returns true if {@code file} is gzip compressed
+     */
+    static boolean isGzipFile(Path file) {
+        return file.getFileName().toString().endsWith(GZIP_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,289 @@
+package seedu.address.storage.json;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.json.JsonDataFormat.ADDED_TIME;
+import static seedu.address.storage.json.JsonDataFormat.ADDRESS;
+import static seedu.address.storage.json.JsonDataFormat.ADMINS;
+import static seedu.address.storage.json.JsonDataFormat.DURATION;
+import static seedu.address.storage.json.JsonDataFormat.EMAIL;
+import static seedu.address.storage.json.JsonDataFormat.JOBS;
+import static seedu.address.storage.json.JsonDataFormat.MACHINE;
+import static seedu.address.storage.json.JsonDataFormat.MACHINES;
+import static seedu.address.storage.json.JsonDataFormat.NAME;
+import static seedu.address.storage.json.JsonDataFormat.NOTE;
+import static seedu.address.storage.json.JsonDataFormat.OWNER;
+import static seedu.address.storage.json.JsonDataFormat.PASSWORD;
+import static seedu.address.storage.json.JsonDataFormat.PERSONS;
+import static seedu.address.storage.json.JsonDataFormat.PHONE;
+import static seedu.address.storage.json.JsonDataFormat.PRIORITY;
+import static seedu.address.storage.json.JsonDataFormat.START_TIME;
+import static seedu.address.storage.json.JsonDataFormat.STATUS;
+import static seedu.address.storage.json.JsonDataFormat.TAGS;
+import static seedu.address.storage.json.JsonDataFormat.USERNAME;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+
+/**
+ * Reads data files in the format described in {@link JsonDataFormat}.
+ * The model objects are built straight from the tokens of the file, one value at a time.
+ */
+class JsonDataReader {
+
+    private static final JsonFactory jsonFactory = JsonUtil.getSerializer().getFactory();
+
+    /**
+     * Reads one element of an array in a data file, with the parser at the start of the element
+     */
+    @FunctionalInterface
+    private interface ElementReader {
+        void read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Returns the persons in {@code file}
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IOException if the file cannot be read.
+     */
+    public List<Person> readPersons(Path file) throws DataConversionException, IOException {
+        List<Person> persons = new ArrayList<>();
+        readArrayFile(file, PERSONS, parser -> persons.add(readPerson(parser)));
+        return persons;
+    }
+
+    /**
+     * Returns the admins in {@code file}, with their passwords still hashed
+     */
+    public List<Admin> readAdmins(Path file) throws DataConversionException, IOException {
+        List<Admin> admins = new ArrayList<>();
+        readArrayFile(file, ADMINS, parser -> {
+            String username = null;
+            String password = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (USERNAME.equals(field)) {
+                    username = parser.getValueAsString();
+                } else if (PASSWORD.equals(field)) {
+                    password = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            admins.add(new Admin(new Username(username), new Password(password)));
+        });
+        return admins;
+    }
+
+    /**
+     * Returns the machines in {@code file} with their jobs, in the order they appear in the file.
+     * Jobs with the same owner share one {@code Person}.
+     *
+     * @throws IllegalValueException if two machines have the same name.
+     */
+    public List<Machine> readMachines(Path file) throws DataConversionException, IllegalValueException,
+                                                         IOException {
+        List<Machine> machines = new ArrayList<>();
+        Map<Person, Person> owners = new HashMap<>();
+        readArrayFile(file, MACHINES, parser -> machines.add(readMachine(parser, owners)));
+
+        Set<MachineName> machineNames = new HashSet<>();
+        for (Machine machine : machines) {
+            if (!machineNames.add(machine.getName())) {
+                throw new IllegalValueException(XmlSerializableMakerManagerMachines.MESSAGE_DUPLICATE_MACHINE);
+            }
+        }
+        return machines;
+    }
+
+    /**
+     * Hands each element of the array {@code arrayName} in {@code file} to {@code elementReader}.
+     * Other fields of the file are skipped.
+     */
+    private void readArrayFile(Path file, String arrayName, ElementReader elementReader)
+            throws DataConversionException, IOException {
+        requireNonNull(file);
+        try (JsonParser parser = jsonFactory.createParser(openInputStream(file))) {
+            parser.nextToken();
+            expect(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (!arrayName.equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expect(parser, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    elementReader.read(parser);
+                }
+                expect(parser, JsonToken.END_ARRAY);
+            }
+        } catch (JsonParseException | IllegalArgumentException | NullPointerException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static InputStream openInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file));
+        return JsonDataFormat.isGzipFile(file) ? new GZIPInputStream(in) : in;
+    }
+
+    private Machine readMachine(JsonParser parser, Map<Person, Person> owners) throws IOException {
+        String name = null;
+        String status = null;
+        Set<Tag> tags = new HashSet<>();
+        List<Job> jobs = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (NAME.equals(field)) {
+                name = parser.getValueAsString();
+            } else if (STATUS.equals(field)) {
+                status = parser.getValueAsString();
+            } else if (TAGS.equals(field)) {
+                tags = readTags(parser);
+            } else if (JOBS.equals(field)) {
+                expect(parser, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    jobs.add(readJob(parser, owners));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Machine(new MachineName(name), jobs, tags, MachineStatus.valueOf(status));
+    }
+
+    Job readJob(JsonParser parser, Map<Person, Person> owners) throws IOException {
+        String name = null;
+        String machine = null;
+        Person owner = null;
+        TimeStamp addedTime = null;
+        TimeStamp startTime = null;
+        String priority = null;
+        String status = null;
+        long duration = 0;
+        String note = null;
+        Set<Tag> tags = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (NAME.equals(field)) {
+                name = parser.getValueAsString();
+            } else if (MACHINE.equals(field)) {
+                machine = parser.getValueAsString();
+            } else if (OWNER.equals(field)) {
+                expect(parser, JsonToken.START_OBJECT);
+                Person read = readPerson(parser);
+                owner = owners.computeIfAbsent(read, unused -> read);
+            } else if (ADDED_TIME.equals(field)) {
+                addedTime = readTime(parser);
+            } else if (START_TIME.equals(field)) {
+                startTime = readTime(parser);
+            } else if (PRIORITY.equals(field)) {
+                priority = parser.getValueAsString();
+            } else if (STATUS.equals(field)) {
+                status = parser.getValueAsString();
+            } else if (DURATION.equals(field)) {
+                duration = parser.getValueAsLong();
+            } else if (NOTE.equals(field)) {
+                note = parser.getValueAsString();
+            } else if (TAGS.equals(field)) {
+                tags = readTags(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Job(new JobName(name), new MachineName(machine), owner, addedTime, startTime,
+            priority == null ? null : Priority.valueOf(priority),
+            status == null ? null : Status.valueOf(status),
+            duration,
+            note == null ? null : new JobNote(note),
+            tags);
+    }
+
+    private Person readPerson(JsonParser parser) throws IOException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        Set<Tag> tags = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (NAME.equals(field)) {
+                name = parser.getValueAsString();
+            } else if (PHONE.equals(field)) {
+                phone = parser.getValueAsString();
+            } else if (EMAIL.equals(field)) {
+                email = parser.getValueAsString();
+            } else if (ADDRESS.equals(field)) {
+                address = parser.getValueAsString();
+            } else if (TAGS.equals(field)) {
+                tags = readTags(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+    }
+
+    private static TimeStamp readTime(JsonParser parser) throws IOException {
+        return parser.getCurrentToken() == JsonToken.VALUE_NULL ? null : new TimeStamp(parser.getValueAsLong());
+    }
+
+    private static Set<Tag> readTags(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        Set<Tag> tags = new HashSet<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            tags.add(new Tag(parser.getValueAsString()));
+        }
+        return tags;
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws JsonParseException {
+        if (parser.getCurrentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + parser.getCurrentToken());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.storage.json;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.json.JsonDataFormat.ADDED_TIME;
+import static seedu.address.storage.json.JsonDataFormat.ADDRESS;
+import static seedu.address.storage.json.JsonDataFormat.ADMINS;
+import static seedu.address.storage.json.JsonDataFormat.DURATION;
+import static seedu.address.storage.json.JsonDataFormat.EMAIL;
+import static seedu.address.storage.json.JsonDataFormat.JOBS;
+import static seedu.address.storage.json.JsonDataFormat.MACHINE;
+import static seedu.address.storage.json.JsonDataFormat.MACHINES;
+import static seedu.address.storage.json.JsonDataFormat.NAME;
+import static seedu.address.storage.json.JsonDataFormat.NOTE;
+import static seedu.address.storage.json.JsonDataFormat.OWNER;
+import static seedu.address.storage.json.JsonDataFormat.PASSWORD;
+import static seedu.address.storage.json.JsonDataFormat.PERSONS;
+import static seedu.address.storage.json.JsonDataFormat.PHONE;
+import static seedu.address.storage.json.JsonDataFormat.PRIORITY;
+import static seedu.address.storage.json.JsonDataFormat.START_TIME;
+import static seedu.address.storage.json.JsonDataFormat.STATUS;
+import static seedu.address.storage.json.JsonDataFormat.TAGS;
+import static seedu.address.storage.json.JsonDataFormat.USERNAME;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes data files in the format described in {@link JsonDataFormat}.
+ * Values are generated straight from the model into the file, one token at a time.
+ * Each file is replaced in one step, so it never holds partly written data.
+ */
+class JsonDataWriter {
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final JsonFactory jsonFactory = JsonUtil.getSerializer().getFactory();
+
+    /**
+     * A part of a data file written by a {@code JsonDataWriter}
+     */
+    @FunctionalInterface
+    private interface Body {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Writes {@code persons} to {@code file}
+     */
+    public void writePersons(Path file, List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        writeArrayFile(file, PERSONS, generator -> {
+            for (Person person : persons) {
+                writePerson(generator, person);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code admins}, whose passwords are already hashed, to {@code file}
+     */
+    public void writeAdmins(Path file, List<Admin> admins) throws IOException {
+        requireNonNull(admins);
+        writeArrayFile(file, ADMINS, generator -> {
+            for (Admin admin : admins) {
+                generator.writeStartObject();
+                generator.writeStringField(USERNAME, admin.getUsername().toString());
+                generator.writeStringField(PASSWORD, admin.getPassword().toString());
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Writes {@code machines} and their jobs to {@code file}
+     */
+    public void writeMachines(Path file, List<Machine> machines) throws IOException {
+        requireNonNull(machines);
+        writeArrayFile(file, MACHINES, generator -> {
+            for (Machine machine : machines) {
+                generator.writeStartObject();
+                generator.writeStringField(NAME, machine.getName().fullName);
+                generator.writeStringField(STATUS, machine.getStatus().name());
+                writeTags(generator, machine.getTags());
+                generator.writeArrayFieldStart(JOBS);
+                for (Job job : machine.getJobs()) {
+                    writeJob(generator, job);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    private void writeArrayFile(Path file, String arrayName, Body body) throws IOException {
+        requireNonNull(file);
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (OutputStream out = openOutputStream(file, tempFile);
+             JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayName);
+            body.writeTo(generator);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static OutputStream openOutputStream(Path file, Path tempFile) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile));
+        return JsonDataFormat.isGzipFile(file) ? new GZIPOutputStream(out) : out;
+    }
+
+    private void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME, person.getName().fullName);
+        generator.writeStringField(PHONE, person.getPhone().value);
+        generator.writeStringField(EMAIL, person.getEmail().value);
+        generator.writeStringField(ADDRESS, person.getAddress().value);
+        writeTags(generator, person.getTags());
+        generator.writeEndObject();
+    }
+
+    void writeJob(JsonGenerator generator, Job job) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME, job.getJobName().fullName);
+        generator.writeStringField(MACHINE, job.getMachineName().fullName);
+        generator.writeFieldName(OWNER);
+        writePerson(generator, job.getOwner());
+        writeTime(generator, ADDED_TIME, job.getAddedTime());
+        writeTime(generator, START_TIME, job.getStartTime());
+        generator.writeStringField(PRIORITY, job.getPriority() == null ? null : job.getPriority().name());
+        generator.writeStringField(STATUS, job.getStatus() == null ? null : job.getStatus().name());
+        generator.writeNumberField(DURATION, job.getDuration());
+        generator.writeStringField(NOTE, job.getJobNote() == null ? null : job.getJobNote().toString());
+        writeTags(generator, job.getTags());
+        generator.writeEndObject();
+    }
+
+    private void writeTime(JsonGenerator generator, String fieldName, TimeStamp timeStamp) throws IOException {
+        if (timeStamp == null) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeNumberField(fieldName, timeStamp.getMillis());
+        }
+    }
+
+    private void writeTags(JsonGenerator generator, Set<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart(TAGS);
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,350 @@
+package seedu.address.storage.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyJobArchive;
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps archived jobs on the hard disk in append-only files, one file per month.
+ *
+ * A job goes into the segment of the month it was last worked on, e.g. {@code jobs-2018-10.jsonl},
+ * with one job per line in the format of a job in {@link JsonDataFormat}. Jobs are only ever appended,
+ * so archiving never rewrites the jobs archived before.
+ * A small index file lists each segment with the number of jobs in it, so the archive can be queried and
+ * counted without listing or reading every segment. The index is rebuilt from the segments if it is missing,
+ * lists other segments, or is older than one of them, e.g. after the application stopped between writing a segment
+ * and the index.
+ *
+ * A job that has been archived again, e.g. after an undo brought it back into the machines, is returned once,
+ * as last archived.
+ */
+public class JsonJobArchive implements ReadOnlyJobArchive {
+
+    public static final String SEGMENT_FILE_PREFIX = "jobs-";
+    public static final String SEGMENT_FILE_EXTENSION = ".jsonl";
+    public static final String INDEX_FILE_NAME = "index.txt";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final Logger logger = LogsCenter.getLogger(JsonJobArchive.class);
+    private static final JsonFactory jsonFactory = JsonUtil.getSerializer().getFactory();
+
+    private final Path archiveDirectory;
+    private final ZoneId zone;
+    // number of jobs in each segment, guarded by this, null until the index has been read
+    private NavigableMap<YearMonth, Integer> index;
+
+    public JsonJobArchive(Path archiveDirectory) {
+        this(archiveDirectory, ZoneId.systemDefault());
+    }
+
+    public JsonJobArchive(Path archiveDirectory, ZoneId zone) {
+        requireNonNull(archiveDirectory);
+        requireNonNull(zone);
+        this.archiveDirectory = archiveDirectory;
+        this.zone = zone;
+    }
+
+    public Path getArchiveDirectory() {
+        return archiveDirectory;
+    }
+
+    /**
+     * Returns the segment file that holds the jobs last worked on in {@code month}
+     */
+    public Path getSegmentFile(YearMonth month) {
+        return archiveDirectory.resolve(SEGMENT_FILE_PREFIX + month + SEGMENT_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the month whose segment {@code job} is archived in
+     */
+    public YearMonth getSegmentMonth(Job job) {
+        return YearMonth.from(Instant.ofEpochMilli(job.getLastActiveTime()).atZone(zone));
+    }
+
+    //============================= write =======================================//
+
+    /**
+     * Appends {@code jobs} to the segments of the months they were last worked on, and updates the index
+     */
+    public synchronized void append(List<Job> jobs) throws IOException {
+        requireNonNull(jobs);
+        if (jobs.isEmpty()) {
+            return;
+        }
+        NavigableMap<YearMonth, Integer> index = getIndex();
+
+        Map<YearMonth, List<Job>> jobsByMonth = new TreeMap<>();
+        for (Job job : jobs) {
+            jobsByMonth.computeIfAbsent(getSegmentMonth(job), unused -> new ArrayList<>()).add(job);
+        }
+
+        Files.createDirectories(archiveDirectory);
+        JsonDataWriter writer = new JsonDataWriter();
+        for (Map.Entry<YearMonth, List<Job>> segment : jobsByMonth.entrySet()) {
+            Path segmentFile = getSegmentFile(segment.getKey());
+            boolean isLastLineCutShort = !endsWithNewLine(segmentFile);
+            try (BufferedWriter out = Files.newBufferedWriter(segmentFile,
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (isLastLineCutShort) {
+                    // keeps the jobs appended now off a line that was cut short, which is skipped when read
+                    out.newLine();
+                }
+                for (Job job : segment.getValue()) {
+                    out.write(toLine(writer, job));
+                    out.newLine();
+                }
+            }
+            index.merge(segment.getKey(), segment.getValue().size(), Integer::sum);
+        }
+        writeIndex(index);
+    }
+
+    /**
+     * Returns true if {@code file} is missing, empty or ends with a line separator
+     */
+    private static boolean endsWithNewLine(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return true;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    private static String toLine(JsonDataWriter writer, Job job) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(line)) {
+            writer.writeJob(generator, job);
+        }
+        return line.toString();
+    }
+
+    private void writeIndex(NavigableMap<YearMonth, Integer> index) throws IOException {
+        StringBuilder content = new StringBuilder();
+        index.forEach((month, count) -> content.append(month).append(' ').append(count).append('\n'));
+
+        Path indexFile = archiveDirectory.resolve(INDEX_FILE_NAME);
+        Path tempFile = archiveDirectory.resolve(INDEX_FILE_NAME + TEMP_FILE_SUFFIX);
+        Files.write(tempFile, content.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    //============================= read =======================================//
+
+    /**
+     * Returns the number of jobs in the archive, counting a job archived more than once each time
+     */
+    public synchronized int size() throws IOException {
+        return getIndex().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public List<Job> findJobs(Predicate<Job> predicate, YearMonth from, YearMonth to) throws IOException {
+        requireNonNull(predicate);
+        List<YearMonth> months;
+        synchronized (this) {
+            NavigableMap<YearMonth, Integer> index = getIndex();
+            if (index.isEmpty()) {
+                return new ArrayList<>();
+            }
+            YearMonth first = from == null ? index.firstKey() : from;
+            YearMonth last = to == null ? index.lastKey() : to;
+            if (first.isAfter(last)) {
+                return new ArrayList<>();
+            }
+            months = new ArrayList<>(index.subMap(first, true, last, true).keySet());
+        }
+
+        // keyed on the name and added time of a job, so a job archived more than once is kept as last archived
+        Map<String, Job> found = new LinkedHashMap<>();
+        Map<Person, Person> owners = new HashMap<>();
+        JsonDataReader reader = new JsonDataReader();
+        for (YearMonth month : months) {
+            readSegment(month, reader, owners, job -> {
+                String key = job.getJobName().fullName + '@'
+                    + (job.getAddedTime() == null ? "" : job.getAddedTime().getMillis());
+                found.remove(key);
+                if (predicate.test(job)) {
+                    found.put(key, job);
+                }
+            });
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    /**
+     * Hands each job in the segment of {@code month} to {@code consumer}, in the order they were archived.
+     * A line that cannot be read, e.g. one cut short while it was being appended, is skipped.
+     */
+    private void readSegment(YearMonth month, JsonDataReader reader, Map<Person, Person> owners,
+                             Consumer<Job> consumer) throws IOException {
+        Path segmentFile = getSegmentFile(month);
+        try (BufferedReader in = Files.newBufferedReader(segmentFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try (JsonParser parser = jsonFactory.createParser(line)) {
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "Expected a job");
+                    }
+                    consumer.accept(reader.readJob(parser, owners));
+                } catch (JsonParseException | IllegalArgumentException | NullPointerException e) {
+                    logger.warning("Skipping a job that cannot be read in " + segmentFile + ": " + e.getMessage());
+                }
+            }
+        } catch (NoSuchFileException e) {
+            logger.warning("Job archive segment " + segmentFile + " is missing");
+        }
+    }
+
+    //============================= index =======================================//
+
+    /**
+     * Returns the index, reading it or rebuilding it from the segments the first time it is needed
+     */
+    private NavigableMap<YearMonth, Integer> getIndex() throws IOException {
+        if (index == null) {
+            index = readIndex();
+            if (isOutOfDate(index)) {
+                logger.info("Rebuilding the job archive index in " + archiveDirectory);
+                index = rebuildIndex();
+                if (!index.isEmpty()) {
+                    writeIndex(index);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if {@code readIndex} does not list the same segments as the archive directory,
+     * or if one of the segments was written after the index, so the counts in the index may be wrong
+     */
+    private boolean isOutOfDate(NavigableMap<YearMonth, Integer> readIndex) throws IOException {
+        if (!readIndex.keySet().equals(listSegmentMonths())) {
+            return true;
+        }
+        if (readIndex.isEmpty()) {
+            return false;
+        }
+        FileTime indexTime = Files.getLastModifiedTime(archiveDirectory.resolve(INDEX_FILE_NAME));
+        for (YearMonth month : readIndex.keySet()) {
+            if (Files.getLastModifiedTime(getSegmentFile(month)).compareTo(indexTime) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private NavigableMap<YearMonth, Integer> readIndex() throws IOException {
+        NavigableMap<YearMonth, Integer> read = new TreeMap<>();
+        Path indexFile = archiveDirectory.resolve(INDEX_FILE_NAME);
+        if (!Files.exists(indexFile)) {
+            return read;
+        }
+        for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length != 2) {
+                continue;
+            }
+            try {
+                read.put(YearMonth.parse(fields[0]), Integer.parseInt(fields[1]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                logger.warning("Ignoring a line of the job archive index that cannot be read: " + line);
+            }
+        }
+        return read;
+    }
+
+    private Set<YearMonth> listSegmentMonths() throws IOException {
+        Set<YearMonth> months = new TreeSet<>();
+        if (!Files.isDirectory(archiveDirectory)) {
+            return months;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(archiveDirectory,
+            SEGMENT_FILE_PREFIX + "*" + SEGMENT_FILE_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String month = fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                    fileName.length() - SEGMENT_FILE_EXTENSION.length());
+                try {
+                    months.add(YearMonth.parse(month));
+                } catch (DateTimeParseException e) {
+                    logger.warning("Ignoring " + file + ", which is not a job archive segment");
+                }
+            }
+        }
+        return months;
+    }
+
+    private NavigableMap<YearMonth, Integer> rebuildIndex() throws IOException {
+        NavigableMap<YearMonth, Integer> rebuilt = new TreeMap<>();
+        for (YearMonth month : listSegmentMonths()) {
+            int count = 0;
+            try (BufferedReader in = Files.newBufferedReader(getSegmentFile(month), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        count++;
+                    }
+                }
+            }
+            rebuilt.put(month, count);
+        }
+        return rebuilt;
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage.machine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.JobMutation;
+
+/**
+ * An append-only journal of the job changes made since the machines file was last written in full.
+ *
+ * Every full write of the machines file is a checkpoint with its own id, which is stored in the machines file
+ * and written as the first line of a fresh journal. Each job change is then appended as one line of xml.
+ * The journal is only replayed on top of a machines file with the same checkpoint id, so a crash between
+ * writing the machines file and starting its journal never applies the old journal twice.
+ */
+public class MachineJournal {
+
+    /** Number of changes appended to a journal before the machines file is written in full again */
+    public static final int CHECKPOINT_INTERVAL = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(MachineJournal.class);
+
+    private static final String CHECKPOINT_PREFIX = "checkpoint ";
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private final Path journalFile;
+    private String checkpointId;
+    private int size;
+
+    public MachineJournal(Path journalFile) {
+        requireNonNull(journalFile);
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to {@code machinesFile}
+     */
+    public static Path journalPathFor(Path machinesFile) {
+        String fileName = machinesFile.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+        return machinesFile.resolveSibling(baseName + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns a new checkpoint id
+     */
+    public static String newCheckpointId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public Path getJournalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Returns true if the journal follows a checkpoint, so that changes can be appended to it
+     */
+    public synchronized boolean isStarted() {
+        return checkpointId != null;
+    }
+
+    /**
+     * Returns the number of changes appended since the last checkpoint
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the journal is started and another change can be appended to it
+     * after the {@code pendingEntries} changes that are still to be appended,
+     * without holding more than {@link #CHECKPOINT_INTERVAL} changes
+     */
+    public synchronized boolean hasRoomFor(int pendingEntries) {
+        return isStarted() && size + pendingEntries < CHECKPOINT_INTERVAL;
+    }
+
+    /**
+     * Empties the journal and starts it after the checkpoint {@code newCheckpointId}.
+     * Must be called right after the machines file has been written with that checkpoint id.
+     */
+    public synchronized void reset(String newCheckpointId) throws IOException {
+        requireNonNull(newCheckpointId);
+        FileUtil.createParentDirsOfFile(journalFile);
+        Files.write(journalFile, Collections.singletonList(CHECKPOINT_PREFIX + newCheckpointId),
+            StandardCharsets.UTF_8);
+        checkpointId = newCheckpointId;
+        size = 0;
+    }
+
+    /**
+     * Appends {@code mutation} to the journal.
+     * The journal must have been started by {@link #reset(String)} or {@link #read(String)},
+     * and is no longer started if the change could not be appended.
+     */
+    public synchronized void append(JobMutation mutation) throws IOException {
+        requireNonNull(mutation);
+        if (checkpointId == null) {
+            throw new IllegalStateException("Machine journal has not been started");
+        }
+        String line = toXml(new XmlAdaptedJobMutation(mutation)) + System.lineSeparator();
+        try {
+            Files.write(journalFile, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // the entry may have been written in part, and no entry after it would be replayed
+            checkpointId = null;
+            throw e;
+        }
+        size++;
+    }
+
+    /**
+     * Returns the changes recorded after the checkpoint {@code expectedCheckpointId}, in the order they were made,
+     * and continues the journal from there.
+     * Returns an empty list if the journal is missing or follows a different checkpoint.
+     * An entry that cannot be read, such as one cut off by a crash, ends the replay.
+     */
+    public synchronized List<JobMutation> read(String expectedCheckpointId) throws IOException {
+        List<JobMutation> mutations = new ArrayList<>();
+        if (!Files.exists(journalFile)) {
+            return mutations;
+        }
+
+        List<String> lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || expectedCheckpointId == null
+            || !lines.get(0).equals(CHECKPOINT_PREFIX + expectedCheckpointId)) {
+            logger.info("Machine journal " + journalFile + " does not follow the machines file, ignoring it");
+            return mutations;
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            try {
+                mutations.add(fromXml(line).toModelType());
+            } catch (JAXBException | IllegalValueException | IllegalArgumentException e) {
+                logger.warning("Machine journal " + journalFile + " ends with an unreadable entry, "
+                    + "replaying the " + mutations.size() + " entries before it");
+                break;
+            }
+        }
+
+        if (mutations.size() == lines.size() - 1) {
+            checkpointId = expectedCheckpointId;
+            size = mutations.size();
+        }
+        return mutations;
+    }
+
+    //============================= xml conversion =======================================//
+
+    private static String toXml(XmlAdaptedJobMutation mutation) {
+        try {
+            StringWriter writer = new StringWriter();
+            XmlUtil.getSerializer().getFragmentMarshaller(XmlAdaptedJobMutation.class).marshal(mutation, writer);
+            return writer.toString();
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    private static XmlAdaptedJobMutation fromXml(String line) throws JAXBException {
+        return (XmlAdaptedJobMutation) XmlUtil.getSerializer().getUnmarshaller(XmlAdaptedJobMutation.class)
+            .unmarshal(new StringReader(line));
+    }
+}
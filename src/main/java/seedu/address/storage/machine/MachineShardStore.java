@@ -0,0 +1,241 @@
+package seedu.address.storage.machine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Stores the machines as one xml file per machine, so that a change to the jobs of one machine
+ * rewrites only the file of that machine.
+ *
+ * The files are kept in a directory next to the machines file named in {@code UserPrefs},
+ * e.g. {@code data/makerManagerMachines/} for {@code data/makerManagerMachines.xml}.
+ * The directory holds a manifest listing the machine names in order, and a shard file for each machine
+ * in the format of {@link XmlSerializableMakerManagerMachines}.
+ * The shards are written before the manifest, so the manifest never names a shard that has not been written.
+ * Each file is written to a temporary file first and then moved over the old one, so it never holds partly
+ * written data.
+ */
+public class MachineShardStore {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.xml";
+    public static final String SHARD_FILE_EXTENSION = ".xml";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(MachineShardStore.class);
+
+    private final Path shardDirectory;
+    private final ForkJoinPool pool;
+
+    public MachineShardStore(Path shardDirectory) {
+        this(shardDirectory, ForkJoinPool.commonPool());
+    }
+
+    public MachineShardStore(Path shardDirectory, ForkJoinPool pool) {
+        requireNonNull(shardDirectory);
+        requireNonNull(pool);
+        this.shardDirectory = shardDirectory;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the shard directory that stands for {@code machinesFile}
+     */
+    public static Path shardDirectoryFor(Path machinesFile) {
+        String fileName = machinesFile.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+        return machinesFile.resolveSibling(baseName);
+    }
+
+    /**
+     * Returns the name of the shard file of the machine named {@code machineName}.
+     * The hash of the name keeps names that differ only in case apart on file systems that ignore case.
+     */
+    public static String shardFileNameFor(MachineName machineName) {
+        String name = machineName.toString();
+        return name.replace(' ', '_') + "-" + Integer.toHexString(name.hashCode()) + SHARD_FILE_EXTENSION;
+    }
+
+    public Path getShardDirectory() {
+        return shardDirectory;
+    }
+
+    public Path getManifestFile() {
+        return shardDirectory.resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns true if the machines have been written to this store
+     */
+    public boolean exists() {
+        return Files.exists(getManifestFile());
+    }
+
+    //============================= read =======================================//
+
+    /**
+     * Returns the machines in this store, in the order of the manifest.
+     * The shards are read in parallel.
+     *
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violations or machines with the same name.
+     * @throws FileNotFoundException if the manifest or a shard is missing.
+     */
+    public List<Machine> read() throws DataConversionException, IllegalValueException, FileNotFoundException {
+        List<MachineName> machineNames;
+        try {
+            machineNames = XmlUtil.getDataFromFile(getManifestFile(), XmlSerializableMachineManifest.class)
+                .toModelType();
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+
+        List<ForkJoinTask<Machine>> reads = new ArrayList<>();
+        for (MachineName machineName : machineNames) {
+            Path shardFile = shardDirectory.resolve(shardFileNameFor(machineName));
+            reads.add(pool.submit(() -> readShard(shardFile)));
+        }
+
+        List<Machine> machines = new ArrayList<>();
+        Set<MachineName> readNames = new HashSet<>();
+        try {
+            for (ForkJoinTask<Machine> read : reads) {
+                Machine machine = getReadMachine(read);
+                if (!readNames.add(machine.getName())) {
+                    throw new IllegalValueException(XmlSerializableMakerManagerMachines.MESSAGE_DUPLICATE_MACHINE);
+                }
+                machines.add(machine);
+            }
+        } finally {
+            // stops the reads that are not needed any more after a failure
+            reads.forEach(read -> read.cancel(false));
+        }
+        return machines;
+    }
+
+    private static Machine readShard(Path shardFile) throws DataConversionException, IllegalValueException,
+                                                             FileNotFoundException {
+        XmlSerializableMakerManagerMachines shard;
+        try {
+            shard = XmlUtil.getDataFromFile(shardFile, XmlSerializableMakerManagerMachines.class);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        List<Machine> machines = shard.toModelType().getMachineList();
+        if (machines.size() != 1) {
+            throw new DataConversionException(
+                new IllegalValueException("Machine shard " + shardFile + " does not hold exactly one machine"));
+        }
+        return machines.get(0);
+    }
+
+    private static Machine getReadMachine(ForkJoinTask<Machine> read) throws DataConversionException,
+                                                                           IllegalValueException,
+                                                                           FileNotFoundException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading machine shards", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof FileNotFoundException) {
+                throw (FileNotFoundException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    //============================= write =======================================//
+
+    /**
+     * Writes every machine in {@code machines} to this store, replacing whatever it held
+     */
+    public void writeAll(List<Machine> machines) throws IOException {
+        requireNonNull(machines);
+        List<MachineName> machineNames = new ArrayList<>();
+        machines.forEach(machine -> machineNames.add(machine.getName()));
+        write(machineNames, machines);
+    }
+
+    /**
+     * Writes the shards of {@code changedMachines} and a manifest listing {@code machineNames}, in order.
+     * The shards of machines that are no longer listed are deleted; all other shards are left as they are.
+     */
+    public void write(List<MachineName> machineNames, Collection<Machine> changedMachines) throws IOException {
+        requireNonNull(machineNames);
+        requireNonNull(changedMachines);
+
+        Files.createDirectories(shardDirectory);
+        for (Machine machine : changedMachines) {
+            Path shardFile = shardDirectory.resolve(shardFileNameFor(machine.getName()));
+            save(shardFile, new XmlSerializableMakerManagerMachines(machine));
+        }
+
+        // last, so that it only names shards that have been written in full
+        save(getManifestFile(), new XmlSerializableMachineManifest(machineNames));
+
+        deleteUnlistedShards(machineNames);
+    }
+
+    private void deleteUnlistedShards(List<MachineName> machineNames) throws IOException {
+        Set<String> listedFileNames = new HashSet<>();
+        machineNames.forEach(machineName -> listedFileNames.add(shardFileNameFor(machineName)));
+        listedFileNames.add(MANIFEST_FILE_NAME);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!listedFileNames.contains(file.getFileName().toString())) {
+                    logger.fine("Deleting machine shard " + file);
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@code data} to a temporary file next to {@code file}, then replaces {@code file} with it
+     */
+    private static <T> void save(Path file, T data) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        XmlUtil.getSerializer().writeFile(tempFile, data);
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage.machine;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.JobMutation;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+import seedu.address.storage.job.XmlAdaptedJob;
+
+/**
+ * JAXB-friendly version of the JobMutation, written as one entry of the machine journal
+ */
+@XmlRootElement(name = "mutation")
+public class XmlAdaptedJobMutation {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Job mutation's %s field is missing!";
+
+    @XmlAttribute(required = true)
+    private JobMutation.Kind kind;
+    @XmlElement
+    private XmlAdaptedJob job;
+    @XmlElement(required = true)
+    private String jobName;
+    @XmlElement
+    private String otherJobName;
+    @XmlElement
+    private String machineName;
+    @XmlElement
+    private Integer shiftBy;
+
+    /**
+     * Constructs an XmlAdaptedJobMutation.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedJobMutation() {}
+
+    /**
+     * Converts a given JobMutation into this class for JAXB use.
+     */
+    public XmlAdaptedJobMutation(JobMutation source) {
+        kind = source.getKind();
+        if (source.getJob() != null) {
+            job = new XmlAdaptedJob(source.getJob());
+        }
+        jobName = source.getJobName().fullName;
+        if (source.getOtherJobName() != null) {
+            otherJobName = source.getOtherJobName().fullName;
+        }
+        if (source.getMachineName() != null) {
+            machineName = source.getMachineName().fullName;
+        }
+        shiftBy = source.getShiftBy();
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted mutation object into the model's JobMutation object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted mutation
+     */
+    public JobMutation toModelType() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        if (jobName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, JobName.class.getSimpleName()));
+        }
+        JobName modelJobName = new JobName(jobName);
+
+        switch (kind) {
+        case ADD:
+            return JobMutation.jobAdded(requireJob().toModelType());
+        case UPDATE:
+            return JobMutation.jobUpdated(requireJob().toModelType());
+        case MOVE:
+            if (machineName == null) {
+                throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, MachineName.class.getSimpleName()));
+            }
+            return JobMutation.jobMoved(modelJobName, new MachineName(machineName));
+        case SWAP:
+            if (otherJobName == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "otherJobName"));
+            }
+            return JobMutation.jobsSwapped(modelJobName, new JobName(otherJobName));
+        case SHIFT:
+            if (shiftBy == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "shiftBy"));
+            }
+            return JobMutation.jobShifted(modelJobName, shiftBy);
+        case REMOVE:
+            return JobMutation.jobRemoved(modelJobName);
+        default:
+            throw new IllegalValueException("Unknown job mutation " + kind);
+        }
+    }
+
+    private XmlAdaptedJob requireJob() throws IllegalValueException {
+        if (job == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "job"));
+        }
+        return job;
+    }
+}
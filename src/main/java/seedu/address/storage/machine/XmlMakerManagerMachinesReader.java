@@ -0,0 +1,111 @@
+package seedu.address.storage.machine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Reads a machines file written from {@link XmlSerializableMakerManagerMachines} without building the whole
+ * xml tree first.
+ *
+ * Machines are read from the file one at a time, and each machine is converted into the model's {@code Machine}
+ * on a fork-join pool while the following machines are still being read.
+ * The machines keep the order they have in the file.
+ */
+public class XmlMakerManagerMachinesReader {
+
+    private static final String MACHINE_ELEMENT = "machines";
+    private static final String CHECKPOINT_ATTRIBUTE = "checkpoint";
+
+    private final ForkJoinPool pool;
+    private String checkpoint;
+
+    public XmlMakerManagerMachinesReader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public XmlMakerManagerMachinesReader(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the machines in {@code file}, in the order they appear in the file.
+     * The machines are not used by anything else, so they can be handed to an address book without copying them.
+     *
+     * @throws DataConversionException if the file is empty or not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violations or machines with the same name.
+     * @throws FileNotFoundException if the file is missing.
+     */
+    public List<Machine> read(Path file) throws DataConversionException, IllegalValueException, FileNotFoundException {
+        requireNonNull(file);
+
+        List<ForkJoinTask<Machine>> conversions = new ArrayList<>();
+        try {
+            Map<String, String> rootAttributes = XmlUtil.forEachElementInFile(file, MACHINE_ELEMENT,
+                XmlAdaptedMachine.class, machine -> conversions.add(pool.submit(machine::toModelType)));
+            checkpoint = rootAttributes.get(CHECKPOINT_ATTRIBUTE);
+        } catch (JAXBException e) {
+            conversions.forEach(conversion -> conversion.cancel(false));
+            throw new DataConversionException(e);
+        }
+
+        List<Machine> machines = new ArrayList<>();
+        Set<MachineName> machineNames = new HashSet<>();
+        try {
+            for (ForkJoinTask<Machine> conversion : conversions) {
+                Machine machine = getConvertedMachine(conversion);
+                if (!machineNames.add(machine.getName())) {
+                    throw new IllegalValueException(XmlSerializableMakerManagerMachines.MESSAGE_DUPLICATE_MACHINE);
+                }
+                machines.add(machine);
+            }
+        } finally {
+            // stops the conversions that are not needed any more after a failure
+            conversions.forEach(conversion -> conversion.cancel(false));
+        }
+        return machines;
+    }
+
+    /**
+     * Returns the id of the machine journal checkpoint the last file read was written at, or null if there is none
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    private static Machine getConvertedMachine(ForkJoinTask<Machine> conversion) throws IllegalValueException {
+        try {
+            return conversion.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading machines", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage.machine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * The manifest of a sharded machine store, serializable to XML format.
+ * Lists the names of the machines in the order they are shown; each machine is stored in a shard file of its own.
+ */
+@XmlRootElement(name = "MakerManagerMachineManifest")
+public class XmlSerializableMachineManifest {
+
+    @XmlElement(name = "machine")
+    private List<String> machineNames;
+
+    /**
+     * Creates an empty XmlSerializableMachineManifest.
+     * This empty constructor is required for marshalling
+     */
+    public XmlSerializableMachineManifest() {
+        machineNames = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableMachineManifest(List<MachineName> machineNames) {
+        this();
+        this.machineNames.addAll(machineNames.stream().map(MachineName::toString).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the names of the machines in this manifest, in order.
+     *
+     * @throws IllegalValueException if a name is not a valid machine name.
+     */
+    public List<MachineName> toModelType() throws IllegalValueException {
+        List<MachineName> names = new ArrayList<>();
+        for (String name : machineNames) {
+            if (name == null || !Machine.isValidName(name)) {
+                throw new IllegalValueException(Machine.MESSAGE_NAME_CONSTRAINTS);
+            }
+            names.add(new MachineName(name));
+        }
+        return names;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof XmlSerializableMachineManifest // instanceof handles nulls
+            && machineNames.equals(((XmlSerializableMachineManifest) other).machineNames));
+    }
+}
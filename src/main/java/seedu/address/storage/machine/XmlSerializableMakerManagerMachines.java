@@ -1,8 +1,11 @@
 package seedu.address.storage.machine;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -10,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 
 
 /**
@@ -23,6 +27,8 @@ public class XmlSerializableMakerManagerMachines {
 
     @XmlElement
     private List<XmlAdaptedMachine> machines;
+    @XmlAttribute
+    private String checkpoint;
 
     /**
      * Creates an empty XmlSerializableMakerManagerMachines.
@@ -39,6 +45,29 @@ public class XmlSerializableMakerManagerMachines {
         machines.addAll(src.getMachineList().stream().map(XmlAdaptedMachine::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Conversion of a single machine, e.g. for a shard of a {@link MachineShardStore}
+     */
+    public XmlSerializableMakerManagerMachines(Machine machine) {
+        this();
+        machines.add(new XmlAdaptedMachine(machine));
+    }
+
+    /**
+     * Conversion, marking the data as written at the machine journal checkpoint {@code checkpoint}
+     */
+    public XmlSerializableMakerManagerMachines(ReadOnlyAddressBook src, String checkpoint) {
+        this(src);
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Returns the id of the machine journal checkpoint this data was written at, or null if there is none
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
     /**
      * Converts this addressbook in the model's {@code Addressbook} object.
      *
@@ -48,9 +77,10 @@ public class XmlSerializableMakerManagerMachines {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        Set<MachineName> machineNames = new HashSet<>();
         for (XmlAdaptedMachine m : machines) {
             Machine machine = m.toModelType();
-            if (addressBook.hasMachine(machine)) {
+            if (!machineNames.add(machine.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MACHINE);
             }
             addressBook.addMachine(machine);
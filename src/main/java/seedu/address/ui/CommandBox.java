@@ -1,14 +1,19 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.AdminLoginEvent;
 import seedu.address.commons.events.ui.AdminLogoutEvent;
@@ -21,15 +26,21 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ *
+ * Commands are executed off the application thread, so the UI stays responsive while they run,
+ * and their results are shown once they are done, in the order the commands were entered.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    /** The key of the property of the text field that holds the number of commands entered but not done yet */
+    public static final String PENDING_COMMANDS_PROPERTY = "pendingCommands";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private int pendingCommands = 0;
 
     @FXML
     private TextField commandTextField;
@@ -40,6 +51,7 @@ public class CommandBox extends UiPart<Region> {
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         historySnapshot = logic.getHistorySnapshot();
+        commandTextField.getProperties().put(PENDING_COMMANDS_PROPERTY, pendingCommands);
         registerAsAnEventHandler(this);
     }
 
@@ -66,11 +78,13 @@ public class CommandBox extends UiPart<Region> {
     }
 
     @Subscribe
+    @DeliveredOn(EventLane.FX)
     public void handleAdminLoginEvent(AdminLoginEvent event) {
         commandTextField.setStyle("-fx-text-fill: yellow; -fx-background-color: #00358c; -fx-border-color: yellow");
     }
 
     @Subscribe
+    @DeliveredOn(EventLane.FX)
     public void handleAdminLogoutEvent(AdminLogoutEvent event) {
         commandTextField.setStyle("-fx-text-fill: white; ");
     }
@@ -116,22 +130,45 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
+        String commandText = commandTextField.getText();
+        setPendingCommands(pendingCommands + 1);
+        logic.executeAsync(commandText).whenCompleteAsync((commandResult, failure) -> {
+            setPendingCommands(pendingCommands - 1);
+            if (failure == null) {
+                handleCommandSucceeded(commandText, commandResult);
+            } else {
+                handleCommandFailed(commandText,
+                    failure instanceof CompletionException ? failure.getCause() : failure);
+            }
+        }, Platform::runLater);
+    }
+
+    private void handleCommandSucceeded(String commandText, CommandResult commandResult) {
+        initHistory();
+        historySnapshot.next();
+        // process result of the command, leaving alone anything entered since
+        if (commandTextField.getText().equals(commandText)) {
             commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
         }
+        logger.info("Result: " + commandResult.feedbackToUser);
+        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+    }
+
+    private void handleCommandFailed(String commandText, Throwable failure) {
+        initHistory();
+        // handle command failure
+        setStyleToIndicateCommandFailure();
+        if (failure instanceof CommandException || failure instanceof ParseException) {
+            logger.info("Invalid command: " + commandText);
+        } else {
+            logger.log(Level.SEVERE, "Command failed unexpectedly: " + commandText, failure);
+        }
+        raise(new NewResultAvailableEvent(failure.getMessage()));
+    }
+
+    private void setPendingCommands(int pendingCommands) {
+        this.pendingCommands = pendingCommands;
+        commandTextField.getProperties().put(PENDING_COMMANDS_PROPERTY, pendingCommands);
     }
 
     /**
@@ -4,12 +4,13 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.MachineNotAvailableEvent;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
@@ -34,14 +35,16 @@ public class ResultDisplay extends UiPart<Region> {
     }
 
     @Subscribe
+    @DeliveredOn(EventLane.FX)
     private void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        Platform.runLater(() -> displayed.setValue(event.message));
+        displayed.setValue(event.message);
     }
 
     @Subscribe
+    @DeliveredOn(EventLane.FX)
     private void handleNoMachineAvailableEvent(MachineNotAvailableEvent event) {
-        Platform.runLater(() -> displayed.setValue(event.toString()));
+        displayed.setValue(event.toString());
     }
 
 
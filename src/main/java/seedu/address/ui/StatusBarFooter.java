@@ -14,7 +14,10 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.BaseEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AdminListChangedEvent;
+import seedu.address.commons.events.model.MachineListChangedEvent;
 import seedu.address.commons.events.ui.AdminLoginEvent;
 import seedu.address.commons.events.ui.AdminLogoutEvent;
 
@@ -87,9 +90,27 @@ public class StatusBarFooter extends UiPart<Region> {
     //TODO: Are these bypassing UIManager?
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
+        updateSyncStatus(abce);
+    }
+
+    @Subscribe
+    public void handleMachineListChangedEvent(MachineListChangedEvent mlce) {
+        updateSyncStatus(mlce);
+    }
+
+    @Subscribe
+    public void handleAdminListChangedEvent(AdminListChangedEvent alce) {
+        updateSyncStatus(alce);
+    }
+
+    /**
+     * Sets the last updated status to the current time, as data was changed as described by {@code event}.
+     * Each section of the data raises its own changed event, so all of them are handled here.
+     */
+    private void updateSyncStatus(BaseEvent event) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
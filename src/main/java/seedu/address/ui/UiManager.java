@@ -12,6 +12,8 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.util.StringUtil;
@@ -42,6 +44,8 @@ public class UiManager extends ComponentManager implements Ui {
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
+        // the init of the app is run once the JavaFX toolkit is up, so its thread can be handed events from now on
+        eventsCenter.setLaneExecutor(EventLane.FX, Platform::runLater, Platform::isFxApplicationThread);
     }
 
     @Override
@@ -111,9 +115,11 @@ public class UiManager extends ComponentManager implements Ui {
     //==================== Event Handling Code ===============================================================
 
     @Subscribe
+    @DeliveredOn(EventLane.FX)
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
-                event.exception);
+        // shown later, so that the other events of the FX lane are not held up while the alert waits for the user
+        Platform.runLater(() -> showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE, event.exception));
     }
 }
@@ -58,6 +58,23 @@ public class MachineCard extends UiPart<Region> {
         this.machine = machine;
         id.setText(displayIndex + ". ");
         machineName.setText(machine.getName().fullName);
+        showStatus();
+
+        jobListPanel = new JobListPanel(machine.getJobsAsFilteredObservableList());
+        jobsListPlaceHolder.getChildren().add(jobListPanel.getRoot());
+    }
+
+    /**
+     * Shows the current status and time until release of the machine again, keeping the list of its jobs,
+     * which follows the jobs of the machine by itself
+     */
+    public void refresh() {
+        machineStatus.getChildren().clear();
+        totalDuration.getChildren().clear();
+        showStatus();
+    }
+
+    private void showStatus() {
         Label machineStatusLabel = new Label(machine.getStatus().toString());
         Label durationLabel = new Label("Time until released: " + TimeStamp.showAsDuration(machine.getTotalDuration()));
         machineStatusLabel.setStyle(
@@ -79,9 +96,6 @@ public class MachineCard extends UiPart<Region> {
         machineStatus.getChildren().add(machineAvailabilityLabel);
         machineStatus.setHgap(4);
         totalDuration.getChildren().add(durationLabel);
-
-        jobListPanel = new JobListPanel(machine.getJobsAsFilteredObservableList());
-        jobsListPlaceHolder.getChildren().add(jobListPanel.getRoot());
     }
 
     @Override
@@ -1,5 +1,8 @@
 package seedu.address.ui.machine;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -10,11 +13,21 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.JobAddedEvent;
+import seedu.address.commons.events.model.JobMovedEvent;
+import seedu.address.commons.events.model.JobRemovedEvent;
+import seedu.address.commons.events.model.JobShiftedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
+import seedu.address.commons.events.model.JobsSwappedEvent;
+import seedu.address.commons.events.model.MachineStatusChangedEvent;
 import seedu.address.commons.events.ui.FocusMachineRequestEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.commons.events.ui.MachinePanelSelectiononChangedEvent;
 import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 import seedu.address.ui.UiPart;
 
 
@@ -28,6 +41,9 @@ public class MachineListPanel extends UiPart<Region> {
     @FXML
     private ListView<Machine> machineListView;
 
+    // the cells of machineListView, which only ever creates a few to show the machines that are in view
+    private final List<MachineListViewCell> cells = new ArrayList<>();
+
     public MachineListPanel(ObservableList<Machine> machineList) {
         super(FXML);
         setConnections(machineList);
@@ -37,7 +53,11 @@ public class MachineListPanel extends UiPart<Region> {
 
     private void setConnections(ObservableList<Machine> machineList) {
         machineListView.setItems(machineList);
-        machineListView.setCellFactory(listView -> new MachineListViewCell());
+        machineListView.setCellFactory(listView -> {
+            MachineListViewCell cell = new MachineListViewCell();
+            cells.add(cell);
+            return cell;
+        });
         setEventHandlerForSelectionChangeEvent();
     }
 
@@ -66,10 +86,73 @@ public class MachineListPanel extends UiPart<Region> {
         scrollTo(event.targetIndex);
     }
 
+    /**
+     * Shows the current status of the machines named {@code machineNames} again, if they are in view.
+     * The cards of the other machines are left as they are.
+     */
+    private void refreshCards(MachineName... machineNames) {
+        List<MachineName> names = Arrays.asList(machineNames);
+        for (MachineListViewCell cell : cells) {
+            if (cell.card != null && names.contains(cell.card.machine.getName())) {
+                cell.card.refresh();
+            }
+        }
+    }
+
     @Subscribe
+    @DeliveredOn(EventLane.FX)
     private void handleFocusMachineRequest(FocusMachineRequestEvent event) {
-        machineListView.refresh();
-        scrollTo(machineListView.getItems().indexOf(event.getMachineAndJobToFocus().machine));
+        // the list shows copies of the machines of the model, so the machine is looked up by its name
+        MachineName machineName = event.getMachineAndJobToFocus().machine.getName();
+        List<Machine> machines = machineListView.getItems();
+        for (int i = 0; i < machines.size(); i++) {
+            if (machines.get(i).getName().equals(machineName)) {
+                scrollTo(i);
+                return;
+            }
+        }
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleJobAddedEvent(JobAddedEvent event) {
+        refreshCards(event.machineName);
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleJobRemovedEvent(JobRemovedEvent event) {
+        refreshCards(event.machineName);
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleJobStatusChangedEvent(JobStatusChangedEvent event) {
+        refreshCards(event.machineName);
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleJobMovedEvent(JobMovedEvent event) {
+        refreshCards(event.fromMachineName, event.toMachineName);
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleJobShiftedEvent(JobShiftedEvent event) {
+        refreshCards(event.machineName);
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleJobsSwappedEvent(JobsSwappedEvent event) {
+        refreshCards(event.machineName1, event.machineName2);
+    }
+
+    @Subscribe
+    @DeliveredOn(EventLane.FX)
+    private void handleMachineStatusChangedEvent(MachineStatusChangedEvent event) {
+        refreshCards(event.machineName);
     }
 
     /**
@@ -77,6 +160,8 @@ public class MachineListPanel extends UiPart<Region> {
      */
     class MachineListViewCell extends ListCell<Machine> {
 
+        private MachineCard card;
+
         public MachineListViewCell() {
             super();
         }
@@ -86,10 +171,12 @@ public class MachineListPanel extends UiPart<Region> {
             super.updateItem(machine, empty);
 
             if (empty || machine == null) {
+                card = null;
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MachineCard(machine, getIndex() + 1).getRoot());
+                card = new MachineCard(machine, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
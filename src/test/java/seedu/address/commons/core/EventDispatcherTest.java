@@ -0,0 +1,254 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
+import seedu.address.commons.events.model.MachineNotAvailableEvent;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.MachineName;
+
+public class EventDispatcherTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final EventDispatcher dispatcher = new EventDispatcher();
+    private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+    // the drains of the FX lane, which are only run when a test runs them
+    private final Queue<Runnable> fxTasks = new ArrayDeque<>();
+
+    @Test
+    public void post_subscribersOfEventAndSupertype_allCalledEventClassFirst() {
+        dispatcher.register(new Object() {
+            @Subscribe
+            private void handleAnyEvent(BaseEvent event) {
+                received.add("any " + event);
+            }
+
+            @Subscribe
+            private void handleMachineNotAvailable(MachineNotAvailableEvent event) {
+                received.add("machine " + event);
+            }
+        });
+
+        dispatcher.post(new MachineNotAvailableEvent());
+        assertEquals(Arrays.asList("machine Machine not available", "any Machine not available"), received);
+    }
+
+    @Test
+    public void post_eventPostedByASubscriber_dispatchedAfterCurrentEvent() {
+        MachineNotAvailableEvent first = new MachineNotAvailableEvent();
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                received.add("first handler " + event.getClass().getSimpleName());
+                if (event == first) {
+                    dispatcher.post(new ExitAppRequestEvent());
+                }
+            }
+        });
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                received.add("second handler " + event.getClass().getSimpleName());
+            }
+        });
+
+        dispatcher.post(first);
+        assertEquals(Arrays.asList("first handler MachineNotAvailableEvent", "second handler MachineNotAvailableEvent",
+            "first handler ExitAppRequestEvent", "second handler ExitAppRequestEvent"), received);
+    }
+
+    @Test
+    public void post_subscriberThrows_otherSubscribersStillCalled() {
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                throw new IllegalStateException("subscriber failed");
+            }
+        });
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                received.add("handled");
+            }
+        });
+
+        dispatcher.post(new MachineNotAvailableEvent());
+        assertEquals(Arrays.asList("handled"), received);
+    }
+
+    @Test
+    public void register_sameHandlerTwice_calledOnce() {
+        Object handler = new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                received.add("handled");
+            }
+        };
+        dispatcher.register(handler);
+        dispatcher.post(new MachineNotAvailableEvent());
+        dispatcher.register(handler);
+        dispatcher.post(new MachineNotAvailableEvent());
+
+        assertEquals(Arrays.asList("handled", "handled"), received);
+    }
+
+    @Test
+    public void register_subscriberWithTwoParameters_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void handleTwoEvents(BaseEvent event, BaseEvent otherEvent) {
+            }
+        });
+    }
+
+    @Test
+    public void post_fullLaneDroppingOldest_oldestEventDropped() {
+        registerFxSubscriber(2, OverflowPolicy.DROP_OLDEST);
+
+        dispatcher.post(jobStatusChanged("A"));
+        dispatcher.post(jobStatusChanged("B"));
+        dispatcher.post(jobStatusChanged("C"));
+        LaneMetrics metrics = dispatcher.getLaneMetrics(EventLane.FX);
+        runFxTasks();
+
+        assertEquals(Arrays.asList("B", "C"), received);
+        assertEquals(2, metrics.depth);
+        assertEquals(2, metrics.maxDepth);
+        assertEquals(1, metrics.droppedCount);
+    }
+
+    @Test
+    public void post_fullLaneCoalescing_supersededEventReplaced() {
+        registerFxSubscriber(2, OverflowPolicy.COALESCE);
+
+        dispatcher.post(jobStatusChanged("A"));
+        dispatcher.post(jobStatusChanged("B"));
+        dispatcher.post(jobStatusChanged("A"));
+        runFxTasks();
+
+        assertEquals(Arrays.asList("B", "A"), received);
+        LaneMetrics metrics = dispatcher.getLaneMetrics(EventLane.FX);
+        assertEquals(1, metrics.coalescedCount);
+        assertEquals(0, metrics.droppedCount);
+        assertEquals(0, metrics.depth);
+    }
+
+    @Test
+    public void post_fullLaneCoalescingNothingSuperseded_postingThreadWaitsForRoom() throws Exception {
+        registerFxSubscriber(2, OverflowPolicy.COALESCE);
+        dispatcher.post(jobStatusChanged("A"));
+        dispatcher.post(jobStatusChanged("B"));
+
+        Thread postingThread = new Thread(() -> dispatcher.post(jobStatusChanged("C")));
+        postingThread.start();
+        postingThread.join(200);
+        assertTrue(postingThread.isAlive());
+
+        runFxTasks();
+        postingThread.join();
+        runFxTasks();
+        assertEquals(Arrays.asList("A", "B", "C"), received);
+        assertEquals(0, dispatcher.getLaneMetrics(EventLane.FX).droppedCount);
+    }
+
+    @Test
+    public void post_fullLaneNonBlockingThread_queuedBeyondCapacity() throws Exception {
+        registerFxSubscriber(2, OverflowPolicy.COALESCE);
+        dispatcher.post(jobStatusChanged("A"));
+        dispatcher.post(jobStatusChanged("B"));
+
+        Thread postingThread = new Thread(() -> {
+            DeliveryLane.markCurrentThreadNonBlocking();
+            dispatcher.post(jobStatusChanged("C"));
+            dispatcher.post(jobStatusChanged("D"));
+        });
+        postingThread.setDaemon(true);
+        postingThread.start();
+        postingThread.join(5000);
+        assertFalse(postingThread.isAlive());
+        assertEquals(4, dispatcher.getLaneMetrics(EventLane.FX).maxDepth);
+
+        runFxTasks();
+        assertEquals(Arrays.asList("A", "B", "C", "D"), received);
+        assertEquals(0, dispatcher.getLaneMetrics(EventLane.FX).droppedCount);
+    }
+
+    @Test
+    public void post_fullLaneBlocking_postingThreadWaitsForRoom() throws Exception {
+        registerFxSubscriber(1, OverflowPolicy.BLOCK);
+        dispatcher.post(jobStatusChanged("A"));
+
+        Thread postingThread = new Thread(() -> dispatcher.post(jobStatusChanged("B")));
+        postingThread.start();
+        postingThread.join(200);
+        assertTrue(postingThread.isAlive());
+
+        runFxTasks();
+        postingThread.join();
+        runFxTasks();
+        assertEquals(Arrays.asList("A", "B"), received);
+    }
+
+    @Test
+    public void getLaneMetrics_inlineLane_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        dispatcher.getLaneMetrics(EventLane.INLINE);
+    }
+
+    /**
+     * Registers a subscriber on the FX lane, whose drains are left for the test to run with {@link #runFxTasks()}
+     */
+    private void registerFxSubscriber(int capacity, OverflowPolicy overflowPolicy) {
+        dispatcher.configureLane(EventLane.FX, capacity, overflowPolicy);
+        dispatcher.setLaneExecutor(EventLane.FX, task -> {
+            synchronized (fxTasks) {
+                fxTasks.add(task);
+            }
+        }, () -> false);
+        dispatcher.register(new Object() {
+            @Subscribe
+            @DeliveredOn(EventLane.FX)
+            private void handleJobStatusChanged(JobStatusChangedEvent event) {
+                received.add(event.jobName.toString());
+            }
+        });
+    }
+
+    private void runFxTasks() {
+        Runnable task;
+        while ((task = pollFxTask()) != null) {
+            task.run();
+        }
+    }
+
+    private Runnable pollFxTask() {
+        synchronized (fxTasks) {
+            return fxTasks.poll();
+        }
+    }
+
+    private static JobStatusChangedEvent jobStatusChanged(String jobName) {
+        return new JobStatusChangedEvent(new JobName(jobName), new MachineName("Ultimaker"), Status.QUEUED);
+    }
+}
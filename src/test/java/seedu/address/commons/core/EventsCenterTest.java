@@ -0,0 +1,81 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
+import seedu.address.model.job.JobName;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class EventsCenterTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final AddressBook data = new AddressBook();
+
+    @Test
+    public void post_insideTransaction_dispatchedWhenClosed() {
+        try (EventsCenter.Transaction transaction = EventsCenter.getInstance().beginTransaction()) {
+            EventsCenter.getInstance().post(new AddressBookChangedEvent(data));
+            assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        }
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void post_supersedingEvents_mergedIntoLastPosted() {
+        AddressBookChangedEvent lastPersonsChanged = new AddressBookChangedEvent(data);
+        MachineListChangedEvent jobRemoved =
+            new MachineListChangedEvent(data, JobMutation.jobRemoved(new JobName("IDCP")));
+
+        try (EventsCenter.Transaction transaction = EventsCenter.getInstance().beginTransaction()) {
+            EventsCenter.getInstance().post(new AddressBookChangedEvent(data));
+            EventsCenter.getInstance().post(jobRemoved);
+            EventsCenter.getInstance().post(lastPersonsChanged);
+        }
+
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        assertSame(jobRemoved, eventsCollectorRule.eventsCollector.get(0));
+        assertSame(lastPersonsChanged, eventsCollectorRule.eventsCollector.get(1));
+    }
+
+    @Test
+    public void post_jobMutations_notMerged() {
+        try (EventsCenter.Transaction transaction = EventsCenter.getInstance().beginTransaction()) {
+            EventsCenter.getInstance().post(new MachineListChangedEvent(data, JobMutation.jobRemoved(new JobName("A"))));
+            EventsCenter.getInstance().post(new MachineListChangedEvent(data, JobMutation.jobRemoved(new JobName("B"))));
+        }
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void post_nestedTransaction_dispatchedWhenOutermostClosed() {
+        try (EventsCenter.Transaction outer = EventsCenter.getInstance().beginTransaction()) {
+            try (EventsCenter.Transaction inner = EventsCenter.getInstance().beginTransaction()) {
+                EventsCenter.getInstance().post(new AddressBookChangedEvent(data));
+            }
+            assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        }
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void post_otherThreadDuringTransaction_dispatchedStraightAway() throws Exception {
+        try (EventsCenter.Transaction transaction = EventsCenter.getInstance().beginTransaction()) {
+            Thread otherThread = new Thread(() ->
+                EventsCenter.getInstance().post(new DataSavingExceptionEvent(new Exception("disk full"))));
+            otherThread.start();
+            otherThread.join();
+            assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        }
+    }
+}
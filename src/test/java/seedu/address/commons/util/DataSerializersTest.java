@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.testutil.SerializableTestClass;
+
+public class DataSerializersTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void getAll_defaultFormats_xmlFirst() {
+        assertEquals(XmlSerializer.FORMAT_NAME, DataSerializers.getAll().get(0).getFormatName());
+        assertEquals(JsonSerializer.FORMAT_NAME, DataSerializers.getAll().get(1).getFormatName());
+    }
+
+    @Test
+    public void forFile_knownExtensions_matchingSerializer() {
+        assertEquals(XmlUtil.getSerializer(), DataSerializers.forFile(Paths.get("data", "addressbook.xml")).get());
+        assertEquals(JsonUtil.getSerializer(), DataSerializers.forFile(Paths.get("preferences.json")).get());
+        assertFalse(DataSerializers.forFile(Paths.get("makerManagerMachines.bin")).isPresent());
+    }
+
+    @Test
+    public void jsonSerializer_writeThenRead_sameValues() throws Exception {
+        SerializableTestClass original = new SerializableTestClass();
+        original.setTestValues();
+        DataSerializer serializer = DataSerializers.get(JsonSerializer.FORMAT_NAME).get();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.write(out, original);
+        SerializableTestClass read = serializer.read(new ByteArrayInputStream(out.toByteArray()),
+                SerializableTestClass.class);
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, out.toString("UTF-8"));
+        assertEquals(SerializableTestClass.getNameTestValue(), read.getName());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), read.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void jsonSerializer_invalidJson_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        JsonUtil.getSerializer().read(new ByteArrayInputStream("{ \"name\"".getBytes()), SerializableTestClass.class);
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.admin.LogoutCommand.MESSAGE_NO_CURRENT_SESSION;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -16,6 +21,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.MachineBuilder;
 
 
 public class LogicManagerTest {
@@ -46,12 +52,48 @@ public class LogicManagerTest {
         assertHistoryCorrect(listMachinesCommand);
     }
 
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+        try {
+            result.get();
+            throw new AssertionError("The command should have failed.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void executeAsync_severalCommands_runAndRecordedInOrder() {
+        logic.executeAsync("logout");
+        logic.executeAsync(ListMachinesCommand.COMMAND_WORD);
+        CommandResult history = logic.executeAsync(HistoryCommand.COMMAND_WORD).join();
+
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS,
+            String.join("\n", ListMachinesCommand.COMMAND_WORD, "logout")), history.feedbackToUser);
+        assertEquals(new ListElementPointer(
+            Arrays.asList("logout", ListMachinesCommand.COMMAND_WORD, HistoryCommand.COMMAND_WORD)),
+            logic.getHistorySnapshot());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         logic.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void getFilteredMachineList_machineAddedOnModelWriter_shownOnceChangeIsMade() {
+        model.submit(() -> {
+            model.addMachine(new MachineBuilder().withName("JJPrinter").build());
+            return null;
+        }).join();
+
+        assertEquals(1, logic.getFilteredMachineList().size());
+        assertEquals(model.getSnapshot().getFilteredMachineList(), logic.getFilteredMachineList());
+    }
+
     /**
      * Executes the command, confirms that no exceptions are thrown and that the result message is correct.
      * Also confirms that {@code expectedModel} is as specified.
@@ -13,7 +13,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -27,6 +26,7 @@ import seedu.address.model.job.JobName;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.DefaultFailingModelStub;
 import seedu.address.testutil.builders.PersonBuilder;
 
 public class AddCommandTest {
@@ -92,68 +92,14 @@ public class AddCommandTest {
     }
 
     /**
-     * A default model stub that have all of the methods failing.
+     * A model stub that fails every method it does not override.
      */
-    private class ModelStub implements Model {
-        @Override
-        public void addPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetData(ReadOnlyAddressBook newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deletePerson(Person target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updatePerson(Person target, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasJob(Job job) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addJob(Job job) {
-            throw new AssertionError("This method should not be called.");
-        }
-
+    private class ModelStub extends DefaultFailingModelStub {
         @Override
         public void deleteJob(JobName job) {
 
         }
 
-        public void startJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cancelJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void restartJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void swapJobs(JobName jobname1, JobName jobName2) {
             return;
@@ -168,20 +114,11 @@ public class AddCommandTest {
 
         }
 
-        @Override
-        public int getTotalNumberOfJobsDisplayed() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public boolean isTopJob(JobName job) {
             return false;
         }
 
-        public void moveJobToMachine(Job job, Machine targetMachine) {
-
-        }
-
         @Override
         public void autoMoveJobsDuringFlush(Machine currentMachine) {
 
@@ -202,16 +139,6 @@ public class AddCommandTest {
             return null;
         }
 
-        @Override
-        public void addMachine(Machine machine) {
-            throw new AssertionError("This method should not be called");
-        }
-
-        @Override
-        public void updateMachine(Machine target, Machine editedMachine) {
-            throw new AssertionError("This method should not be called");
-        }
-
         @Override
         public Machine getMostFreeMachine() {
             return null;
@@ -222,16 +149,6 @@ public class AddCommandTest {
             return null;
         }
 
-        @Override
-        public void removeMachine(Machine machine) {
-            throw new AssertionError("This method should not be called");
-        }
-
-        @Override
-        public boolean hasMachine(Machine machine) {
-            throw new AssertionError("This method should not be called");
-        }
-
         @Override
         public boolean hasSameMachineName(Machine machine) {
             return false;
@@ -247,36 +164,6 @@ public class AddCommandTest {
 
         }
 
-        @Override
-        public void addAdmin(Admin admin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeAdmin(Admin admin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateAdmin(Admin admin, Admin updatedAdmin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setLogin(Admin admin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void clearLogin() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isLoggedIn() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public Admin findAdmin(Username username) {
             return null;
@@ -287,106 +174,15 @@ public class AddCommandTest {
             return 0;
         }
 
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Admin> getFilteredAdminList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredAdminList(Predicate<Admin> predicate) {
-            throw new AssertionError("This method should not be called");
-        }
-
-        @Override
-        public ObservableList<Machine> getFilteredMachineList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredMachineList(Predicate<Machine> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void updateFilteredJobListInAllMachines(Predicate<Job> predicate) {
 
         }
 
-        @Override
-        public boolean canUndoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean canRedoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void undoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void commitAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void adminLoginCommitAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void adminLogoutCommitAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isRedoLogin() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isUndoLogout() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public Admin currentlyLoggedIn() {
             return null;
         }
-
-        @Override
-        public boolean isUndoLogin() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void shiftJob(JobName jobName, int shiftBy) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void moveJob(JobName jobName, MachineName targetMachineName) {
-            throw new AssertionError("This method should not be called.");
-        }
     }
 
     /**
@@ -4,28 +4,22 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
 import seedu.address.model.admin.Password;
 import seedu.address.model.admin.Username;
-import seedu.address.model.job.Job;
 import seedu.address.model.job.JobName;
 import seedu.address.model.machine.Machine;
-import seedu.address.model.machine.MachineName;
-import seedu.address.model.person.Person;
+import seedu.address.testutil.DefaultFailingModelStub;
 
 public class AddAdminCommandTest {
 
@@ -115,71 +109,17 @@ public class AddAdminCommandTest {
     }
 
     /**
-     * A default model stub that has some methods failing
+     * A model stub that fails every method it does not override.
      */
-    private class ModelStub implements Model {
+    private class ModelStub extends DefaultFailingModelStub {
         final ArrayList<Admin> adminList = new ArrayList<>();
         final AdminSession adminSession = new AdminSession();
 
-        @Override
-        public void addPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetData(ReadOnlyAddressBook newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deletePerson(Person target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updatePerson(Person target, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasJob(Job job) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addJob(Job job) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void deleteJob(JobName job) {
 
         }
 
-        public void startJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cancelJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void restartJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void swapJobs(JobName jobname1, JobName jobName2) {
             return;
@@ -195,45 +135,21 @@ public class AddAdminCommandTest {
 
         }
 
-        @Override
-        public int getTotalNumberOfJobsDisplayed() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public boolean isTopJob(JobName job) {
             return false;
         }
 
-        public void moveJobToMachine(Job job, Machine targetMachine) {
-
-        }
-
         @Override
         public void autoMoveJobsDuringFlush(Machine currentMachine) {
 
         }
 
-        @Override
-        public void updateJob(Job oldJob, Job updatedJob) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public JobMachineTuple findJob(JobName name) {
             return null;
         }
 
-        @Override
-        public void addMachine(Machine machine) {
-            throw new AssertionError("This method should not be called");
-        }
-
-        @Override
-        public void removeMachine(Machine machine) {
-            throw new AssertionError("This method should not be called");
-        }
-
         @Override
         public boolean hasMachine(Machine machine) {
             return false;
@@ -274,16 +190,6 @@ public class AddAdminCommandTest {
             adminList.add(admin);
         }
 
-        @Override
-        public void removeAdmin(Admin admin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateAdmin(Admin admin, Admin updatedAdmin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public Admin findAdmin(Username username) {
             for (Admin admin : adminList) {
@@ -299,87 +205,11 @@ public class AddAdminCommandTest {
             return 0;
         }
 
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Admin> getFilteredAdminList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredAdminList(Predicate<Admin> predicate) {
-            throw new AssertionError("This method should not be called");
-        }
-
-        @Override
-        public ObservableList<Machine> getFilteredMachineList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredMachineList(Predicate<Machine> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredJobListInAllMachines(Predicate<Job> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-
-        @Override
-        public boolean canUndoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean canRedoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void undoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void commitAddressBook() {
             return;
         }
 
-        @Override
-        public void adminLoginCommitAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void adminLogoutCommitAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isRedoLogin() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isUndoLogout() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public Admin currentlyLoggedIn() {
             return null;
@@ -399,25 +229,5 @@ public class AddAdminCommandTest {
         public boolean isLoggedIn() {
             return adminSession.isAdminLoggedIn();
         }
-
-        @Override
-        public Machine findMachine(MachineName machinename) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isUndoLogin() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void shiftJob(JobName jobName, int shiftBy) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void moveJob(JobName jobName, MachineName targetMachineName) {
-            throw new AssertionError("This method should not be called.");
-        }
     }
 }
@@ -8,13 +8,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
 import seedu.address.model.admin.Password;
@@ -22,8 +19,7 @@ import seedu.address.model.admin.Username;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobName;
 import seedu.address.model.machine.Machine;
-import seedu.address.model.machine.MachineName;
-import seedu.address.model.person.Person;
+import seedu.address.testutil.DefaultFailingModelStub;
 
 public class LogoutCommandTest {
 
@@ -54,70 +50,16 @@ public class LogoutCommandTest {
     }
 
     /**
-     * A default model stub that have some methods
+     * A model stub that fails every method it does not override.
      */
-    private class ModelStub implements Model {
+    private class ModelStub extends DefaultFailingModelStub {
         private final AdminSession adminSession = new AdminSession();
 
-        @Override
-        public void addPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetData(ReadOnlyAddressBook newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deletePerson(Person target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updatePerson(Person target, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasJob(Job job) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addJob(Job job) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void deleteJob(JobName job) {
 
         }
 
-        public void startJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cancelJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void restartJob(JobName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void swapJobs(JobName jobname1, JobName jobName2) {
         }
@@ -132,21 +74,12 @@ public class LogoutCommandTest {
 
         }
 
-        @Override
-        public int getTotalNumberOfJobsDisplayed() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
 
         public boolean isTopJob(JobName job) {
             return false;
         }
 
-        public void moveJobToMachine(Job job, Machine targetMachine) {
-
-        }
-
         @Override
         public void autoMoveJobsDuringFlush(Machine currentMachine) {
 
@@ -162,16 +95,6 @@ public class LogoutCommandTest {
             return null;
         }
 
-        @Override
-        public void addMachine(Machine machine) {
-            throw new AssertionError("This method should not be called");
-        }
-
-        @Override
-        public void removeMachine(Machine machine) {
-            throw new AssertionError("This method should not be called");
-        }
-
         @Override
         public boolean hasMachine(Machine machine) {
             return false;
@@ -207,21 +130,6 @@ public class LogoutCommandTest {
             return null;
         }
 
-        @Override
-        public void addAdmin(Admin admin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeAdmin(Admin admin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateAdmin(Admin admin, Admin updatedAdmin) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public Admin findAdmin(Username username) {
             return null;
@@ -232,63 +140,11 @@ public class LogoutCommandTest {
             return 0;
         }
 
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Admin> getFilteredAdminList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredAdminList(Predicate<Admin> predicate) {
-            throw new AssertionError("This method should not be called");
-        }
-
-        @Override
-        public ObservableList<Machine> getFilteredMachineList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredMachineList(Predicate<Machine> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void updateFilteredJobListInAllMachines(Predicate<Job> predicate) {
 
         }
 
-
-        @Override
-        public boolean canUndoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean canRedoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void undoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void commitAddressBook() {
             return;
@@ -304,16 +160,6 @@ public class LogoutCommandTest {
             return;
         }
 
-        @Override
-        public boolean isRedoLogin() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isUndoLogout() {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public Admin currentlyLoggedIn() {
             return null;
@@ -333,25 +179,5 @@ public class LogoutCommandTest {
         public boolean isLoggedIn() {
             return adminSession.isAdminLoggedIn();
         }
-
-        @Override
-        public Machine findMachine(MachineName machinename) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isUndoLogin() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void shiftJob(JobName jobName, int shiftBy) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void moveJob(JobName jobName, MachineName targetMachineName) {
-            throw new AssertionError("This method should not be called.");
-        }
     }
 }
@@ -1,25 +1,64 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.testdata.TypicalPersons.ALICE;
 import static seedu.address.testutil.testdata.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.OverflowPolicy;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.JobAddedEvent;
+import seedu.address.commons.events.model.JobMovedEvent;
+import seedu.address.commons.events.model.JobRemovedEvent;
+import seedu.address.commons.events.model.JobShiftedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
+import seedu.address.commons.events.model.JobsArchivedEvent;
+import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.model.ModelSnapshotPublishedEvent;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.testutil.MachineBuilder;
+import seedu.address.testutil.ManualScheduledExecutor;
 import seedu.address.testutil.builders.AddressBookBuilder;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -45,6 +84,333 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void startJob_durationPassed_jobFinished() {
+        ManualScheduledExecutor executor = useManualTime();
+        JobName name = addQueuedJob(TimeUnit.HOURS.toMillis(1));
+        modelManager.startJob(name);
+
+        executor.advanceBy(TimeUnit.MINUTES.toMillis(30));
+        waitForWriter();
+        assertEquals(Status.ONGOING, modelManager.findJob(name).job.getStatus());
+
+        executor.advanceBy(TimeUnit.HOURS.toMillis(1));
+        waitForWriter();
+        assertEquals(Status.FINISHED, modelManager.findJob(name).job.getStatus());
+        assertEquals(0, executor.getPendingCount());
+    }
+
+    @Test
+    public void startJob_severalModels_timersShareOneThread() {
+        for (int i = 0; i < 3; i++) {
+            modelManager = new ModelManager();
+            modelManager.startJob(addQueuedJob(TimeUnit.HOURS.toMillis(1)));
+        }
+        long timerThreads = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("Model timers")).count();
+        assertEquals(1, timerThreads);
+    }
+
+    @Test
+    public void cancelJob_ongoingJob_notFinishedWhenDue() {
+        ManualScheduledExecutor executor = useManualTime();
+        JobName name = addQueuedJob(TimeUnit.HOURS.toMillis(1));
+        modelManager.startJob(name);
+        modelManager.cancelJob(name);
+        assertEquals(0, executor.getPendingCount());
+
+        executor.advanceBy(TimeUnit.HOURS.toMillis(2));
+        waitForWriter();
+        assertEquals(Status.CANCELLED, modelManager.findJob(name).job.getStatus());
+    }
+
+    @Test
+    public void commitAddressBook_personAdded_onlyPersonsChangedRaised() {
+        modelManager.addPerson(ALICE);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.commitAddressBook();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+
+        // nothing is left to be saved afterwards
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.adminLoginCommitAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void commitAddressBook_jobStarted_onlyJobChangeRaised() {
+        JobName name = addQueuedJob(60000);
+        modelManager.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.startJob(name);
+        MachineListChangedEvent jobChanged = (MachineListChangedEvent) eventsCollectorRule.eventsCollector.get(1);
+        assertNotNull(jobChanged.mutation);
+        eventsCollectorRule.eventsCollector.reset();
+
+        // the job change has been raised already, so the commit does not save the machines all over again
+        modelManager.commitAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void undoAddressBook_personAdded_onlyPersonsChangedRaised() {
+        modelManager.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        modelManager.commitAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.undoAddressBook();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+    }
+
+    @Test
+    public void archiveJobsCompletedBefore_oldFinishedJob_removedAndArchivedBeforeMachinesSaved() {
+        modelManager.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        Job finished = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.FINISHED).withAddedTime(new TimeStamp(1000)).withStartTime(new TimeStamp(2000))
+            .withDuration(1000).build();
+        Job queued = new JobBuilder().withName("Gears").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).withAddedTime(new TimeStamp(1000)).build();
+        modelManager.addJob(finished);
+        modelManager.addJob(queued);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.archiveJobsCompletedBefore(System.currentTimeMillis());
+
+        assertNull(modelManager.findJob(finished.getJobName()));
+        assertNotNull(modelManager.findJob(queued.getJobName()));
+        assertEquals(3, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.get(0) instanceof JobsArchivedEvent);
+        assertTrue(eventsCollectorRule.eventsCollector.get(1) instanceof MachineListChangedEvent);
+        JobRemovedEvent jobRemoved = (JobRemovedEvent) eventsCollectorRule.eventsCollector.get(2);
+        assertEquals(finished.getJobName(), jobRemoved.jobName);
+    }
+
+    @Test
+    public void startJob_queuedJob_jobStatusChangedRaised() {
+        JobName name = addQueuedJob(60000);
+        modelManager.startJob(name);
+
+        JobStatusChangedEvent event = (JobStatusChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(name, event.jobName);
+        assertEquals(new MachineName("JJPrinter"), event.machineName);
+        assertEquals(Status.ONGOING, event.status);
+    }
+
+    @Test
+    public void moveJob_toOtherMachine_jobMovedRaisedWithBothMachines() {
+        JobName name = addQueuedJob(60000);
+        modelManager.addMachine(new MachineBuilder().withName("TyPrinter").build());
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.moveJob(name, new MachineName("TyPrinter"));
+        JobMovedEvent event = (JobMovedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(name, event.jobName);
+        assertEquals(new MachineName("JJPrinter"), event.fromMachineName);
+        assertEquals(new MachineName("TyPrinter"), event.toMachineName);
+    }
+
+    @Test
+    public void shiftJob_withinMachine_jobShiftedRaised() {
+        JobName name = addQueuedJob(60000);
+        modelManager.addJob(new JobBuilder().withName("Other").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).build());
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.shiftJob(name, -1);
+        JobShiftedEvent event = (JobShiftedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(name, event.jobName);
+        assertEquals(new MachineName("JJPrinter"), event.machineName);
+        assertEquals(-1, event.shiftBy);
+    }
+
+    @Test
+    public void flushMachine_machineWithJob_jobRemovedRaised() {
+        JobName name = addQueuedJob(60000);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.flushMachine(modelManager.findMachine(new MachineName("JJPrinter")));
+        JobRemovedEvent event = (JobRemovedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(name, event.jobName);
+        assertEquals(new MachineName("JJPrinter"), event.machineName);
+    }
+
+    @Test
+    public void setJobArchive_archivingEnabled_jobsAgedByModelClock() {
+        long startMillis = TimeUnit.DAYS.toMillis(100);
+        ManualScheduledExecutor executor = new ManualScheduledExecutor(startMillis);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setJobArchiveAgeDays(1);
+        modelManager = new ModelManager(new AddressBook(), userPrefs, executor, executor.getClock());
+        modelManager.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        long hourMillis = TimeUnit.HOURS.toMillis(1);
+        Job finished = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.FINISHED).withAddedTime(new TimeStamp(startMillis - 2 * hourMillis))
+            .withStartTime(new TimeStamp(startMillis - 2 * hourMillis)).withDuration(hourMillis).build();
+        modelManager.addJob(finished);
+        modelManager.setJobArchive(ReadOnlyJobArchive.EMPTY);
+
+        // by the system time the job finished long ago, but by the clock of the model only an hour ago
+        executor.advanceBy(JobArchiveScheduler.FIRST_ARCHIVE_DELAY_MILLIS);
+        waitForWriter();
+        assertNotNull(modelManager.findJob(finished.getJobName()));
+
+        executor.advanceBy(TimeUnit.DAYS.toMillis(1));
+        waitForWriter();
+        assertNull(modelManager.findJob(finished.getJobName()));
+    }
+
+    @Test
+    public void archiveJobsCompletedBefore_noOldJobs_noEventRaised() {
+        addQueuedJob(50);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.archiveJobsCompletedBefore(System.currentTimeMillis());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void submit_changes_madeInOrderOnWriterThread() {
+        List<String> made = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<String> first = modelManager.submit(() -> {
+            made.add("first on " + Thread.currentThread().getName());
+            return "first";
+        });
+        CompletableFuture<String> second = modelManager.submit(() -> {
+            made.add("second on " + Thread.currentThread().getName());
+            return "second";
+        });
+
+        assertEquals("second", second.join());
+        assertEquals("first", first.join());
+        assertEquals(Arrays.asList("first on Model writer", "second on Model writer"), made);
+    }
+
+    @Test
+    public void submit_failingChange_completesWithWhatItThrew() {
+        thrown.expect(CompletionException.class);
+        modelManager.submit(() -> {
+            throw new IllegalStateException("change failed");
+        }).join();
+    }
+
+    @Test
+    public void submit_fxLaneStalled_writerKeepsMakingChanges() throws Exception {
+        // the FX lane never gets to deliver, and only has room for one event
+        List<JobAddedEvent> delivered = Collections.synchronizedList(new ArrayList<>());
+        EventsCenter.getInstance().configureLane(EventLane.FX, 1, OverflowPolicy.COALESCE);
+        EventsCenter.getInstance().setLaneExecutor(EventLane.FX, unused -> { }, () -> false);
+        EventsCenter.getInstance().registerHandler(new Object() {
+            @Subscribe
+            @DeliveredOn(EventLane.FX)
+            private void handleJobAdded(JobAddedEvent event) {
+                delivered.add(event);
+            }
+        });
+
+        modelManager.submit(() -> {
+            modelManager.addMachine(new MachineBuilder().withName("JJPrinter").build());
+            return null;
+        });
+        for (String name : Arrays.asList("IDCP", "Gears", "Hinge")) {
+            modelManager.submit(() -> {
+                modelManager.addJob(new JobBuilder().withName(name).withMachine(new MachineName("JJPrinter")).build());
+                return null;
+            });
+        }
+        modelManager.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(3, findMachine(modelManager.getSnapshot(), "JJPrinter").getJobs().size());
+        assertTrue(EventsCenter.getInstance().getLaneMetrics(EventLane.FX).depth >= 3);
+    }
+
+    @Test
+    public void getSnapshot_afterSubmittedChange_showsChangeWithoutChangingEarlierSnapshot() {
+        JobName name = modelManager.submit(() -> {
+            modelManager.addMachine(new MachineBuilder().withName("TyPrinter").build());
+            return addQueuedJob(60000);
+        }).join();
+        ModelSnapshot before = modelManager.getSnapshot();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ModelSnapshotPublishedEvent);
+
+        modelManager.submit(() -> {
+            modelManager.startJob(name);
+            return null;
+        }).join();
+        ModelSnapshot after = modelManager.getSnapshot();
+
+        assertEquals(Status.QUEUED, findMachine(before, "JJPrinter").findJob(name).getStatus());
+        assertEquals(Status.ONGOING, findMachine(after, "JJPrinter").findJob(name).getStatus());
+        assertNotSame(modelManager.findMachine(new MachineName("JJPrinter")), findMachine(after, "JJPrinter"));
+        // the machine that was not changed is not copied again
+        assertSame(findMachine(before, "TyPrinter"), findMachine(after, "TyPrinter"));
+    }
+
+    @Test
+    public void getSnapshot_jobStarted_unchangedJobsShared() {
+        JobName otherName = new JobName("Gears");
+        JobName name = modelManager.submit(() -> {
+            JobName added = addQueuedJob(60000);
+            modelManager.addJob(new JobBuilder().withName(otherName.fullName)
+                .withMachine(new MachineName("JJPrinter")).withStatus(Status.QUEUED).build());
+            return added;
+        }).join();
+        Machine before = findMachine(modelManager.getSnapshot(), "JJPrinter");
+
+        modelManager.submit(() -> {
+            modelManager.startJob(name);
+            return null;
+        }).join();
+        Machine after = findMachine(modelManager.getSnapshot(), "JJPrinter");
+
+        // the started job is replaced by a copy, so the earlier snapshot still shows it QUEUED
+        assertEquals(Status.QUEUED, before.findJob(name).getStatus());
+        assertSame(modelManager.findJob(name).job, after.findJob(name));
+        // the job that did not change is shared by both snapshots and the model
+        assertSame(before.findJob(otherName), after.findJob(otherName));
+        assertSame(modelManager.findJob(otherName).job, after.findJob(otherName));
+    }
+
+    private static Machine findMachine(ModelSnapshot snapshot, String name) {
+        return snapshot.getMachineList().stream()
+            .filter(machine -> machine.getName().equals(new MachineName(name))).findFirst().get();
+    }
+
+    /**
+     * Adds a QUEUED job taking {@code duration} milliseconds to a new machine, and returns its name
+     */
+    private JobName addQueuedJob(long duration) {
+        modelManager.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        Job job = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).withDuration(duration).build();
+        modelManager.addJob(job);
+        return job.getJobName();
+    }
+
+    /**
+     * Replaces {@code modelManager} with an empty one whose jobs are timed by the returned executor.
+     * Its clock starts now, so that jobs started by the model, which are stamped with the system time,
+     * are due when the clock has moved on by their duration.
+     */
+    private ManualScheduledExecutor useManualTime() {
+        ManualScheduledExecutor executor = new ManualScheduledExecutor(System.currentTimeMillis());
+        modelManager = new ModelManager(new AddressBook(), new UserPrefs(), executor, executor.getClock());
+        return executor;
+    }
+
+    /**
+     * Waits until the writer thread has made every change submitted so far, as it makes them in order
+     */
+    private void waitForWriter() {
+        modelManager.submit(() -> null).join();
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.testdata.TypicalPersons.AMY;
@@ -10,11 +11,18 @@ import static seedu.address.testutil.testdata.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.MachineBuilder;
 import seedu.address.testutil.builders.AddressBookBuilder;
+import seedu.address.testutil.builders.JobBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -207,6 +215,88 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undoRedo_jobStatusChanged_restoresJobStatus() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        versionedAddressBook.addMachine(new MachineBuilder().withName("TyPrinter").build());
+        Job job = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).build();
+        versionedAddressBook.addJobToMachineList(job);
+        versionedAddressBook.commit();
+        versionedAddressBook.startJob(job.getJobName());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Status.QUEUED, versionedAddressBook.findJob(job.getJobName()).job.getStatus());
+
+        versionedAddressBook.redo();
+        assertEquals(Status.ONGOING, versionedAddressBook.findJob(job.getJobName()).job.getStatus());
+        assertEquals(2, versionedAddressBook.getMachineList().size());
+    }
+
+    @Test
+    public void undo_jobStarted_unchangedJobsShared() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        Job job = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).build();
+        Job otherJob = new JobBuilder().withName("Gears").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).build();
+        versionedAddressBook.addJobToMachineList(job);
+        versionedAddressBook.addJobToMachineList(otherJob);
+        versionedAddressBook.commit();
+        versionedAddressBook.startJob(job.getJobName());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        // only the started job was replaced, so the states and the restored machine hold the same other job
+        assertSame(job, versionedAddressBook.findJob(job.getJobName()).job);
+        assertSame(otherJob, versionedAddressBook.findJob(otherJob.getJobName()).job);
+    }
+
+    @Test
+    public void undoRedo_onlyJobChanged_onlyMachinesChanged() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        versionedAddressBook.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        versionedAddressBook.addMachine(new MachineBuilder().withName("TyPrinter").build());
+        Job job = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).build();
+        versionedAddressBook.addJobToMachineList(job);
+        versionedAddressBook.commit();
+        versionedAddressBook.startJob(job.getJobName());
+        versionedAddressBook.commit();
+
+        assertEquals(EnumSet.of(DataSection.MACHINES), versionedAddressBook.undo());
+        assertEquals(EnumSet.of(DataSection.MACHINES), versionedAddressBook.redo());
+    }
+
+    @Test
+    public void undo_onlyPersonsChanged_onlyPersonsChanged() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
+
+        assertEquals(EnumSet.of(DataSection.PERSONS), versionedAddressBook.undo());
+    }
+
+    @Test
+    public void adopt_machinesTakenOverAndHistoryKept() {
+        AddressBook initialState = new AddressBookBuilder().withPerson(AMY).build();
+        Machine machine = new MachineBuilder().withName("JJPrinter").build();
+        initialState.addMachine(machine);
+        Job job = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).build();
+        initialState.addJobToMachineList(job);
+
+        VersionedAddressBook versionedAddressBook = VersionedAddressBook.adopt(initialState);
+        assertSame(machine, versionedAddressBook.getMachineList().get(0));
+        assertEquals(Collections.singletonList(AMY), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.startJob(job.getJobName());
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(Status.QUEUED, versionedAddressBook.findJob(job.getJobName()).job.getStatus());
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -0,0 +1,64 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+
+import org.junit.Test;
+
+public class TimeStampTest {
+
+    private static final long MILLIS_IN_DAYS = 24 * 60 * 60 * 1000L;
+
+    @Test
+    public void showAsDuration() {
+        assertEquals("45 Seconds", TimeStamp.showAsDuration(45000));
+        assertEquals("1 Minute", TimeStamp.showAsDuration(60000));
+        assertEquals("30 Minutes", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(0.5f)));
+        assertEquals("1 Hour 30 Minutes", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(1.5f)));
+        assertEquals("5 Hours 0 Minutes", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(5)));
+        assertEquals("1 Day 2 Hours ", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(26)));
+        assertEquals("3 Days 0 Hours ", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(72)));
+        assertEquals("1 Years 0 Days ", TimeStamp.showAsDuration(365 * MILLIS_IN_DAYS));
+        // 1972 is a leap year
+        assertEquals("2 Years 365 Days ", TimeStamp.showAsDuration(3 * 365 * MILLIS_IN_DAYS));
+    }
+
+    @Test
+    public void showTime_sameAsCalendarFields() {
+        TimeStamp timeStamp = new TimeStamp(1541065234000L);
+        Calendar calendar = timeStamp.getCalendar();
+        String expected = calendar.get(Calendar.DAY_OF_MONTH) + "/" + (calendar.get(Calendar.MONTH) + 1) + " "
+            + calendar.get(Calendar.HOUR) + ":" + calendar.get(Calendar.MINUTE) + ":" + calendar.get(Calendar.SECOND);
+        assertEquals(expected, timeStamp.showTime());
+    }
+
+    @Test
+    public void timeDifference() {
+        TimeStamp earlier = new TimeStamp(1000);
+        TimeStamp later = new TimeStamp(4500);
+        assertEquals(3500, TimeStamp.timeDifference(earlier, later));
+        assertTrue(TimeStamp.compareTime(earlier, later));
+        assertFalse(TimeStamp.compareTime(later, earlier));
+        assertEquals(new TimeStamp(5500), TimeStamp.timeAdd(earlier, later));
+    }
+
+    @Test
+    public void isSameSecond() {
+        assertTrue(new TimeStamp(2000).isSameSecond(new TimeStamp(2999)));
+        assertFalse(new TimeStamp(2999).isSameSecond(new TimeStamp(3000)));
+    }
+
+    @Test
+    public void equals() {
+        TimeStamp timeStamp = new TimeStamp(1234);
+
+        assertTrue(timeStamp.equals(timeStamp));
+        assertTrue(timeStamp.equals(new TimeStamp(1234)));
+        assertFalse(timeStamp.equals(new TimeStamp(1235)));
+        assertFalse(timeStamp.equals(null));
+        assertFalse(timeStamp.equals(1234L));
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.model.job.exceptions.DuplicateJobException;
 import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.testutil.builders.JobBuilder;
 
 public class UniqueJobListTest {
     @Rule
@@ -119,6 +120,24 @@ public class UniqueJobListTest {
         assertEquals(expectedUniqueJobList, uniqueJobList);
     }
 
+    @Test
+    public void contains_jobsReplacedAndRemoved_followsJobNames() {
+        Job queued = new JobBuilder().withName("queued").withStatus(Status.QUEUED).build();
+        Job cancelled = new JobBuilder().withName("cancelled").withStatus(Status.CANCELLED).build();
+        uniqueJobList.add(queued);
+        uniqueJobList.add(cancelled);
+
+        uniqueJobList.startJob(queued.getJobName());
+        assertTrue(uniqueJobList.contains(queued));
+        assertEquals(Status.ONGOING, uniqueJobList.findJob(queued.getJobName()).getStatus());
+
+        uniqueJobList.cleanJobs();
+        assertFalse(uniqueJobList.contains(cancelled));
+        assertEquals(null, uniqueJobList.findJob(cancelled.getJobName()));
+        uniqueJobList.add(cancelled);
+        assertTrue(uniqueJobList.contains(cancelled));
+    }
+
     @Test
     public void setJobs_nullUniqueJobList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -162,4 +181,101 @@ public class UniqueJobListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueJobList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void add_jobsOfDifferentStatuses_keepsDisplayOrder() {
+        Job finished = new JobBuilder().withName("finished").withStatus(Status.FINISHED).build();
+        Job queued = new JobBuilder().withName("queued").withStatus(Status.QUEUED).build();
+        Job ongoing = new JobBuilder().withName("ongoing").withStatus(Status.ONGOING).build();
+        uniqueJobList.add(finished);
+        uniqueJobList.add(queued);
+        uniqueJobList.add(ongoing);
+        assertEquals(Arrays.asList(ongoing, queued, finished), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void startJob_queuedJob_movesToEndOfOngoingJobs() {
+        Job first = new JobBuilder().withName("first").withStatus(Status.QUEUED).build();
+        Job second = new JobBuilder().withName("second").withStatus(Status.QUEUED).build();
+        Job cancelled = new JobBuilder().withName("cancelled").withStatus(Status.CANCELLED).build();
+        uniqueJobList.add(first);
+        uniqueJobList.add(second);
+        uniqueJobList.add(cancelled);
+
+        uniqueJobList.startJob(second.getJobName());
+        assertEquals(Arrays.asList(second, first, cancelled), uniqueJobList.asUnmodifiableObservableList());
+
+        uniqueJobList.finishJob(second.getJobName());
+        assertEquals(Arrays.asList(first, second, cancelled), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void shift_pastJobsOfAnotherStatus_staysWithJobsOfSameStatus() {
+        Job ongoing = new JobBuilder().withName("ongoing").withStatus(Status.ONGOING).build();
+        Job first = new JobBuilder().withName("first").withStatus(Status.QUEUED).build();
+        Job second = new JobBuilder().withName("second").withStatus(Status.QUEUED).build();
+        uniqueJobList.add(ongoing);
+        uniqueJobList.add(first);
+        uniqueJobList.add(second);
+
+        uniqueJobList.shift(second, 5);
+        assertEquals(Arrays.asList(ongoing, second, first), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void count_afterStatusChanges_countsEachStatus() {
+        Job first = new JobBuilder().withName("first").withStatus(Status.QUEUED).build();
+        Job second = new JobBuilder().withName("second").withStatus(Status.QUEUED).build();
+        uniqueJobList.add(first);
+        uniqueJobList.add(second);
+        assertEquals(2, uniqueJobList.count(Status.QUEUED));
+        assertFalse(uniqueJobList.hasOngoingJob());
+
+        uniqueJobList.startJob(first.getJobName());
+        assertEquals(1, uniqueJobList.count(Status.QUEUED));
+        assertEquals(1, uniqueJobList.count(Status.ONGOING));
+        assertTrue(uniqueJobList.hasOngoingJob());
+
+        uniqueJobList.remove(first);
+        assertEquals(0, uniqueJobList.count(Status.ONGOING));
+        assertFalse(uniqueJobList.hasOngoingJob());
+    }
+
+    @Test
+    public void cleanJobs_cleanableJobs_removesOnlyCleanableJobs() {
+        Job queued = new JobBuilder().withName("queued").withStatus(Status.QUEUED).build();
+        Job paused = new JobBuilder().withName("paused").withStatus(Status.PAUSED).build();
+        Job finished = new JobBuilder().withName("finished").withStatus(Status.QUEUED).build();
+        Job cancelled = new JobBuilder().withName("cancelled").withStatus(Status.CANCELLED).build();
+        uniqueJobList.add(queued);
+        uniqueJobList.add(paused);
+        uniqueJobList.add(finished);
+        uniqueJobList.add(cancelled);
+        uniqueJobList.finishJob(finished.getJobName());
+        assertTrue(uniqueJobList.hasCleanableJobs());
+
+        List<Job> removed = uniqueJobList.cleanJobs();
+        assertEquals(2, removed.size());
+        assertTrue(removed.containsAll(Arrays.asList(finished, cancelled)));
+        assertEquals(Arrays.asList(queued, paused), uniqueJobList.asUnmodifiableObservableList());
+        assertFalse(uniqueJobList.hasCleanableJobs());
+        assertEquals(0, uniqueJobList.count(Status.FINISHED));
+    }
+
+    @Test
+    public void removeJobsCompletedBefore_oldAndRecentJobs_removesOnlyOldCleanableJobs() {
+        Job oldCancelled = new JobBuilder().withName("oldCancelled").withStatus(Status.CANCELLED)
+            .withAddedTime(new TimeStamp(1000)).withStartTime(new TimeStamp(2000)).build();
+        Job recentCancelled = new JobBuilder().withName("recentCancelled").withStatus(Status.CANCELLED)
+            .withAddedTime(new TimeStamp(1000)).withStartTime(new TimeStamp(6000)).build();
+        Job oldQueued = new JobBuilder().withName("oldQueued").withStatus(Status.QUEUED)
+            .withAddedTime(new TimeStamp(1000)).withStartTime(null).build();
+        uniqueJobList.add(oldCancelled);
+        uniqueJobList.add(recentCancelled);
+        uniqueJobList.add(oldQueued);
+
+        List<Job> removed = uniqueJobList.removeJobsCompletedBefore(5000);
+        assertEquals(Collections.singletonList(oldCancelled), removed);
+        assertEquals(Arrays.asList(oldQueued, recentCancelled), uniqueJobList.asUnmodifiableObservableList());
+    }
 }
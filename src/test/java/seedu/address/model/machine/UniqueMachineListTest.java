@@ -1,7 +1,9 @@
 package seedu.address.model.machine;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,6 +11,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.model.job.Job;
 import seedu.address.model.machine.exceptions.DuplicateMachineException;
 import seedu.address.model.machine.exceptions.MachineNotFoundException;
@@ -140,4 +143,70 @@ public class UniqueMachineListTest {
         myList.addJobToMachineList(ValidJobs.job1());
     }
 
+    @Test
+    public void findJob_jobAddedToMachineList_returnsJobAndMachine() {
+        myList.add(new MachineBuilder().withName("JJPrinter").withStatus(MachineStatus.ENABLED).build());
+        Job jobToAdd = ValidJobs.job1();
+        myList.addJobToMachineList(jobToAdd);
+        JobMachineTuple found = myList.findJob(jobToAdd.getJobName());
+        assertSame(jobToAdd, found.job);
+        assertEquals(new MachineName("JJPrinter"), found.machine.getName());
+        assertTrue(myList.isTopJob(jobToAdd.getJobName()));
+    }
+
+    @Test
+    public void removeJobFromMachineList_jobRemoved_jobNoLongerFound() {
+        myList.add(new MachineBuilder().withName("JJPrinter").withStatus(MachineStatus.ENABLED).build());
+        Job jobToAdd = ValidJobs.job1();
+        myList.addJobToMachineList(jobToAdd);
+        myList.removeJobFromMachineList(jobToAdd.getJobName());
+        assertNull(myList.findJob(jobToAdd.getJobName()));
+        assertFalse(myList.containsJob(jobToAdd.getJobName()));
+        assertFalse(myList.isTopJob(jobToAdd.getJobName()));
+    }
+
+    @Test
+    public void getMostFreeMachine_jobAddedAndFinished_returnsLeastLoadedMachine() {
+        Machine jjPrinter = new MachineBuilder().withName("JJPrinter").withStatus(MachineStatus.ENABLED).build();
+        Machine tyPrinter = new MachineBuilder().withName("TyPrinter").withStatus(MachineStatus.ENABLED).build();
+        myList.add(jjPrinter);
+        myList.add(tyPrinter);
+        assertSame(jjPrinter, myList.getMostFreeMachine());
+
+        Job jobToAdd = ValidJobs.job1();
+        myList.addJobToMachineList(jobToAdd);
+        assertSame(tyPrinter, myList.getMostFreeMachine());
+        assertSame(jjPrinter, myList.getMostFreeMachine(tyPrinter));
+
+        myList.changeJobStatus(myList.findJob(jobToAdd.getJobName()), Job::finishJob);
+        assertEquals(0, jjPrinter.getTotalDuration());
+        assertSame(jjPrinter, myList.getMostFreeMachine());
+    }
+
+    @Test
+    public void getMostFreeMachine_jobMoved_loadMovesWithJob() {
+        Machine jjPrinter = new MachineBuilder().withName("JJPrinter").withStatus(MachineStatus.ENABLED).build();
+        Machine tyPrinter = new MachineBuilder().withName("TyPrinter").withStatus(MachineStatus.ENABLED).build();
+        myList.add(jjPrinter);
+        myList.add(tyPrinter);
+        Job jobToMove = ValidJobs.job1();
+        myList.addJobToMachineList(jobToMove);
+        assertSame(tyPrinter, myList.getMostFreeMachine());
+
+        JobMachineTuple moved = myList.moveJob(myList.findJob(jobToMove.getJobName()), tyPrinter);
+        assertSame(moved, myList.findJob(jobToMove.getJobName()));
+        assertSame(tyPrinter, moved.machine);
+        assertEquals(0, jjPrinter.getTotalDuration());
+        assertSame(jjPrinter, myList.getMostFreeMachine());
+    }
+
+    @Test
+    public void getMostFreeMachine_noOtherEnabledMachine_throwsMachineNotFoundException() {
+        Machine jjPrinter = new MachineBuilder().withName("JJPrinter").withStatus(MachineStatus.ENABLED).build();
+        myList.add(jjPrinter);
+        myList.add(new MachineBuilder().withName("TyPrinter").withStatus(MachineStatus.DISABLED).build());
+        thrown.expect(MachineNotFoundException.class);
+        myList.getMostFreeMachine(jjPrinter);
+    }
+
 }
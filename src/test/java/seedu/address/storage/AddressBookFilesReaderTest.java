@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.testdata.TypicalPersons.ALICE;
+
+import java.io.FileNotFoundException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.testutil.MachineBuilder;
+
+public class AddressBookFilesReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void readAll_threeParts_merged() throws Exception {
+        Admin admin = new Admin(new Username("admin"), new Password("hashed"));
+        AddressBook data = AddressBookFilesReader.readAll(() -> {
+            AddressBook persons = new AddressBook();
+            persons.addPerson(ALICE);
+            return persons;
+        }, () -> {
+            AddressBook machines = new AddressBook();
+            machines.addMachine(new MachineBuilder().withName("JJPrinter").build());
+            return machines;
+        }, () -> {
+            AddressBook admins = new AddressBook();
+            admins.addAdminWithoutRehash(admin);
+            return admins;
+        });
+
+        assertEquals(Collections.singletonList(ALICE), data.getPersonList());
+        assertEquals(1, data.getMachineList().size());
+        assertEquals(Collections.singletonList(admin), data.getAdminList());
+    }
+
+    @Test
+    public void readAll_partsWaitingForEachOther_readAtTheSameTime() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        AddressBookFilesReader.PartReader waitingReader = () -> {
+            allStarted.countDown();
+            try {
+                if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new AssertionError("The parts were not read at the same time");
+                }
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return new AddressBook();
+        };
+
+        AddressBookFilesReader.readAll(waitingReader, waitingReader, waitingReader);
+        assertEquals(0, allStarted.getCount());
+    }
+
+    @Test
+    public void readAll_partThrowsIoException_rethrown() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        AddressBookFilesReader.readAll(AddressBook::new, () -> {
+            throw new FileNotFoundException("machines");
+        }, AddressBook::new);
+    }
+}
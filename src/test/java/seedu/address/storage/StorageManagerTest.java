@@ -2,10 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -13,9 +17,20 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AdminListChangedEvent;
+import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.storage.machine.MachineJournal;
+import seedu.address.testutil.MachineBuilder;
+import seedu.address.testutil.builders.JobBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -109,8 +124,192 @@ public class StorageManagerTest {
     @Test
     public void testHandLeAdminListChangedEvent() {
         storageManager.handleAdminListChangedEvent(new AdminListChangedEvent(new AddressBook()));
+        storageManager.flushPendingSaves();
         assertNotNull(testMakerManagerAdminsFilePath);
     }
 
+    @Test
+    public void handleMachineListChangedEvent_jobMutation_journaledAndReplayedOnRead() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        Job job = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withStatus(Status.QUEUED).build();
+        addressBook.addJobToMachineList(job);
+
+        // first change writes the machines file in full and starts the journal
+        storageManager.handleMachineListChangedEvent(
+            new MachineListChangedEvent(addressBook, JobMutation.jobAdded(job)));
+        addressBook.startJob(job.getJobName());
+        Job startedJob = addressBook.findJob(job.getJobName()).job;
+        storageManager.handleMachineListChangedEvent(
+            new MachineListChangedEvent(addressBook, JobMutation.jobUpdated(startedJob)));
+        storageManager.flushPendingSaves();
+        assertTrue(MachineJournal.journalPathFor(testMakerMangerMachinesFilePath).toFile().length() > 0);
+
+        ReadOnlyAddressBook read = new XmlAddressBookStorage(myTestUserPrefs)
+            .readAddressBook(testMakerMangerMachinesFilePath).get();
+        assertEquals(Status.ONGOING, read.getMachineList().get(0).findJob(job.getJobName()).getStatus());
+    }
+
+    @Test
+    public void handleMachineListChangedEvent_journalAppendFails_machinesSavedInFullWithNextChange()
+            throws Exception {
+        MutationFailingStorage addressBookStorage = new MutationFailingStorage(myTestUserPrefs);
+        StorageManager storage = new StorageManager(addressBookStorage,
+            new JsonUserPrefsStorage(getTempFilePath("prefs")), StorageManager.DEFAULT_SAVE_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        List<Job> jobs = new ArrayList<>();
+        for (String name : new String[] {"First", "Second", "Third"}) {
+            Job job = new JobBuilder().withName(name).withMachine(new MachineName("JJPrinter"))
+                .withStatus(Status.QUEUED).build();
+            jobs.add(job);
+            addressBook.addJobToMachineList(job);
+            storage.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook, JobMutation.jobAdded(job)));
+            storage.flushPendingSaves();
+        }
+
+        // the first of two queued job changes fails to be journaled, and the second is not journaled after it
+        addressBookStorage.isNextMutationFailing = true;
+        addressBook.shiftJob(jobs.get(2).getJobName(), -1);
+        storage.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook,
+            JobMutation.jobShifted(jobs.get(2).getJobName(), -1)));
+        addressBook.removeJob(jobs.get(0).getJobName());
+        storage.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook,
+            JobMutation.jobRemoved(jobs.get(0).getJobName())));
+        storage.flushPendingSaves();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+        assertEquals(1, addressBookStorage.failedMutationCount);
+
+        addressBook.shiftJob(jobs.get(1).getJobName(), 1);
+        storage.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook,
+            JobMutation.jobShifted(jobs.get(1).getJobName(), 1)));
+        storage.flushPendingSaves();
+
+        ReadOnlyAddressBook read = new XmlAddressBookStorage(myTestUserPrefs)
+            .readAddressBook(testMakerMangerMachinesFilePath).get();
+        assertEquals(addressBook.getMachineList(), read.getMachineList());
+        assertEquals(addressBook.getMachineList().get(0).getJobs(), read.getMachineList().get(0).getJobs());
+    }
+
+    @Test
+    public void handleMachineListChangedEvent_machineShards_onlyChangedMachineSaved() throws Exception {
+        myTestUserPrefs.setMachineShardsEnabled(true);
+        ChangedMachinesRecordingStorage addressBookStorage = new ChangedMachinesRecordingStorage(myTestUserPrefs);
+        StorageManager storage = new StorageManager(addressBookStorage,
+            new JsonUserPrefsStorage(getTempFilePath("prefs")), 0);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        addressBook.addMachine(new MachineBuilder().withName("TYPrinter").build());
+
+        // first change writes every shard
+        storage.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook));
+        storage.flushPendingSaves();
+        assertTrue(addressBookStorage.canSaveChangedMachines());
+
+        Job job = new JobBuilder().withName("IDCP").withMachine(new MachineName("TYPrinter"))
+            .withStatus(Status.QUEUED).build();
+        addressBook.addJobToMachineList(job);
+        storage.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook, JobMutation.jobAdded(job)));
+        storage.flushPendingSaves();
+
+        assertEquals(2, addressBookStorage.machineNames.size());
+        assertEquals(1, addressBookStorage.changedMachines.size());
+        assertEquals(new MachineName("TYPrinter"), addressBookStorage.changedMachines.get(0).getName());
+    }
+
+    @Test
+    public void handleAdminListChangedEvent_burstOfChanges_savedOnce() {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(myTestUserPrefs);
+        StorageManager storage = new StorageManager(addressBookStorage,
+            new JsonUserPrefsStorage(getTempFilePath("prefs")), StorageManager.DEFAULT_SAVE_DELAY_MILLIS);
+
+        for (int i = 0; i < 5; i++) {
+            storage.handleAdminListChangedEvent(new AdminListChangedEvent(new AddressBook()));
+        }
+        storage.flushPendingSaves();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void handleAdminListChangedEvent_exceptionThrown_eventRaised() {
+        StorageManager storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(myTestUserPrefs),
+            new JsonUserPrefsStorage(getTempFilePath("prefs")), 0);
+        storage.handleAdminListChangedEvent(new AdminListChangedEvent(new AddressBook()));
+        storage.flushPendingSaves();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    /**
+     * A stub that counts the files it is asked to save, without writing them
+     */
+    class SaveCountingAddressBookStorage extends XmlAddressBookStorage {
+        private int saveCount = 0;
+
+        SaveCountingAddressBookStorage(UserPrefs userPrefs) {
+            super(userPrefs);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            saveCount++;
+        }
+    }
+
+    /**
+     * A storage that records the machines it was last asked to save one at a time
+     */
+    class ChangedMachinesRecordingStorage extends XmlAddressBookStorage {
+        private List<MachineName> machineNames = new ArrayList<>();
+        private List<Machine> changedMachines = new ArrayList<>();
+
+        ChangedMachinesRecordingStorage(UserPrefs userPrefs) {
+            super(userPrefs);
+        }
 
+        @Override
+        public void saveChangedMachines(List<MachineName> machineNames, Collection<Machine> changedMachines)
+                throws IOException {
+            this.machineNames = new ArrayList<>(machineNames);
+            this.changedMachines = new ArrayList<>(changedMachines);
+            super.saveChangedMachines(machineNames, changedMachines);
+        }
+    }
+
+    /**
+     * A storage that fails to journal the next job change when asked to
+     */
+    class MutationFailingStorage extends XmlAddressBookStorage {
+        private boolean isNextMutationFailing = false;
+        private int failedMutationCount = 0;
+
+        MutationFailingStorage(UserPrefs userPrefs) {
+            super(userPrefs);
+        }
+
+        @Override
+        public void saveMachineMutation(JobMutation mutation) throws IOException {
+            if (isNextMutationFailing) {
+                isNextMutationFailing = false;
+                failedMutationCount++;
+                throw new IOException("dummy exception");
+            }
+            super.saveMachineMutation(mutation);
+        }
+    }
+
+    /**
+     * A stub that throws an exception when it is asked to save a file
+     */
+    class XmlAddressBookStorageExceptionThrowingStub extends XmlAddressBookStorage {
+
+        XmlAddressBookStorageExceptionThrowingStub(UserPrefs userPrefs) {
+            super(userPrefs);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package seedu.address.storage.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.testdata.TypicalPersons.AMY;
+import static seedu.address.testutil.testdata.TypicalPersons.BOB;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.MachineBuilder;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private UserPrefs userPrefs;
+
+    @Before
+    public void setUp() {
+        userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.getRoot().toPath().resolve("addressbook.xml"));
+        userPrefs.setMakerManagerMachinesFilePath(testFolder.getRoot().toPath().resolve("makerManagerMachines.xml"));
+        userPrefs.setMakerManagerAdminsFilePath(testFolder.getRoot().toPath().resolve("makerManagerAdmins.xml"));
+    }
+
+    @Test
+    public void binaryPathFor_xmlFile_extensionReplaced() {
+        assertEquals(testFolder.getRoot().toPath().resolve("makerManagerMachines.bin"),
+            BinaryAddressBookStorage.binaryPathFor(userPrefs.getMakerManagerMachinesFilePath()));
+    }
+
+    @Test
+    public void saveAndRead_allData_success() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(AMY);
+        original.addAdminWithoutRehash(new Admin(new Username("admin"), new Password("hashed")));
+        original.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        Job first = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withOwner(BOB).withStatus(Status.QUEUED).build();
+        Job second = new JobBuilder().withName("Gears").withMachine(new MachineName("JJPrinter"))
+            .withOwner(BOB).withStatus(Status.FINISHED).build();
+        original.addJobToMachineList(first);
+        original.addJobToMachineList(second);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(userPrefs);
+        storage.saveAddressBook(original, userPrefs);
+        AddressBook readBack = storage.readOwnedAddressBook(userPrefs).get();
+
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getAdminList(), readBack.getAdminList());
+        Machine machine = readBack.findMachine(new MachineName("JJPrinter"));
+        assertEquals(2, machine.getJobs().size());
+        Job readFirst = readBack.findJob(first.getJobName()).job;
+        Job readSecond = readBack.findJob(second.getJobName()).job;
+        assertEquals(first.getStatus(), readFirst.getStatus());
+        assertEquals(first.getAddedTime(), readFirst.getAddedTime());
+        assertEquals(first.getJobNote().toString(), readFirst.getJobNote().toString());
+        assertEquals(BOB, readFirst.getOwner());
+        // owners are stored once and shared by the jobs read back
+        assertSame(readFirst.getOwner(), readSecond.getOwner());
+    }
+
+    @Test
+    public void saveAndRead_mappedFile_fileReplacedAfterRead() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(userPrefs);
+        storage.saveAddressBook(original, userPrefs);
+
+        // an unknown section large enough for the file to be mapped instead of read onto the heap
+        int padding = 1 << 20;
+        ByteBuffer section = ByteBuffer.allocate(2 * Integer.BYTES + padding);
+        section.putInt(Integer.MAX_VALUE).putInt(padding);
+        Path machinesFile = BinaryAddressBookStorage.binaryPathFor(userPrefs.getMakerManagerMachinesFilePath());
+        Files.write(machinesFile, section.array(), StandardOpenOption.APPEND);
+
+        AddressBook readBack = storage.readOwnedAddressBook(userPrefs).get();
+        assertEquals(original.getMachineList(), readBack.getMachineList());
+
+        // the sections were decoded when the file was opened and the mapping was not kept, so it can be replaced
+        readBack.addMachine(new MachineBuilder().withName("TypicalPrinter").build());
+        storage.saveAddressBook(readBack, userPrefs);
+        assertEquals(readBack.getMachineList(), storage.readOwnedAddressBook(userPrefs).get().getMachineList());
+    }
+
+    @Test
+    public void read_noSnapshotFiles_importsXmlFiles() throws Exception {
+        Files.createFile(userPrefs.getAddressBookFilePath());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(userPrefs);
+        AddressBook data = storage.readOwnedAddressBook(userPrefs).get();
+
+        assertFalse(data.getAdminList().isEmpty());
+        assertTrue(Files.exists(BinaryAddressBookStorage.binaryPathFor(userPrefs.getMakerManagerAdminsFilePath())));
+    }
+
+    @Test
+    public void readAddressBook_notSnapshotFile_throwsDataConversionException() throws Exception {
+        Path machinesFile = BinaryAddressBookStorage.binaryPathFor(userPrefs.getMakerManagerMachinesFilePath());
+        Files.write(machinesFile, new byte[] {1, 2, 3});
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(userPrefs).readAddressBook(userPrefs.getMakerManagerMachinesFilePath());
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.storage.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.testdata.TypicalPersons.AMY;
+import static seedu.address.testutil.testdata.TypicalPersons.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.MachineBuilder;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class JsonAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private UserPrefs userPrefs;
+
+    @Before
+    public void setUp() {
+        Path folder = testFolder.getRoot().toPath();
+        userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("addressbook.json"));
+        userPrefs.setMakerManagerMachinesFilePath(folder.resolve("makerManagerMachines.json.gz"));
+        userPrefs.setMakerManagerAdminsFilePath(folder.resolve("makerManagerAdmins.xml"));
+    }
+
+    @Test
+    public void isJsonFile() {
+        assertTrue(JsonAddressBookStorage.isJsonFile(userPrefs.getAddressBookFilePath()));
+        assertTrue(JsonAddressBookStorage.isJsonFile(userPrefs.getMakerManagerMachinesFilePath()));
+        assertFalse(JsonAddressBookStorage.isJsonFile(userPrefs.getMakerManagerAdminsFilePath()));
+        assertTrue(JsonAddressBookStorage.isUsedBy(userPrefs));
+        assertFalse(JsonAddressBookStorage.isUsedBy(new UserPrefs()));
+    }
+
+    @Test
+    public void saveAndRead_jsonFiles_success() throws Exception {
+        userPrefs.setMakerManagerAdminsFilePath(testFolder.getRoot().toPath().resolve("makerManagerAdmins.json"));
+        AddressBook original = new AddressBook();
+        original.addPerson(AMY);
+        original.addAdminWithoutRehash(new Admin(new Username("admin"), new Password("hashed")));
+        original.addMachine(new MachineBuilder().withName("JJPrinter").build());
+        Job first = new JobBuilder().withName("IDCP").withMachine(new MachineName("JJPrinter"))
+            .withOwner(BOB).withStatus(Status.QUEUED).build();
+        Job second = new JobBuilder().withName("Gears").withMachine(new MachineName("JJPrinter"))
+            .withOwner(BOB).withStatus(Status.FINISHED).build();
+        original.addJobToMachineList(first);
+        original.addJobToMachineList(second);
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(userPrefs);
+        storage.saveAddressBook(original, userPrefs);
+        AddressBook readBack = storage.readOwnedAddressBook(userPrefs).get();
+
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getAdminList(), readBack.getAdminList());
+        assertEquals(2, readBack.findMachine(new MachineName("JJPrinter")).getJobs().size());
+        Job readFirst = readBack.findJob(first.getJobName()).job;
+        Job readSecond = readBack.findJob(second.getJobName()).job;
+        assertEquals(first.getStatus(), readFirst.getStatus());
+        assertEquals(first.getAddedTime(), readFirst.getAddedTime());
+        assertEquals(first.getJobNote().toString(), readFirst.getJobNote().toString());
+        assertEquals(BOB, readFirst.getOwner());
+        // jobs with the same owner share one person when read back
+        assertSame(readFirst.getOwner(), readSecond.getOwner());
+    }
+
+    @Test
+    public void read_xmlAdminsFile_defaultAdminSavedAsXml() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(userPrefs);
+        AddressBook data = storage.readOwnedAddressBook(userPrefs).get();
+
+        assertFalse(data.getAdminList().isEmpty());
+        assertTrue(Files.exists(userPrefs.getMakerManagerAdminsFilePath()));
+    }
+
+    @Test
+    public void canSaveMachineMutation_jsonMachinesFile_returnsFalse() {
+        assertFalse(new JsonAddressBookStorage(userPrefs).canSaveMachineMutation(0));
+        assertFalse(new JsonAddressBookStorage(userPrefs).canSaveChangedMachines());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path machinesFile = testFolder.getRoot().toPath().resolve("makerManagerMachines.json");
+        userPrefs.setMakerManagerMachinesFilePath(machinesFile);
+        Files.write(machinesFile, "{ \"machines\": [ { \"name\": \"JJPrinter\"".getBytes());
+
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(userPrefs).readAddressBook(machinesFile);
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class JsonJobArchiveTest {
+
+    private static final YearMonth SEPTEMBER = YearMonth.of(2018, 9);
+    private static final YearMonth OCTOBER = YearMonth.of(2018, 10);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private JsonJobArchive archive;
+
+    @Before
+    public void setUp() {
+        archive = new JsonJobArchive(testFolder.getRoot().toPath().resolve("jobArchive"), ZoneOffset.UTC);
+    }
+
+    @Test
+    public void append_jobsOfTwoMonths_oneSegmentPerMonth() throws Exception {
+        archive.append(Arrays.asList(jobIn("gears", SEPTEMBER), jobIn("chassis", OCTOBER), jobIn("cup", OCTOBER)));
+
+        assertTrue(Files.exists(archive.getSegmentFile(SEPTEMBER)));
+        assertEquals(2, Files.readAllLines(archive.getSegmentFile(OCTOBER)).size());
+        assertEquals(3, archive.size());
+    }
+
+    @Test
+    public void findJobs_monthRange_onlyJobsOfThoseMonths() throws Exception {
+        Job gears = jobIn("gears", SEPTEMBER);
+        Job chassis = jobIn("chassis", OCTOBER);
+        archive.append(Arrays.asList(gears, chassis));
+
+        assertEquals(Arrays.asList("gears", "chassis"), namesOf(archive.findJobs(job -> true, null, null)));
+        assertEquals(Collections.singletonList("chassis"), namesOf(archive.findJobs(job -> true, OCTOBER, null)));
+        assertEquals(Collections.singletonList("gears"), namesOf(archive.findJobs(job -> true, null, SEPTEMBER)));
+        assertTrue(archive.findJobs(job -> true, YearMonth.of(2018, 11), null).isEmpty());
+    }
+
+    @Test
+    public void findJobs_segmentOutsideRange_segmentNotRead() throws Exception {
+        archive.append(Arrays.asList(jobIn("gears", SEPTEMBER), jobIn("chassis", OCTOBER)));
+        Files.write(archive.getSegmentFile(SEPTEMBER), "not a job\n".getBytes(), StandardOpenOption.APPEND);
+
+        assertEquals(Collections.singletonList("chassis"), namesOf(archive.findJobs(job -> true, OCTOBER, OCTOBER)));
+    }
+
+    @Test
+    public void findJobs_jobReadBack_sameFields() throws Exception {
+        Job gears = jobIn("gears", SEPTEMBER);
+        archive.append(Collections.singletonList(gears));
+
+        Job readBack = archive.findJobs(job -> true, null, null).get(0);
+        assertEquals(gears.getJobName(), readBack.getJobName());
+        assertEquals(gears.getMachineName(), readBack.getMachineName());
+        assertEquals(gears.getOwner(), readBack.getOwner());
+        assertEquals(gears.getStatus(), readBack.getStatus());
+        assertEquals(gears.getAddedTime(), readBack.getAddedTime());
+        assertEquals(gears.getLastActiveTime(), readBack.getLastActiveTime());
+    }
+
+    @Test
+    public void findJobs_jobArchivedTwice_returnedOnce() throws Exception {
+        Job gears = jobIn("gears", SEPTEMBER);
+        archive.append(Collections.singletonList(gears));
+        archive.append(Collections.singletonList(gears));
+
+        assertEquals(2, archive.size());
+        assertEquals(1, archive.findJobs(job -> true, null, null).size());
+    }
+
+    @Test
+    public void findJobs_lineCutShort_lineSkipped() throws Exception {
+        archive.append(Collections.singletonList(jobIn("gears", SEPTEMBER)));
+        Files.write(archive.getSegmentFile(SEPTEMBER), "{ \"name\": \"chas".getBytes(), StandardOpenOption.APPEND);
+
+        assertEquals(Collections.singletonList("gears"), namesOf(archive.findJobs(job -> true, null, null)));
+
+        // jobs archived afterwards are not lost with the line cut short
+        archive.append(Collections.singletonList(jobIn("cup", SEPTEMBER)));
+        assertEquals(Arrays.asList("gears", "cup"), namesOf(archive.findJobs(job -> true, null, null)));
+    }
+
+    @Test
+    public void size_indexMissing_indexRebuilt() throws Exception {
+        archive.append(Arrays.asList(jobIn("gears", SEPTEMBER), jobIn("chassis", OCTOBER)));
+        Files.delete(archive.getArchiveDirectory().resolve(JsonJobArchive.INDEX_FILE_NAME));
+
+        JsonJobArchive reopened = new JsonJobArchive(archive.getArchiveDirectory(), ZoneOffset.UTC);
+        assertEquals(2, reopened.size());
+        assertTrue(Files.exists(archive.getArchiveDirectory().resolve(JsonJobArchive.INDEX_FILE_NAME)));
+    }
+
+    @Test
+    public void size_segmentWrittenAfterIndex_indexRebuilt() throws Exception {
+        archive.append(Arrays.asList(jobIn("gears", SEPTEMBER), jobIn("chassis", OCTOBER)));
+        // the application stopped after appending to a segment, before writing the index
+        archive.append(Collections.singletonList(jobIn("cup", SEPTEMBER)));
+        Path indexFile = archive.getArchiveDirectory().resolve(JsonJobArchive.INDEX_FILE_NAME);
+        Files.write(indexFile, ("2018-09 1\n2018-10 1\n").getBytes());
+        FileTime indexTime = Files.getLastModifiedTime(indexFile);
+        Files.setLastModifiedTime(archive.getSegmentFile(SEPTEMBER), FileTime.fromMillis(indexTime.toMillis() + 1000));
+
+        JsonJobArchive reopened = new JsonJobArchive(archive.getArchiveDirectory(), ZoneOffset.UTC);
+        assertEquals(3, reopened.size());
+    }
+
+    @Test
+    public void findJobs_emptyArchive_noJobs() throws Exception {
+        assertTrue(archive.findJobs(job -> true, null, null).isEmpty());
+        assertFalse(Files.exists(archive.getArchiveDirectory()));
+    }
+
+    /**
+     * Returns a finished job that was last worked on in {@code month}
+     */
+    private static Job jobIn(String name, YearMonth month) {
+        long startTime = month.atDay(10).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return new JobBuilder().withName(name).withStatus(Status.FINISHED).withDuration(1000)
+            .withAddedTime(new TimeStamp(startTime - 1000)).withStartTime(new TimeStamp(startTime)).build();
+    }
+
+    private static List<String> namesOf(List<Job> jobs) {
+        return Arrays.asList(jobs.stream().map(job -> job.getJobName().fullName).toArray(String[]::new));
+    }
+}
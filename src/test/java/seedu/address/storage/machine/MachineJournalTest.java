@@ -0,0 +1,168 @@
+package seedu.address.storage.machine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.JobMutation;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.MachineBuilder;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class MachineJournalTest {
+
+    private static final String CHECKPOINT = "checkpoint-1";
+    private static final MachineName FIRST_MACHINE = new MachineName("JJPrinter");
+    private static final MachineName SECOND_MACHINE = new MachineName("TypicalPrinter");
+    private static final List<Job> FIRST_MACHINE_JOBS = Arrays.asList(
+        new JobBuilder().withName("First").withMachine(FIRST_MACHINE).withStatus(Status.QUEUED).build(),
+        new JobBuilder().withName("Second").withMachine(FIRST_MACHINE).withStatus(Status.QUEUED).build(),
+        new JobBuilder().withName("Third").withMachine(FIRST_MACHINE).withStatus(Status.QUEUED).build());
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Path journalFile;
+    private MachineJournal journal;
+
+    @Before
+    public void setUp() {
+        journalFile = testFolder.getRoot().toPath().resolve("makerManagerMachines.journal");
+        journal = new MachineJournal(journalFile);
+    }
+
+    @Test
+    public void read_differentCheckpoint_nothingReplayedAndNotStarted() throws Exception {
+        journal.reset(CHECKPOINT);
+        journal.append(JobMutation.jobRemoved(new JobName("IDCP")));
+
+        MachineJournal readJournal = new MachineJournal(journalFile);
+        assertTrue(readJournal.read("checkpoint-2").isEmpty());
+        assertFalse(readJournal.isStarted());
+    }
+
+    @Test
+    public void read_tornLastEntry_entriesBeforeItReplayedAndNotStarted() throws Exception {
+        List<JobMutation> mutations = Arrays.asList(JobMutation.jobShifted(new JobName("IDCP"), 1),
+            JobMutation.jobRemoved(new JobName("IDCP")));
+        journal.reset(CHECKPOINT);
+        for (JobMutation mutation : mutations) {
+            journal.append(mutation);
+        }
+        // a crash while the next entry was being appended
+        Files.write(journalFile, "<jobMutation kind=\"REM".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        MachineJournal readJournal = new MachineJournal(journalFile);
+        assertEquals(mutations, readJournal.read(CHECKPOINT));
+        // the torn entry must not be followed by new ones, so the machines have to be written in full first
+        assertFalse(readJournal.isStarted());
+    }
+
+    @Test
+    public void append_writeFails_notStartedUntilReset() throws Exception {
+        journal.reset(CHECKPOINT);
+        Files.delete(journalFile);
+        // appending to a directory fails
+        Files.createDirectory(journalFile);
+
+        try {
+            journal.append(JobMutation.jobRemoved(new JobName("IDCP")));
+            fail("Appending to a directory should fail");
+        } catch (IOException e) {
+            assertFalse(journal.isStarted());
+            assertFalse(journal.hasRoomFor(0));
+        }
+
+        Files.delete(journalFile);
+        journal.reset("checkpoint-2");
+        assertTrue(journal.isStarted());
+    }
+
+    @Test
+    public void hasRoomFor_checkpointIntervalReached_falseUntilReset() throws Exception {
+        assertFalse(journal.hasRoomFor(0));
+
+        journal.reset(CHECKPOINT);
+        JobMutation mutation = JobMutation.jobShifted(new JobName("IDCP"), 1);
+        for (int i = 0; i < MachineJournal.CHECKPOINT_INTERVAL - 1; i++) {
+            journal.append(mutation);
+        }
+        assertTrue(journal.hasRoomFor(0));
+        // changes still waiting to be appended take up room as well
+        assertFalse(journal.hasRoomFor(1));
+
+        journal.append(mutation);
+        assertFalse(journal.hasRoomFor(0));
+
+        journal.reset("checkpoint-2");
+        assertTrue(journal.hasRoomFor(0));
+        assertEquals(0, journal.size());
+        assertTrue(new MachineJournal(journalFile).read("checkpoint-2").isEmpty());
+    }
+
+    @Test
+    public void read_moveSwapShiftRemove_replayedInOrderWithoutEvents() throws Exception {
+        List<JobMutation> mutations = Arrays.asList(
+            JobMutation.jobMoved(new JobName("First"), SECOND_MACHINE),
+            JobMutation.jobsSwapped(new JobName("Second"), new JobName("Third")),
+            JobMutation.jobShifted(new JobName("Third"), 1),
+            JobMutation.jobRemoved(new JobName("Second")));
+        AddressBook expected = getTypicalMachines();
+        expected.moveJob(new JobName("First"), SECOND_MACHINE);
+        expected.swapJobs(new JobName("Second"), new JobName("Third"));
+        expected.shiftJob(new JobName("Third"), 1);
+        expected.removeJob(new JobName("Second"));
+
+        journal.reset(CHECKPOINT);
+        for (JobMutation mutation : mutations) {
+            journal.append(mutation);
+        }
+        AddressBook replayed = getTypicalMachines();
+        eventsCollectorRule.eventsCollector.reset();
+        List<JobMutation> readMutations = new MachineJournal(journalFile).read(CHECKPOINT);
+        for (JobMutation mutation : readMutations) {
+            mutation.applyTo(replayed);
+        }
+
+        assertEquals(mutations, readMutations);
+        assertEquals(expected.getMachineList(), replayed.getMachineList());
+        // nothing is showing the data being read yet
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    /**
+     * Returns an address book with two machines, the first of which has three queued jobs
+     */
+    private static AddressBook getTypicalMachines() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withName(FIRST_MACHINE.toString()).build());
+        addressBook.addMachine(new MachineBuilder().withName(SECOND_MACHINE.toString()).build());
+        for (Job job : FIRST_MACHINE_JOBS) {
+            addressBook.addJobToMachineList(new Job(job));
+        }
+        return addressBook;
+    }
+}
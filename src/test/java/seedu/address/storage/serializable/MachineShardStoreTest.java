@@ -0,0 +1,110 @@
+package seedu.address.storage.serializable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.storage.machine.MachineShardStore;
+import seedu.address.testutil.MachineBuilder;
+import seedu.address.testutil.testdata.ValidMachines;
+
+public class MachineShardStoreTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private MachineShardStore shardStore;
+
+    @Before
+    public void setUp() {
+        shardStore = new MachineShardStore(testFolder.getRoot().toPath().resolve("makerManagerMachines"));
+    }
+
+    @Test
+    public void shardDirectoryFor_machinesFile_siblingNamedAfterFile() {
+        assertEquals(Paths.get("data", "makerManagerMachines"),
+            MachineShardStore.shardDirectoryFor(Paths.get("data", "makerManagerMachines.xml")));
+    }
+
+    @Test
+    public void shardFileNameFor_namesDifferingInCase_differentFiles() {
+        assertFalse(MachineShardStore.shardFileNameFor(new MachineName("JJPrinter"))
+            .equals(MachineShardStore.shardFileNameFor(new MachineName("jjprinter"))));
+    }
+
+    @Test
+    public void read_missingManifest_throwsFileNotFoundException() throws Exception {
+        assertFalse(shardStore.exists());
+        thrown.expect(FileNotFoundException.class);
+        shardStore.read();
+    }
+
+    @Test
+    public void writeAllThenRead_validMachines_sameMachinesInOrder() throws Exception {
+        List<Machine> machines = ValidMachines.getValidMachines();
+        shardStore.writeAll(machines);
+
+        assertTrue(shardStore.exists());
+        assertEquals(machines, shardStore.read());
+    }
+
+    @Test
+    public void write_changedMachineOnly_otherShardsKept() throws Exception {
+        Machine first = new MachineBuilder().withName("FirstPrinter").build();
+        Machine second = new MachineBuilder().withName("SecondPrinter").build();
+        shardStore.writeAll(Arrays.asList(first, second));
+        Path firstShard = shardStore.getShardDirectory().resolve(MachineShardStore.shardFileNameFor(first.getName()));
+        Files.delete(firstShard);
+
+        Machine editedSecond = new MachineBuilder(second).withTags("edited").build();
+        shardStore.write(Arrays.asList(first.getName(), second.getName()), Collections.singletonList(editedSecond));
+
+        // the shard of the unchanged machine is not written again
+        assertFalse(Files.exists(firstShard));
+    }
+
+    @Test
+    public void write_machineNoLongerListed_shardDeleted() throws Exception {
+        Machine first = new MachineBuilder().withName("FirstPrinter").build();
+        Machine second = new MachineBuilder().withName("SecondPrinter").build();
+        shardStore.writeAll(Arrays.asList(first, second));
+
+        shardStore.write(Collections.singletonList(second.getName()), Collections.emptyList());
+
+        assertFalse(Files.exists(
+            shardStore.getShardDirectory().resolve(MachineShardStore.shardFileNameFor(first.getName()))));
+        assertEquals(Collections.singletonList(second), shardStore.read());
+    }
+
+    @Test
+    public void write_shardsAndManifest_replacedWithoutTempFilesLeft() throws Exception {
+        Machine first = new MachineBuilder().withName("FirstPrinter").build();
+        shardStore.writeAll(Collections.singletonList(first));
+        Machine editedFirst = new MachineBuilder(first).withTags("edited").build();
+        shardStore.writeAll(Collections.singletonList(editedFirst));
+
+        try (Stream<Path> files = Files.list(shardStore.getShardDirectory())) {
+            assertEquals(2, files.count());
+        }
+        assertEquals(Collections.singletonList(editedFirst), shardStore.read());
+    }
+}
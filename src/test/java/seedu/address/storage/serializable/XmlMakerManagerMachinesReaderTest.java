@@ -0,0 +1,56 @@
+package seedu.address.storage.serializable;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.machine.Machine;
+import seedu.address.storage.machine.XmlMakerManagerMachinesReader;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+import seedu.address.testutil.testdata.ValidMachines;
+
+public class XmlMakerManagerMachinesReaderTest {
+
+    private static final Path TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "XmlSerializableMakerManagerMachinesTest");
+    private static final Path VALID_MACHINES_FILE = TEST_DATA_FOLDER.resolve("validMachinesFile.xml");
+    private static final Path INVALID_MACHINES_FILE = TEST_DATA_FOLDER.resolve("invalidMachinesFile.xml");
+    private static final Path DUPLICATE_MACHINES_FILE = TEST_DATA_FOLDER.resolve("duplicateMachinesFile.xml");
+    private static final Path MISSING_FILE = TEST_DATA_FOLDER.resolve("missing.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_validMachinesFile_sameAsFullUnmarshal() throws Exception {
+        List<Machine> machinesFromFile = new XmlMakerManagerMachinesReader().read(VALID_MACHINES_FILE);
+        assertEquals(ValidMachines.getMachinesData().getMachineList(), machinesFromFile);
+    }
+
+    @Test
+    public void read_invalidMachinesFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        new XmlMakerManagerMachinesReader().read(INVALID_MACHINES_FILE);
+    }
+
+    @Test
+    public void read_duplicateMachines_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableMakerManagerMachines.MESSAGE_DUPLICATE_MACHINE);
+        new XmlMakerManagerMachinesReader().read(DUPLICATE_MACHINES_FILE);
+    }
+
+    @Test
+    public void read_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        new XmlMakerManagerMachinesReader().read(MISSING_FILE);
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.testutil;
 
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Username;
@@ -33,6 +38,16 @@ public class DefaultFailingModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> change) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -102,10 +117,6 @@ public class DefaultFailingModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
-    public void moveJobToMachine(Job job, Machine targetMachine)  {
-        throw new AssertionError("This method should not be called.");
-    }
-
     @Override
     public void autoMoveJobsDuringFlush(Machine currentMachine)  {
         throw new AssertionError("This method should not be called.");
@@ -171,6 +182,11 @@ public class DefaultFailingModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Job> findArchivedJobs(Predicate<Job> predicate, YearMonth from, YearMonth to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addAdmin(Admin admin) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,244 @@
+package seedu.address.testutil;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code ScheduledExecutorService} whose time only moves when a test moves it.
+ *
+ * Tasks are not run on a thread of their own, but on the thread that calls {@link #advanceBy}, once the
+ * time of its {@link #getClock() clock} has reached them. Tasks that are due at the same time run in the
+ * order they were scheduled.
+ */
+public class ManualScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final Clock clock = new ManualClock(ZoneOffset.UTC);
+    // guarded by this
+    private final PriorityQueue<ManualTask<?>> tasks = new PriorityQueue<>();
+    private long nowMillis;
+    private long scheduledCount;
+    private boolean isShutdown;
+
+    /**
+     * Creates an executor whose clock starts at {@code startMillis} milliseconds since the epoch
+     */
+    public ManualScheduledExecutor(long startMillis) {
+        nowMillis = startMillis;
+    }
+
+    /**
+     * Returns the clock that the tasks of this executor are timed by
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Moves the clock on by {@code millis} milliseconds, and runs every task that is due by then
+     */
+    public void advanceBy(long millis) {
+        long targetMillis;
+        synchronized (this) {
+            targetMillis = nowMillis + millis;
+        }
+        ManualTask<?> task;
+        while ((task = pollDueBy(targetMillis)) != null) {
+            // tasks are run without holding the lock, as they may schedule or cancel other tasks
+            task.runOnce();
+        }
+        synchronized (this) {
+            nowMillis = targetMillis;
+        }
+    }
+
+    /**
+     * Returns the number of tasks that are waiting to run and have not been cancelled
+     */
+    public synchronized int getPendingCount() {
+        return (int) tasks.stream().filter(task -> !task.isDone()).count();
+    }
+
+    /**
+     * Takes the earliest task due by {@code targetMillis} off the queue, moving the clock on to its time,
+     * or returns null if there is none
+     */
+    private synchronized ManualTask<?> pollDueBy(long targetMillis) {
+        while (!tasks.isEmpty() && tasks.peek().isDone()) {
+            tasks.poll();
+        }
+        if (tasks.isEmpty() || tasks.peek().dueMillis > targetMillis) {
+            return null;
+        }
+        ManualTask<?> task = tasks.poll();
+        nowMillis = Math.max(nowMillis, task.dueMillis);
+        return task;
+    }
+
+    private synchronized <V> ManualTask<V> enqueue(Callable<V> callable, long delay, long period, TimeUnit unit) {
+        requireNonNull(callable);
+        requireNonNull(unit);
+        if (isShutdown) {
+            throw new IllegalStateException("Executor has been shut down");
+        }
+        ManualTask<V> task = new ManualTask<>(callable, nowMillis + Math.max(0, unit.toMillis(delay)),
+            unit.toMillis(period), scheduledCount++);
+        tasks.add(task);
+        return task;
+    }
+
+    private synchronized void requeue(ManualTask<?> task) {
+        if (!isShutdown) {
+            task.dueMillis += task.periodMillis;
+            task.sequence = scheduledCount++;
+            tasks.add(task);
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return enqueue(Executors.callable(command), delay, 0, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return enqueue(callable, delay, 0, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        return enqueue(Executors.callable(command), initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                                                     TimeUnit unit) {
+        // running a task takes no time on the clock, so a fixed delay is the same as a fixed rate
+        return scheduleAtFixedRate(command, initialDelay, delay, unit);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        isShutdown = true;
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        isShutdown = true;
+        List<Runnable> notRun = new ArrayList<>(tasks);
+        tasks.clear();
+        return notRun;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return isShutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return isShutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return isTerminated();
+    }
+
+    /**
+     * A task waiting for the clock to reach its due time
+     */
+    private class ManualTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        private final long periodMillis;
+        // guarded by the executor
+        private long dueMillis;
+        private long sequence;
+
+        ManualTask(Callable<V> callable, long dueMillis, long periodMillis, long sequence) {
+            super(callable);
+            this.dueMillis = dueMillis;
+            this.periodMillis = periodMillis;
+            this.sequence = sequence;
+        }
+
+        void runOnce() {
+            if (periodMillis == 0) {
+                run();
+            } else if (runAndReset()) {
+                requeue(this);
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            synchronized (ManualScheduledExecutor.this) {
+                return unit.convert(dueMillis - nowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof ManualTask) {
+                ManualTask<?> otherTask = (ManualTask<?>) other;
+                int byDueTime = Long.compare(dueMillis, otherTask.dueMillis);
+                return byDueTime != 0 ? byDueTime : Long.compare(sequence, otherTask.sequence);
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * A clock reading the time of the executor
+     */
+    private class ManualClock extends Clock {
+        private final ZoneId zone;
+
+        ManualClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new ManualClock(requireNonNull(zone));
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public long millis() {
+            synchronized (ManualScheduledExecutor.this) {
+                return nowMillis;
+            }
+        }
+    }
+}
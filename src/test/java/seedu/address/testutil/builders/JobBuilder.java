@@ -32,7 +32,7 @@ public class JobBuilder {
     private MachineName machine;
     private TimeStamp startTime;
     private Person owner;
-    private final TimeStamp addedTime;
+    private TimeStamp addedTime;
 
     //Data field
     private Set<Tag> tags;
@@ -109,6 +109,22 @@ public class JobBuilder {
         return this;
     }
 
+    /**
+     * Sets the time the job was added at to be the input time parameter
+     */
+    public JobBuilder withAddedTime(TimeStamp addedTime) {
+        this.addedTime = addedTime;
+        return this;
+    }
+
+    /**
+     * Sets the time the job was started at to be the input time parameter
+     */
+    public JobBuilder withStartTime(TimeStamp startTime) {
+        this.startTime = startTime;
+        return this;
+    }
+
     /**
      * Sets the status to be the input status parameter
      */
@@ -19,6 +19,8 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AdminListChangedEvent;
+import seedu.address.commons.events.model.MachineListChangedEvent;
 import seedu.address.model.AddressBook;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -64,6 +66,20 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_machineListChanged_syncStatusUpdated() {
+        postNow(new MachineListChangedEvent(new AddressBook()));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
+    }
+
+    @Test
+    public void display_adminListChanged_syncStatusUpdated() {
+        postNow(new AdminListChangedEvent(new AddressBook()));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
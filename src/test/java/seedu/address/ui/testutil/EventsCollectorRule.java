@@ -65,6 +65,13 @@ public class EventsCollectorRule implements TestRule {
             return events.size();
         }
 
+        /**
+         * Returns the event collected at {@code index}, in the order the events were raised
+         */
+        public BaseEvent get(int index) {
+            return events.get(index);
+        }
+
         /**
          * Returns the most recent event collected
          */